@@ -0,0 +1,134 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.benchmark;
+
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.runWithoutStackTraces;
+import static org.assertj.core8.error.ShouldBeAfter.shouldBeAfter;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core8.internal.Failures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of failing assertions in a batch validation where failures are counted but their message is never read, compared
+ * to the same failures created with eagerly formatted messages by {@link org.assertj.core.internal.Failures}, and to
+ * the same failures created without stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private ZonedDateTime[] actuals;
+  private ZonedDateTime other;
+  private WritableAssertionInfo info;
+
+  @Setup
+  public void setup() {
+    other = ZonedDateTime.of(2014, 6, 15, 10, 30, 45, 0, ZoneOffset.UTC);
+    actuals = new ZonedDateTime[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      actuals[i] = other.minusSeconds(i);
+    }
+    info = new WritableAssertionInfo();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int eagerMessages() {
+    int failures = 0;
+    for (ZonedDateTime actual : actuals) {
+      if (org.assertj.core.internal.Failures.instance().failure(info, shouldBeAfter(actual, other)) != null) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int lazyMessages() {
+    int failures = 0;
+    for (ZonedDateTime actual : actuals) {
+      if (Failures.instance().failure(info, shouldBeAfter(actual, other)) != null) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int lazyMessagesWithoutStackTraces() {
+    int[] failures = new int[1];
+    Failures.instance().runWithoutStackTraces(() -> {
+      for (ZonedDateTime actual : actuals) {
+        if (Failures.instance().failure(info, shouldBeAfter(actual, other)) != null) {
+          failures[0]++;
+        }
+      }
+    });
+    return failures[0];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int failingIsAfter() {
+    int failures = 0;
+    for (ZonedDateTime actual : actuals) {
+      try {
+        assertThat(actual).isAfter(other);
+      } catch (AssertionError e) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int failingIsAfterWithoutStackTraces() {
+    int[] failures = new int[1];
+    runWithoutStackTraces(() -> {
+      for (ZonedDateTime actual : actuals) {
+        try {
+          assertThat(actual).isAfter(other);
+        } catch (AssertionError e) {
+          failures[0]++;
+        }
+      }
+    });
+    return failures[0];
+  }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.benchmark;
+
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core8.api.ZonedDateTimeAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default comparison of {@link ZonedDateTimeAssert}, converting expected values in the actual's zone, to
+ * the one enabled by {@link ZonedDateTimeAssert#usingInstantComparison()} on large inputs, run with
+ * <code>-prof gc</code> to see the allocations saved.
+ * <p>
+ * Each benchmark checks <code>size</code> actual values against expected values given in another zone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstantComparisonBenchmark {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  @Param({ "1000000" })
+  public int size;
+
+  private ZonedDateTime[] actuals;
+  private ZonedDateTime[] expected;
+
+  @Setup
+  public void setup() {
+    actuals = new ZonedDateTime[size];
+    expected = new ZonedDateTime[size];
+    ZonedDateTime start = ZonedDateTime.of(2014, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    for (int i = 0; i < size; i++) {
+      // one value per 17 minutes and 3 nanoseconds to span several summer time transitions
+      actuals[i] = start.plusMinutes(17L * i).plusNanos(3L * i);
+      expected[i] = actuals[i].withZoneSameInstant(PARIS);
+    }
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isEqualTo() {
+    ZonedDateTimeAssert assertion = null;
+    for (int i = 0; i < size; i++) {
+      assertion = assertThat(actuals[i]).isEqualTo(expected[i]);
+    }
+    return assertion;
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isEqualTo_usingInstantComparison() {
+    ZonedDateTimeAssert assertion = null;
+    for (int i = 0; i < size; i++) {
+      assertion = assertThat(actuals[i]).usingInstantComparison().isEqualTo(expected[i]);
+    }
+    return assertion;
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isIn() {
+    // actual is the last candidate: worst case of a linear search
+    return assertThat(actuals[size - 1]).isIn(expected);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isIn_usingInstantComparison() {
+    return assertThat(actuals[size - 1]).usingInstantComparison().isIn(expected);
+  }
+
+}
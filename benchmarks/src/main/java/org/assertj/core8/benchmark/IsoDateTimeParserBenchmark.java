@@ -0,0 +1,82 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.benchmark;
+
+import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core8.internal.IsoDateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link IsoDateTimeParser} fast path used by the String based assertions to the
+ * {@link java.time.format.DateTimeFormatter} parsing it replaces, for the ISO forms commonly found in tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsoDateTimeParserBenchmark {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  @Benchmark
+  public ZonedDateTime parseZonedDateTime_DateTimeFormatter(ZonedInput input) {
+    return ZonedDateTime.parse(input.text, ISO_DATE_TIME).withZoneSameInstant(PARIS);
+  }
+
+  @Benchmark
+  public ZonedDateTime parseZonedDateTime_IsoDateTimeParser(ZonedInput input) {
+    return IsoDateTimeParser.parseZonedDateTime(input.text, PARIS);
+  }
+
+  @Benchmark
+  public LocalDateTime parseLocalDateTime_DateTimeFormatter(LocalInput input) {
+    return LocalDateTime.parse(input.text);
+  }
+
+  @Benchmark
+  public LocalDateTime parseLocalDateTime_IsoDateTimeParser(LocalInput input) {
+    return IsoDateTimeParser.parseLocalDateTime(input.text);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ZonedInput {
+
+    @Param({ "2014-06-15T10:30:45Z", "2014-06-15T10:30:45.123+02:00", "2014-06-15T10:30:45.123456789+02:00[Europe/Paris]" })
+    public String text;
+  }
+
+  @State(Scope.Benchmark)
+  public static class LocalInput {
+
+    @Param({ "2014-06-15T10:30", "2014-06-15T10:30:45.123" })
+    public String text;
+  }
+
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.benchmark;
+
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core8.api.LocalDateTimeAssert;
+import org.assertj.core8.data.LocalDateTimeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passing path of the {@link LocalDateTimeAssert} entry points, run with <code>-prof gc</code> to get the allocation
+ * rate per assertion (<code>gc.alloc.rate.norm</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateTimeAssertBenchmark {
+
+  private LocalDateTime actual;
+  private LocalDateTime before;
+  private LocalDateTime after;
+  private LocalDateTime sameSecond;
+  private String beforeAsString;
+  private String afterAsString;
+  private String sameSecondAsString;
+
+  @Setup
+  public void setup() {
+    actual = LocalDateTime.of(2014, 6, 15, 10, 30, 45, 123456789);
+    before = actual.minusHours(1);
+    after = actual.plusHours(1);
+    sameSecond = actual.withNano(0);
+    beforeAsString = before.toString();
+    afterAsString = after.toString();
+    sameSecondAsString = sameSecond.toString();
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isAfter_String() {
+    return assertThat(actual).isAfter(beforeAsString);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringNanos() {
+    return assertThat(actual).isEqualToIgnoringNanos(sameSecond);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isEqualToIgnoringNanos_String() {
+    // no String overload: measure the parse + compare idiom used in tests
+    return assertThat(actual).isEqualToIgnoringNanos(LocalDateTime.parse(sameSecondAsString));
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.values);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn_LocalDateTimeSet(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.valuesSet);
+  }
+
+  @Benchmark
+  public LocalDateTimeAssert isIn_String(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.valuesAsString);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ExpectedValues {
+
+    @Param({ "1", "16", "1024" })
+    public int count;
+
+    LocalDateTime actual;
+    LocalDateTime[] values;
+    String[] valuesAsString;
+    LocalDateTimeSet valuesSet;
+
+    @Setup
+    public void setup() {
+      actual = LocalDateTime.of(2014, 6, 15, 10, 30, 45, 123456789);
+      values = new LocalDateTime[count];
+      valuesAsString = new String[count];
+      // actual is the last candidate: worst case of a linear search
+      for (int i = 0; i < count; i++) {
+        values[i] = actual.minusMinutes(count - 1 - i);
+        valuesAsString[i] = values[i].toString();
+      }
+      valuesSet = LocalDateTimeSet.of(values);
+    }
+  }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.benchmark;
+
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core8.api.ZonedDateTimeAssert;
+import org.assertj.core8.data.ZonedDateTimeInterval;
+import org.assertj.core8.data.ZonedDateTimeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passing path of the {@link ZonedDateTimeAssert} entry points, run with <code>-prof gc</code> to get the allocation
+ * rate per assertion (<code>gc.alloc.rate.norm</code>).
+ * <p>
+ * Expected values are given in another zone than actual so that the zone conversion cost is part of the measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZonedDateTimeAssertBenchmark {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  private ZonedDateTime actual;
+  private ZonedDateTime before;
+  private ZonedDateTime after;
+  private ZonedDateTime sameSecondInOtherZone;
+  private String beforeAsString;
+  private String afterAsString;
+  private String sameSecondAsString;
+  private ZonedDateTimeInterval beforeToAfter;
+
+  @Setup
+  public void setup() {
+    actual = ZonedDateTime.of(2014, 6, 15, 10, 30, 45, 123456789, ZoneOffset.UTC);
+    before = actual.minusHours(1).withZoneSameInstant(PARIS);
+    after = actual.plusHours(1).withZoneSameInstant(PARIS);
+    sameSecondInOtherZone = actual.withNano(0).withZoneSameInstant(PARIS);
+    beforeAsString = before.toOffsetDateTime().toString();
+    afterAsString = after.toOffsetDateTime().toString();
+    sameSecondAsString = sameSecondInOtherZone.toOffsetDateTime().toString();
+    beforeToAfter = ZonedDateTimeInterval.closed(before, after);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isBefore() {
+    return assertThat(actual).isBefore(after);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isBefore_String() {
+    return assertThat(actual).isBefore(afterAsString);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isAfter() {
+    return assertThat(actual).isAfter(before);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isAfter_String() {
+    return assertThat(actual).isAfter(beforeAsString);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isEqualToIgnoringNanos() {
+    return assertThat(actual).isEqualToIgnoringNanos(sameSecondInOtherZone);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isEqualToIgnoringNanos_String() {
+    // no String overload: measure the parse + compare idiom used in tests
+    return assertThat(actual).isEqualToIgnoringNanos(ZonedDateTime.parse(sameSecondAsString));
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isBetween() {
+    return assertThat(actual).isBetween(before, after);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isBetween_ZonedDateTimeInterval() {
+    return assertThat(actual).isBetween(beforeToAfter);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isAfterOrEqualTo_isBefore() {
+    // the idiom isBetween replaces
+    return assertThat(actual).isAfterOrEqualTo(before).isBefore(after);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isIn(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.values);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isIn_ZonedDateTimeSet(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.valuesSet);
+  }
+
+  @Benchmark
+  public ZonedDateTimeAssert isIn_String(ExpectedValues expected) {
+    return assertThat(expected.actual).isIn(expected.valuesAsString);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ExpectedValues {
+
+    @Param({ "1", "16", "1024" })
+    public int count;
+
+    ZonedDateTime actual;
+    ZonedDateTime[] values;
+    String[] valuesAsString;
+    ZonedDateTimeSet valuesSet;
+
+    @Setup
+    public void setup() {
+      actual = ZonedDateTime.of(2014, 6, 15, 10, 30, 45, 123456789, ZoneOffset.UTC);
+      values = new ZonedDateTime[count];
+      valuesAsString = new String[count];
+      // actual is the last candidate: worst case of a linear search
+      for (int i = 0; i < count; i++) {
+        values[i] = actual.minusMinutes(count - 1 - i).withZoneSameInstant(PARIS);
+        valuesAsString[i] = values[i].toOffsetDateTime().toString();
+      }
+      valuesSet = ZonedDateTimeSet.of(values);
+    }
+  }
+
+}
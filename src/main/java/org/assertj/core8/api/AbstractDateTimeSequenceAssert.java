@@ -0,0 +1,206 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core8.error.ShouldBeInChronologicalOrder.elementShouldNotBeNull;
+import static org.assertj.core8.error.ShouldBeInChronologicalOrder.shouldBeInChronologicalOrder;
+import static org.assertj.core8.error.ShouldBeInChronologicalOrder.shouldNotHaveGapGreaterThan;
+
+/**
+ * Base class for assertions on a sequence of date-times that is checked while being iterated, in constant memory: only
+ * the current element and its predecessor are kept, which allows to check sequences too large to fit in memory (e.g.
+ * a {@link java.util.stream.Stream} of events read from a file).
+ * <p>
+ * The sequence can only be iterated once: each assertion consumes it and stops at the first offending element, any
+ * further assertion throws an {@link IllegalStateException}.
+ *
+ * @param <S> the "self" type of this assertion class.
+ * @param <T> the type of date-times in the sequence.
+ */
+public abstract class AbstractDateTimeSequenceAssert<S extends AbstractDateTimeSequenceAssert<S, T>, T>
+    extends AbstractAssert<S, Iterator<? extends T>> {
+
+  private static final long NANOS_PER_SECOND = 1000_000_000L;
+
+  private boolean consumed;
+
+  protected AbstractDateTimeSequenceAssert(Iterator<? extends T> actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Returns the number of seconds from 1970-01-01T00:00:00Z of the given date-time, used along with
+   * {@link #nanoOf(Object)} to compare and compute the gap between date-times.
+   *
+   * @param dateTime the date-time, not null.
+   * @return the epoch second of the given date-time.
+   */
+  protected abstract long epochSecondOf(T dateTime);
+
+  /**
+   * @param dateTime the date-time, not null.
+   * @return the nano of second of the given date-time.
+   */
+  protected abstract int nanoOf(T dateTime);
+
+  /**
+   * Verifies that each date-time of the actual sequence is after or equal to its predecessor.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatZonedDateTimeSequence(events.map(Event::getTimestamp)).isInChronologicalOrder();
+   * </pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual sequence is {@code null}.
+   * @throws AssertionError if a date-time of the actual sequence is {@code null} or before its predecessor.
+   * @throws IllegalStateException if the actual sequence has already been consumed.
+   */
+  public S isInChronologicalOrder() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isInChronologicalOrder")) {
+      return checkSequence(false, null);
+    }
+  }
+
+  /**
+   * Verifies that each date-time of the actual sequence is after or equal to its predecessor and not after it by more
+   * than the given gap.
+   *
+   * @param maxGap the maximum duration between two consecutive date-times.
+   * @return this assertion object.
+   * @throws AssertionError if the actual sequence is {@code null}.
+   * @throws IllegalArgumentException if the given gap is {@code null} or negative.
+   * @throws AssertionError if a date-time of the actual sequence is {@code null}, before its predecessor or after it by
+   *           more than the given gap.
+   * @throws IllegalStateException if the actual sequence has already been consumed.
+   */
+  public S isInChronologicalOrder(Duration maxGap) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isInChronologicalOrder")) {
+      checkMaxGap(maxGap);
+      return checkSequence(false, maxGap);
+    }
+  }
+
+  /**
+   * Verifies that each date-time of the actual sequence is strictly after its predecessor, i.e. that the sequence is
+   * in chronological order without duplicates.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual sequence is {@code null}.
+   * @throws AssertionError if a date-time of the actual sequence is {@code null} or not after its predecessor.
+   * @throws IllegalStateException if the actual sequence has already been consumed.
+   */
+  public S isInStrictChronologicalOrder() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isInStrictChronologicalOrder")) {
+      return checkSequence(true, null);
+    }
+  }
+
+  /**
+   * Verifies that each date-time of the actual sequence is strictly after its predecessor and not after it by more than
+   * the given gap.
+   *
+   * @param maxGap the maximum duration between two consecutive date-times.
+   * @return this assertion object.
+   * @throws AssertionError if the actual sequence is {@code null}.
+   * @throws IllegalArgumentException if the given gap is {@code null} or negative.
+   * @throws AssertionError if a date-time of the actual sequence is {@code null}, not after its predecessor or after
+   *           it by more than the given gap.
+   * @throws IllegalStateException if the actual sequence has already been consumed.
+   */
+  public S isInStrictChronologicalOrder(Duration maxGap) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isInStrictChronologicalOrder")) {
+      checkMaxGap(maxGap);
+      return checkSequence(true, maxGap);
+    }
+  }
+
+  private S checkSequence(boolean strictly, Duration maxGap) {
+    Objects.instance().assertNotNull(info, actual);
+    if (consumed) {
+      throw new IllegalStateException("The date-time sequence can only be checked once, it has already been consumed");
+    }
+    consumed = true;
+    T previous = null;
+    long previousSecond = 0;
+    int previousNano = 0;
+    for (long index = 0; actual.hasNext(); index++) {
+      T dateTime = actual.next();
+      if (dateTime == null) {
+        throw failure(elementShouldNotBeNull(index, neighbourhood(index, previous, null)));
+      }
+      long second = epochSecondOf(dateTime);
+      int nano = nanoOf(dateTime);
+      if (index > 0) {
+        // gap between previous and current date-time, nanos part normalized in [0, 1s[
+        long gapSeconds = second - previousSecond;
+        int gapNanos = nano - previousNano;
+        if (gapNanos < 0) {
+          gapSeconds--;
+          gapNanos += NANOS_PER_SECOND;
+        }
+        if (gapSeconds < 0 || (strictly && gapSeconds == 0 && gapNanos == 0)) {
+          throw failure(shouldBeInChronologicalOrder(index, dateTime, previous, strictly,
+                                                     neighbourhood(index, previous, dateTime)));
+        }
+        if (maxGap != null && (gapSeconds > maxGap.getSeconds()
+                               || (gapSeconds == maxGap.getSeconds() && gapNanos > maxGap.getNano()))) {
+          throw failure(shouldNotHaveGapGreaterThan(index, dateTime, previous, Duration.ofSeconds(gapSeconds, gapNanos),
+                                                    maxGap, neighbourhood(index, previous, dateTime)));
+        }
+      }
+      previous = dateTime;
+      previousSecond = second;
+      previousNano = nano;
+    }
+    return myself;
+  }
+
+  private AssertionError failure(ErrorMessageFactory errorMessageFactory) {
+    return Failures.instance().failure(info, errorMessageFactory);
+  }
+
+  /**
+   * @return the previous, offending and next elements (if any) by index, the next element is consumed from actual.
+   */
+  private Map<Long, T> neighbourhood(long index, T previous, T dateTime) {
+    Map<Long, T> neighbourhood = new LinkedHashMap<>();
+    if (index > 0) {
+      neighbourhood.put(index - 1, previous);
+    }
+    neighbourhood.put(index, dateTime);
+    if (actual.hasNext()) {
+      neighbourhood.put(index + 1, actual.next());
+    }
+    return neighbourhood;
+  }
+
+  private static void checkMaxGap(Duration maxGap) {
+    if (maxGap == null || maxGap.isNegative()) {
+      throw new IllegalArgumentException("The maximum gap between date-times should not be null or negative");
+    }
+  }
+
+}
@@ -12,9 +12,23 @@
  */
 package org.assertj.core8.api;
 
+import org.assertj.core8.internal.AssertionMetrics;
+import org.assertj.core8.internal.DateTimeParseCache;
+import org.assertj.core8.internal.Failures;
+
+import java.nio.LongBuffer;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * The entry point for all new Date &amp; Time API from Java 8 assertions.
@@ -27,11 +41,170 @@ import java.util.Optional;
 public class Assertions {
 
   public static ZonedDateTimeAssert assertThat(ZonedDateTime date) {
-	return new ZonedDateTimeAssert(ZonedDateTimeAssert.class, date);
+	return recorded(new ZonedDateTimeAssert(ZonedDateTimeAssert.class, date));
   }
 
   public static LocalDateTimeAssert assertThat(LocalDateTime localDateTime) {
-	return new LocalDateTimeAssert(LocalDateTimeAssert.class, localDateTime);
+	return recorded(new LocalDateTimeAssert(LocalDateTimeAssert.class, localDateTime));
+  }
+
+  /**
+   * Creates assertions checking all the given {@link ZonedDateTime}s at once, see {@link ZonedDateTimesAssert}.
+   *
+   * @param actual the actual values.
+   * @return the created assertion object.
+   */
+  public static ZonedDateTimesAssert assertThatZonedDateTimes(ZonedDateTime... actual) {
+	return recorded(new ZonedDateTimesAssert(actual));
+  }
+
+  /**
+   * Creates assertions checking all the given {@link ZonedDateTime}s at once, see {@link ZonedDateTimesAssert}.
+   *
+   * @param actual the actual values.
+   * @return the created assertion object.
+   */
+  public static ZonedDateTimesAssert assertThatZonedDateTimes(Iterable<? extends ZonedDateTime> actual) {
+	return recorded(new ZonedDateTimesAssert(actual));
+  }
+
+  /**
+   * Creates assertions checking all the given {@link LocalDateTime}s at once, see {@link LocalDateTimesAssert}.
+   *
+   * @param actual the actual values.
+   * @return the created assertion object.
+   */
+  public static LocalDateTimesAssert assertThatLocalDateTimes(LocalDateTime... actual) {
+	return recorded(new LocalDateTimesAssert(actual));
+  }
+
+  /**
+   * Creates assertions checking all the given {@link LocalDateTime}s at once, see {@link LocalDateTimesAssert}.
+   *
+   * @param actual the actual values.
+   * @return the created assertion object.
+   */
+  public static LocalDateTimesAssert assertThatLocalDateTimes(Iterable<? extends LocalDateTime> actual) {
+	return recorded(new LocalDateTimesAssert(actual));
+  }
+
+  /**
+   * Creates assertions on timestamps given as milliseconds from the epoch, see {@link EpochTimestampsAssert}.
+   *
+   * @param actual the actual epoch milliseconds.
+   * @return the created assertion object.
+   */
+  public static EpochTimestampsAssert assertThatEpochMillis(long... actual) {
+	return recorded(new EpochTimestampsAssert(actual, TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Creates assertions on the remaining timestamps of the given buffer, given as milliseconds from the epoch, see
+   * {@link EpochTimestampsAssert}.
+   *
+   * @param actual the actual epoch milliseconds.
+   * @return the created assertion object.
+   */
+  public static EpochTimestampsAssert assertThatEpochMillis(LongBuffer actual) {
+	return recorded(new EpochTimestampsAssert(actual, TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Creates assertions on timestamps given as nanoseconds from the epoch, see {@link EpochTimestampsAssert}.
+   *
+   * @param actual the actual epoch nanoseconds.
+   * @return the created assertion object.
+   */
+  public static EpochTimestampsAssert assertThatEpochNanos(long... actual) {
+	return recorded(new EpochTimestampsAssert(actual, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Creates assertions on the remaining timestamps of the given buffer, given as nanoseconds from the epoch, see
+   * {@link EpochTimestampsAssert}.
+   *
+   * @param actual the actual epoch nanoseconds.
+   * @return the created assertion object.
+   */
+  public static EpochTimestampsAssert assertThatEpochNanos(LongBuffer actual) {
+	return recorded(new EpochTimestampsAssert(actual, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Creates assertions on the ZonedDateTimes of the given stream, checked in constant memory while being consumed, see
+   * {@link AbstractDateTimeSequenceAssert}.
+   *
+   * @param actual the actual stream of date-times.
+   * @return the created assertion object.
+   */
+  public static ZonedDateTimeSequenceAssert assertThatZonedDateTimeSequence(Stream<? extends ZonedDateTime> actual) {
+	return recorded(new ZonedDateTimeSequenceAssert(actual == null ? null : actual.iterator()));
+  }
+
+  /**
+   * Creates assertions on the ZonedDateTimes of the given iterator, checked in constant memory while being consumed, see
+   * {@link AbstractDateTimeSequenceAssert}.
+   *
+   * @param actual the actual iterator of date-times.
+   * @return the created assertion object.
+   */
+  public static ZonedDateTimeSequenceAssert assertThatZonedDateTimeSequence(Iterator<? extends ZonedDateTime> actual) {
+	return recorded(new ZonedDateTimeSequenceAssert(actual));
+  }
+
+  /**
+   * Creates assertions on the LocalDateTimes of the given stream, checked in constant memory while being consumed, see
+   * {@link AbstractDateTimeSequenceAssert}.
+   *
+   * @param actual the actual stream of date-times.
+   * @return the created assertion object.
+   */
+  public static LocalDateTimeSequenceAssert assertThatLocalDateTimeSequence(Stream<? extends LocalDateTime> actual) {
+	return recorded(new LocalDateTimeSequenceAssert(actual == null ? null : actual.iterator()));
+  }
+
+  /**
+   * Creates assertions on the LocalDateTimes of the given iterator, checked in constant memory while being consumed, see
+   * {@link AbstractDateTimeSequenceAssert}.
+   *
+   * @param actual the actual iterator of date-times.
+   * @return the created assertion object.
+   */
+  public static LocalDateTimeSequenceAssert assertThatLocalDateTimeSequence(Iterator<? extends LocalDateTime> actual) {
+	return recorded(new LocalDateTimeSequenceAssert(actual));
+  }
+
+  /**
+   * Creates assertions on the elements of the given {@link IntStream}, checked while consuming it without boxing, see
+   * {@link IntStreamAssert}.
+   *
+   * @param actual the actual stream.
+   * @return the created assertion object.
+   */
+  public static IntStreamAssert assertThat(IntStream actual) {
+	return recorded(new IntStreamAssert(actual));
+  }
+
+  /**
+   * Creates assertions on the elements of the given {@link LongStream}, checked while consuming it without boxing, see
+   * {@link LongStreamAssert}.
+   *
+   * @param actual the actual stream.
+   * @return the created assertion object.
+   */
+  public static LongStreamAssert assertThat(LongStream actual) {
+	return recorded(new LongStreamAssert(actual));
+  }
+
+  /**
+   * Creates assertions on the elements of the given {@link DoubleStream}, checked while consuming it without boxing, see
+   * {@link DoubleStreamAssert}.
+   *
+   * @param actual the actual stream.
+   * @return the created assertion object.
+   */
+  public static DoubleStreamAssert assertThat(DoubleStream actual) {
+	return recorded(new DoubleStreamAssert(actual));
   }
 
   /**
@@ -42,7 +215,72 @@ public class Assertions {
    * @return the created assertion objet.
    */
   public static <T> OptionalAssert<T> assertThat(Optional<T> optional) {
-	return new OptionalAssert<>(optional);
+	return recorded(new OptionalAssert<>(optional));
+  }
+
+  /**
+   * Create assertion for {@link java.util.OptionalInt}.
+   *
+   * @param optional the actual value.
+   * @return the created assertion objet.
+   */
+  public static OptionalIntAssert assertThat(OptionalInt optional) {
+	return recorded(new OptionalIntAssert(optional));
+  }
+
+  /**
+   * Create assertion for {@link java.util.OptionalLong}.
+   *
+   * @param optional the actual value.
+   * @return the created assertion objet.
+   */
+  public static OptionalLongAssert assertThat(OptionalLong optional) {
+	return recorded(new OptionalLongAssert(optional));
+  }
+
+  /**
+   * Create assertion for {@link java.util.OptionalDouble}.
+   *
+   * @param optional the actual value.
+   * @return the created assertion objet.
+   */
+  public static OptionalDoubleAssert assertThat(OptionalDouble optional) {
+	return recorded(new OptionalDoubleAssert(optional));
+  }
+
+  /**
+   * Creates assertions checking all the given {@link java.util.Optional}s at once, see {@link OptionalsAssert}.
+   *
+   * @param actual the actual values.
+   * @param <T>    the type of the value contained in the {@link java.util.Optional}s.
+   * @return the created assertion object.
+   */
+  public static <T> OptionalsAssert<T> assertThatOptionals(Iterable<? extends Optional<? extends T>> actual) {
+	return recorded(new OptionalsAssert<>(actual));
+  }
+
+  /**
+   * Creates assertions checking all the {@link java.util.Optional}s of the given stream at once, see
+   * {@link OptionalsAssert}.
+   *
+   * @param actual the actual values, consumed once.
+   * @param <T>    the type of the value contained in the {@link java.util.Optional}s.
+   * @return the created assertion object.
+   */
+  public static <T> OptionalsAssert<T> assertThatOptionals(Stream<? extends Optional<? extends T>> actual) {
+	return recorded(new OptionalsAssert<>(actual));
+  }
+
+  /**
+   * Create assertion for {@link java.util.stream.Stream}, checked while lazily consuming the stream, see
+   * {@link StreamAssert}.
+   *
+   * @param actual the actual stream.
+   * @param <T> the type of the elements of the stream.
+   * @return the created assertion object.
+   */
+  public static <T> StreamAssert<T> assertThat(Stream<? extends T> actual) {
+	return recorded(new StreamAssert<>(actual));
   }
 
   /**
@@ -51,11 +289,103 @@ public class Assertions {
    * @return Java 8-compatible assertion
    */
   public static IntegerAssert assertThat(int actual) {
-	return new IntegerAssert(actual);
+	return recorded(new IntegerAssert(actual));
+  }
+
+  /**
+   * Java 8 version of the old assertion
+   * @param actual
+   * @return Java 8-compatible assertion
+   */
+  public static LongAssert assertThat(long actual) {
+	return recorded(new LongAssert(actual));
+  }
+
+  /**
+   * Java 8 version of the old assertion
+   * @param actual
+   * @return Java 8-compatible assertion
+   */
+  public static DoubleAssert assertThat(double actual) {
+	return recorded(new DoubleAssert(actual));
+  }
+
+  /**
+   * Runs the given assertions, the failures of the assertions of this module they create have no stack trace, which
+   * makes them much cheaper when many failures are expected and caught, e.g. in negative-path validations over many
+   * inputs.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * runWithoutStackTraces(() -&gt; {
+   *   for (ZonedDateTime expiredDate : expiredDates) {
+   *     try {
+   *       assertThat(expiredDate).isAfter(now);
+   *       fail("should have failed");
+   *     } catch (AssertionError e) {
+   *       // expected
+   *     }
+   *   }
+   * });
+   * </pre>
+   *
+   * @param assertions the assertions to run.
+   */
+  public static void runWithoutStackTraces(Runnable assertions) {
+	Failures.instance().runWithoutStackTraces(assertions);
+  }
+
+  /**
+   * Enables the metrics of the assertions of this module: the invocations, failures and latency of each assertion
+   * method, the number of assertion objects created per assertion type, the number of failures per error type and the
+   * latency of the assertions timed with {@link AssertionMetrics#time(String, Runnable)}. The metrics are disabled by
+   * default, the previously recorded ones are discarded.
+   * <p>
+   * Metrics are available from {@link AssertionMetrics#instance()}, which can also export them when the JVM exits, e.g.
+   * {@code AssertionMetrics.instance().exportAtExit(MetricsExporter.textSummary(System.out))}.
+   */
+  public static void enableAssertionMetrics() {
+	AssertionMetrics.instance().enable();
+  }
+
+  /**
+   * Disables the metrics enabled with {@link #enableAssertionMetrics()}, the recorded ones are kept.
+   */
+  public static void disableAssertionMetrics() {
+	AssertionMetrics.instance().disable();
+  }
+
+  /**
+   * Enables the cache of the date-times parsed from the Strings given to the date-time assertions, e.g.
+   * {@code assertThat(dateTime).isAfter("2014-01-01T00:00:00Z")}, which saves parsing the same literals over and over
+   * in parameterized tests. The cache is disabled by default, once enabled it keeps at most the given number of
+   * date-times and evicts the least recently used ones.
+   * <p>
+   * Cache hits and misses are available from {@link DateTimeParseCache#instance()}.
+   *
+   * @param maxSize the maximum number of parsed date-times to keep.
+   * @throws IllegalArgumentException if the given maximum size is not strictly positive.
+   */
+  public static void enableDateTimeParseCache(int maxSize) {
+	DateTimeParseCache.instance().enable(maxSize);
+  }
+
+  /**
+   * Disables the cache enabled with {@link #enableDateTimeParseCache(int)} and discards the cached date-times.
+   */
+  public static void disableDateTimeParseCache() {
+	DateTimeParseCache.instance().disable();
   }
 
   /** Creates a new <code>{@link Assertions}</code>. */
   protected Assertions() {
 	// empty
   }
+
+  // records the creation of the assertion object, not the assertions later called on it
+  private static <A> A recorded(A assertion) {
+	return AssertionMetrics.instance().recordCreation(assertion);
+  }
+
 }
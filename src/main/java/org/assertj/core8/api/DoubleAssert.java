@@ -0,0 +1,72 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import static org.assertj.core.error.ShouldBe.shouldBe;
+
+import java.util.function.DoublePredicate;
+
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+/**
+ * DoubleAssert class with Java 8 methods
+ */
+public class DoubleAssert extends org.assertj.core.api.DoubleAssert {
+
+  /**
+   * Constructor
+   * @param actual
+   */
+  public DoubleAssert(Double actual) {
+	super(actual);
+  }
+
+  /**
+   * Handle a lambda as a condition, evaluated on the primitive value: no boxing and no {@link DoubleCondition} is
+   * created unless the assertion fails.
+   * @param lambda
+   * @return this assertion object
+   */
+  public DoubleAssert is(DoublePredicate lambda) {
+	try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "is")) {
+		Objects.instance().assertNotNull(info, actual);
+		if (!lambda.test(actual)) {
+			throw Failures.instance().failure(info, shouldBe(actual, Lambdas.toCondition(lambda)));
+		}
+		return this;
+	}
+  }
+
+  /**
+   * Verifies that the actual value satisfies the given condition, evaluated on the primitive value without boxing.
+   * @param condition the given condition.
+   * @return this assertion object
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual value is {@code null} or does not satisfy the given condition.
+   */
+  public DoubleAssert is(DoubleCondition condition) {
+	try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "is")) {
+		if (condition == null) {
+			throw new NullPointerException("The condition to evaluate should not be null");
+		}
+		Objects.instance().assertNotNull(info, actual);
+		if (!condition.matches(actual.doubleValue())) {
+			throw Failures.instance().failure(info, shouldBe(actual, condition));
+		}
+		return this;
+	}
+  }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import java.util.function.DoublePredicate;
+
+import org.assertj.core.api.Condition;
+
+/**
+ * A {@link Condition} on {@code double} values evaluated on the primitive value, without boxing.
+ * <p>
+ * As a {@code Condition<Double>} it can be given to any assertion on {@link Double}s, in which case {@code null} values
+ * don't match.
+ */
+public class DoubleCondition extends Condition<Double> {
+
+  private final DoublePredicate predicate;
+
+  /**
+   * Creates a new <code>{@link DoubleCondition}</code> with an empty description, like the conditions built from
+   * lambdas by {@link Lambdas}.
+   *
+   * @param predicate the predicate the values should match.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   */
+  public DoubleCondition(DoublePredicate predicate) {
+    this("", predicate);
+  }
+
+  /**
+   * Creates a new <code>{@link DoubleCondition}</code>.
+   *
+   * @param description the description of this condition.
+   * @param predicate the predicate the values should match.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   */
+  public DoubleCondition(String description, DoublePredicate predicate) {
+    super(description);
+    this.predicate = checkNotNull(predicate);
+  }
+
+  /**
+   * Verifies that the given value satisfies this condition.
+   *
+   * @param value the value to verify.
+   * @return {@code true} if the given value satisfies this condition; {@code false} otherwise.
+   */
+  public boolean matches(double value) {
+    return predicate.test(value);
+  }
+
+  @Override
+  public boolean matches(Double value) {
+    return value != null && predicate.test(value);
+  }
+
+  private static DoublePredicate checkNotNull(DoublePredicate predicate) {
+    if (predicate == null) {
+      throw new IllegalArgumentException("The predicate of a condition should not be null");
+    }
+    return predicate;
+  }
+
+}
@@ -0,0 +1,350 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.data.Offset;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core8.error.StreamElementsShould.shouldAllMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldAnyMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldBeEmpty;
+import static org.assertj.core8.error.StreamElementsShould.shouldBeSorted;
+import static org.assertj.core8.error.StreamElementsShould.shouldContain;
+import static org.assertj.core8.error.StreamElementsShould.shouldHave;
+import static org.assertj.core8.error.StreamElementsShould.shouldHaveButWasEmpty;
+import static org.assertj.core8.error.StreamElementsShould.shouldNoneMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldNotContain;
+
+/**
+ * Assertions on the elements of an {@link DoubleStream}, checked while the stream is consumed: elements are neither
+ * boxed nor collected, each assertion only keeps the state it needs (e.g. the current minimum) and stops consuming the
+ * stream as soon as its outcome is known.
+ * <p>
+ * The stream can only be consumed once: each assertion is terminal and any further assertion throws an
+ * {@link IllegalStateException}.
+ */
+public class DoubleStreamAssert extends AbstractAssert<DoubleStreamAssert, DoubleStream> {
+
+  private boolean consumed;
+
+  /**
+   * Creates a new <code>{@link DoubleStreamAssert}</code>.
+   *
+   * @param actual the stream to verify
+   */
+  protected DoubleStreamAssert(DoubleStream actual) {
+    super(actual, DoubleStreamAssert.class);
+  }
+
+  /**
+   * Verifies that the actual stream is empty.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or not empty.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert isEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      PrimitiveIterator.OfDouble elements = elements();
+      if (elements.hasNext()) {
+        throw failure(shouldBeEmpty(elements.nextDouble()));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual stream has the given number of elements.
+   *
+   * @param expected the expected number of elements.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or does not have the given number of elements.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert hasCount(long expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasCount")) {
+      long count = consume().count();
+      if (count != expected) {
+        throw failure(shouldHave("count", expected, count));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the smallest element of the actual stream is equal to the given one.
+   *
+   * @param expected the expected smallest element.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or empty.
+   * @throws AssertionError if the smallest element of the actual stream is not equal to the given one.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert hasMin(double expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasMin")) {
+      return hasStatistic("min", expected, consume().min());
+    }
+  }
+
+  /**
+   * Verifies that the greatest element of the actual stream is equal to the given one.
+   *
+   * @param expected the expected greatest element.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or empty.
+   * @throws AssertionError if the greatest element of the actual stream is not equal to the given one.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert hasMax(double expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasMax")) {
+      return hasStatistic("max", expected, consume().max());
+    }
+  }
+
+  /**
+   * Verifies that the sum of the elements of the actual stream, as computed by {@link DoubleStream#sum()}, is close to
+   * the given one within the given offset.
+   *
+   * @param expected the expected sum.
+   * @param offset the offset used for comparison.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given offset is {@code null}.
+   * @throws AssertionError if the sum of the actual stream is not close to the given one within the given offset.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert hasSum(double expected, Offset<Double> offset) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasSum")) {
+      if (offset == null) {
+        throw new IllegalArgumentException("The offset should not be null");
+      }
+      double sum = consume().sum();
+      if (Double.compare(sum, expected) != 0 && !(Math.abs(expected - sum) <= offset.value)) {
+        throw failure(shouldHave("sum", expected, sum));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that each element of the actual stream is greater than or equal to its predecessor.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or an element is less than its predecessor.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert isSorted() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isSorted")) {
+      PrimitiveIterator.OfDouble elements = elements();
+      if (!elements.hasNext()) {
+        return this;
+      }
+      double previous = elements.nextDouble();
+      for (long index = 1; elements.hasNext(); index++) {
+        double element = elements.nextDouble();
+        if (Double.compare(previous, element) > 0) {
+          throw failure(shouldBeSorted(index, element, previous));
+        }
+        previous = element;
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual stream contains all the given values, in any order. The stream is consumed until all the
+   * values have been found.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given values are {@code null} or empty.
+   * @throws AssertionError if the actual stream does not contain all the given values.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert contains(double... values) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "contains")) {
+      double[] sortedValues = sortedDistinct(values);
+      PrimitiveIterator.OfDouble elements = elements();
+      boolean[] found = new boolean[sortedValues.length];
+      int notFoundCount = sortedValues.length;
+      while (notFoundCount > 0 && elements.hasNext()) {
+        int position = Arrays.binarySearch(sortedValues, elements.nextDouble());
+        if (position >= 0 && !found[position]) {
+          found[position] = true;
+          notFoundCount--;
+        }
+      }
+      if (notFoundCount > 0) {
+        double[] notFound = new double[notFoundCount];
+        for (int i = 0, j = 0; i < sortedValues.length; i++) {
+          if (!found[i]) {
+            notFound[j++] = sortedValues[i];
+          }
+        }
+        throw failure(shouldContain(values, notFound));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual stream does not contain any of the given values.
+   *
+   * @param values the values that should not be found.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given values are {@code null} or empty.
+   * @throws AssertionError if the actual stream contains any of the given values.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert doesNotContain(double... values) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "doesNotContain")) {
+      double[] sortedValues = sortedDistinct(values);
+      PrimitiveIterator.OfDouble elements = elements();
+      for (long index = 0; elements.hasNext(); index++) {
+        double element = elements.nextDouble();
+        if (Arrays.binarySearch(sortedValues, element) >= 0) {
+          throw failure(shouldNotContain(values, index, element));
+        }
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given predicate, the stream is consumed up to the
+   * first element not matching it.
+   *
+   * @param predicate the predicate the elements should match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if an element of the actual stream does not match the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert allMatch(DoublePredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "allMatch")) {
+      checkPredicate(predicate);
+      PrimitiveIterator.OfDouble elements = elements();
+      for (long index = 0; elements.hasNext(); index++) {
+        double element = elements.nextDouble();
+        if (!predicate.test(element)) {
+          throw failure(shouldAllMatch(index, element));
+        }
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given predicate, the stream is consumed up to
+   * the first element matching it.
+   *
+   * @param predicate the predicate an element should match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if no element of the actual stream matches the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert anyMatch(DoublePredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "anyMatch")) {
+      checkPredicate(predicate);
+      PrimitiveIterator.OfDouble elements = elements();
+      long count = 0;
+      for (; elements.hasNext(); count++) {
+        if (predicate.test(elements.nextDouble())) {
+          return this;
+        }
+      }
+      throw failure(shouldAnyMatch(count));
+    }
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given predicate, the stream is consumed up to the first
+   * element matching it.
+   *
+   * @param predicate the predicate the elements should not match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if an element of the actual stream matches the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public DoubleStreamAssert noneMatch(DoublePredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "noneMatch")) {
+      checkPredicate(predicate);
+      PrimitiveIterator.OfDouble elements = elements();
+      for (long index = 0; elements.hasNext(); index++) {
+        double element = elements.nextDouble();
+        if (predicate.test(element)) {
+          throw failure(shouldNoneMatch(index, element));
+        }
+      }
+      return this;
+    }
+  }
+
+  private DoubleStreamAssert hasStatistic(String statistic, double expected, OptionalDouble value) {
+    if (!value.isPresent()) {
+      throw failure(shouldHaveButWasEmpty(statistic, expected));
+    }
+    if (Double.compare(value.getAsDouble(), expected) != 0) {
+      throw failure(shouldHave(statistic, expected, value.getAsDouble()));
+    }
+    return this;
+  }
+
+  private DoubleStream consume() {
+    Objects.instance().assertNotNull(info, actual);
+    if (consumed) {
+      throw new IllegalStateException("The stream can only be checked once, it has already been consumed");
+    }
+    consumed = true;
+    return actual;
+  }
+
+  private PrimitiveIterator.OfDouble elements() {
+    return consume().iterator();
+  }
+
+  private AssertionError failure(ErrorMessageFactory errorMessageFactory) {
+    return Failures.instance().failure(info, errorMessageFactory);
+  }
+
+  private static double[] sortedDistinct(double[] values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("The values to look for should not be null or empty");
+    }
+    return DoubleStream.of(values).sorted().distinct().toArray();
+  }
+
+  private static void checkPredicate(DoublePredicate predicate) {
+    if (predicate == null) {
+      throw new IllegalArgumentException("The predicate to evaluate should not be null");
+    }
+  }
+
+}
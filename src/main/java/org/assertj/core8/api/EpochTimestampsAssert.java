@@ -0,0 +1,293 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.BulkChecks;
+import org.assertj.core8.internal.Failures;
+
+import java.nio.LongBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeBetween;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeEqualTruncatedTo;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeIncreasing;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldNotHaveGapGreaterThan;
+import static org.assertj.core8.internal.BulkChecks.offenders;
+import static org.assertj.core8.internal.DateTimes.areEqualTruncatedTo;
+import static org.assertj.core8.internal.DateTimes.checkIsSupportedTruncationUnit;
+import static org.assertj.core8.internal.DateTimes.offsetSecondsAt;
+import static org.assertj.core8.internal.DateTimes.packFields;
+import static org.assertj.core8.internal.DateTimes.packFieldsOfLocalEpochSecond;
+
+/**
+ * Assertions on columns of timestamps stored as epoch values in a given {@link TimeUnit} (e.g. epoch milliseconds),
+ * held in a {@code long[]} or in the remaining elements of a {@link LongBuffer}.
+ * <p>
+ * Timestamps are checked with primitive arithmetic only, {@code java.time} objects are only built to report the
+ * offending elements when an assertion fails. The position and limit of a given {@link LongBuffer} are left untouched.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * assertThatEpochMillis(timestamps).isStrictlyIncreasing()
+ *                                  .hasNoGapGreaterThan(Duration.ofMinutes(5))
+ *                                  .areAllBetween(start, end);
+ * </pre>
+ */
+public class EpochTimestampsAssert extends AbstractAssert<EpochTimestampsAssert, LongBuffer> {
+
+  private final long unitsPerSecond;
+  private final int nanosPerUnit;
+  private boolean parallel;
+
+  /**
+   * Creates a new <code>{@link EpochTimestampsAssert}</code>.
+   *
+   * @param actual the epoch timestamps to verify
+   * @param unit the unit of the timestamps, from {@link TimeUnit#NANOSECONDS} to {@link TimeUnit#SECONDS}
+   */
+  protected EpochTimestampsAssert(long[] actual, TimeUnit unit) {
+    this(actual == null ? null : LongBuffer.wrap(actual), unit);
+  }
+
+  /**
+   * Creates a new <code>{@link EpochTimestampsAssert}</code> on the remaining elements of the given buffer.
+   *
+   * @param actual the epoch timestamps to verify
+   * @param unit the unit of the timestamps, from {@link TimeUnit#NANOSECONDS} to {@link TimeUnit#SECONDS}
+   */
+  protected EpochTimestampsAssert(LongBuffer actual, TimeUnit unit) {
+    super(actual, EpochTimestampsAssert.class);
+    if (unit == null || unit.compareTo(TimeUnit.SECONDS) > 0) {
+      throw new IllegalArgumentException("Unsupported epoch timestamps unit: " + unit);
+    }
+    this.unitsPerSecond = unit.convert(1, TimeUnit.SECONDS);
+    this.nanosPerUnit = (int) unit.toNanos(1);
+  }
+
+  /**
+   * Checks the actual timestamps in parallel on the common {@link java.util.concurrent.ForkJoinPool} in the following
+   * assertions, groups of less than {@link BulkChecks#PARALLEL_THRESHOLD} timestamps are still checked sequentially.
+   * <p>
+   * Failures are the same as when checking sequentially: all the offending timestamps are reported in index order.
+   *
+   * @return this assertion object.
+   */
+  public EpochTimestampsAssert inParallel() {
+    parallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that each actual timestamp is greater than or equal to its predecessor.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual timestamps are {@code null}.
+   * @throws AssertionError if any actual timestamp is lower than its predecessor.
+   */
+  public EpochTimestampsAssert isMonotonicallyIncreasing() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isMonotonicallyIncreasing")) {
+      return isIncreasing(false);
+    }
+  }
+
+  /**
+   * Verifies that each actual timestamp is strictly greater than its predecessor.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual timestamps are {@code null}.
+   * @throws AssertionError if any actual timestamp is lower than or equal to its predecessor.
+   */
+  public EpochTimestampsAssert isStrictlyIncreasing() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isStrictlyIncreasing")) {
+      return isIncreasing(true);
+    }
+  }
+
+  private EpochTimestampsAssert isIncreasing(boolean strictly) {
+    Objects.instance().assertNotNull(info, actual);
+    int base = actual.position();
+    int size = actual.remaining();
+    Map<Integer, Instant> offenders = offenders(size, parallel, i -> {
+      if (i == 0) {
+        return false;
+      }
+      long previous = actual.get(base + i - 1);
+      long timestamp = actual.get(base + i);
+      return timestamp < previous || (strictly && timestamp == previous);
+    }, i -> toInstant(actual.get(base + i)));
+    if (offenders != null) {
+      throw Failures.instance().failure(info, elementsShouldBeIncreasing(size, strictly, offenders));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that no actual timestamp is greater than its predecessor by more than the given gap, timestamps lower than
+   * their predecessor are not considered as gaps.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatEpochMillis(0, 1000, 3000).hasNoGapGreaterThan(Duration.ofSeconds(2));
+   * </pre>
+   *
+   * @param maxGap the maximum gap between two consecutive timestamps.
+   * @return this assertion object.
+   * @throws AssertionError if the actual timestamps are {@code null}.
+   * @throws IllegalArgumentException if the given gap is {@code null} or negative.
+   * @throws AssertionError if any actual timestamp is greater than its predecessor by more than the given gap.
+   */
+  public EpochTimestampsAssert hasNoGapGreaterThan(Duration maxGap) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasNoGapGreaterThan")) {
+      Objects.instance().assertNotNull(info, actual);
+      if (maxGap == null || maxGap.isNegative()) {
+        throw new IllegalArgumentException("The maximum gap between timestamps should not be null or negative");
+      }
+      long maxGapInUnits = toUnitsFloor(maxGap.getSeconds(), maxGap.getNano());
+      int base = actual.position();
+      int size = actual.remaining();
+      Map<Integer, Instant> offenders = offenders(size, parallel, i -> {
+        if (i == 0) {
+          return false;
+        }
+        long previous = actual.get(base + i - 1);
+        long timestamp = actual.get(base + i);
+        // the difference of ordered longs always fits in an unsigned long
+        return timestamp > previous && Long.compareUnsigned(timestamp - previous, maxGapInUnits) > 0;
+      }, i -> toInstant(actual.get(base + i)));
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldNotHaveGapGreaterThan(size, maxGap, offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual timestamps are between the given instants, bounds included.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatEpochMillis(1000, 2000).areAllBetween(Instant.ofEpochSecond(1), Instant.ofEpochSecond(2));
+   * </pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual timestamps are {@code null}.
+   * @throws IllegalArgumentException if start or end is {@code null}.
+   * @throws AssertionError if any actual timestamp is before start or after end.
+   */
+  public EpochTimestampsAssert areAllBetween(Instant start, Instant end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      if (start == null || end == null) {
+        throw new IllegalArgumentException("The bounds of the range should not be null");
+      }
+      Instant firstTimestamp = toInstant(Long.MIN_VALUE);
+      // bounds out of the timestamps range are saturated, a range entirely out of it contains no timestamp at all
+      boolean isOutOfRange = start.isAfter(toInstant(Long.MAX_VALUE)) || end.isBefore(firstTimestamp);
+      long startFloor = toUnitsFloor(start.getEpochSecond(), start.getNano());
+      // the first timestamp not before start, a start saturated to Long.MIN_VALUE must not be rounded up
+      boolean startIsTruncated = isOutOfRange || start.isBefore(firstTimestamp) || start.getNano() % nanosPerUnit == 0;
+      long startInUnits = startIsTruncated ? startFloor : startFloor + 1;
+      long endInUnits = toUnitsFloor(end.getEpochSecond(), end.getNano());
+      int base = actual.position();
+      int size = actual.remaining();
+      Map<Integer, Instant> offenders = offenders(size, parallel, i -> {
+        long timestamp = actual.get(base + i);
+        return isOutOfRange || timestamp < startInUnits || timestamp > endInUnits;
+      }, i -> toInstant(actual.get(base + i)));
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldBeBetween(size, start, end, offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual timestamps are equal to the given {@link ZonedDateTime} once both truncated to the
+   * given unit, timestamps are seen as date-times <b>in the given ZonedDateTime's {@link ZoneId}</b>, see
+   * {@link ZonedDateTimeAssert#isEqualToTruncatedTo(ZonedDateTime, ChronoUnit)}.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * // 2000-01-01T00:00Z and 2000-01-01T23:59:59Z are on the same day in UTC
+   * assertThatEpochMillis(946684800000L, 946771199000L).areAllEqualToTruncatedTo(parse("2000-01-01T12:00:00Z"), DAYS);
+   * </pre>
+   *
+   * @param other the given {@link ZonedDateTime}.
+   * @param truncationUnit the unit date-times are truncated to.
+   * @return this assertion object.
+   * @throws AssertionError if the actual timestamps are {@code null}.
+   * @throws IllegalArgumentException if other {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given unit is {@code null} or not supported.
+   * @throws AssertionError if any actual timestamp is not equal to the given date-time once truncated to the given
+   *           unit.
+   */
+  public EpochTimestampsAssert areAllEqualToTruncatedTo(ZonedDateTime other, ChronoUnit truncationUnit) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllEqualToTruncatedTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      if (other == null) {
+        throw new IllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+      }
+      checkIsSupportedTruncationUnit(truncationUnit);
+      ZoneId zone = other.getZone();
+      long otherFields = packFields(other);
+      int otherNano = other.getNano();
+      int base = actual.position();
+      int size = actual.remaining();
+      Map<Integer, ZonedDateTime> offenders = offenders(size, parallel, i -> {
+        long timestamp = actual.get(base + i);
+        long epochSecond = Math.floorDiv(timestamp, unitsPerSecond);
+        int nano = (int) Math.floorMod(timestamp, unitsPerSecond) * nanosPerUnit;
+        long fields = packFieldsOfLocalEpochSecond(epochSecond + offsetSecondsAt(zone, epochSecond));
+        return !areEqualTruncatedTo(fields, nano, otherFields, otherNano, truncationUnit);
+      }, i -> toInstant(actual.get(base + i)).atZone(zone));
+      if (offenders != null) {
+        throw Failures.instance().failure(info,
+                                          elementsShouldBeEqualTruncatedTo(size, other, truncationUnit, offenders));
+      }
+      return this;
+    }
+  }
+
+  private Instant toInstant(long timestamp) {
+    return Instant.ofEpochSecond(Math.floorDiv(timestamp, unitsPerSecond),
+                                 Math.floorMod(timestamp, unitsPerSecond) * nanosPerUnit);
+  }
+
+  /**
+   * @return the given instant in timestamp unit rounded down, saturated to Long.MIN_VALUE/MAX_VALUE on overflow.
+   */
+  private long toUnitsFloor(long epochSecond, int nano) {
+    try {
+      return Math.addExact(Math.multiplyExact(epochSecond, unitsPerSecond), nano / nanosPerUnit);
+    } catch (ArithmeticException e) {
+      return epochSecond < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+}
@@ -12,8 +12,14 @@
  */
 package org.assertj.core8.api;
 
+import static org.assertj.core.error.ShouldBe.shouldBe;
+
 import java.util.function.IntPredicate;
 
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
 /**
  * IntegerAssert class with Java 8 methods
  * @author arothkopf
@@ -30,12 +36,39 @@ public class IntegerAssert extends org.assertj.core.api.IntegerAssert {
   }
 
   /**
-   * Handle a lambda as a condition
+   * Handle a lambda as a condition, evaluated on the primitive value: no boxing and no {@link IntCondition} is
+   * created unless the assertion fails.
    * @param lambda
-   * @return
+   * @return this assertion object
+   */
+  public IntegerAssert is(IntPredicate lambda) {
+	try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "is")) {
+		Objects.instance().assertNotNull(info, actual);
+		if (!lambda.test(actual)) {
+			throw Failures.instance().failure(info, shouldBe(actual, Lambdas.toCondition(lambda)));
+		}
+		return this;
+	}
+  }
+
+  /**
+   * Verifies that the actual value satisfies the given condition, evaluated on the primitive value without boxing.
+   * @param condition the given condition.
+   * @return this assertion object
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws AssertionError if the actual value is {@code null} or does not satisfy the given condition.
    */
-  public org.assertj.core.api.IntegerAssert is(IntPredicate lambda) {
-	return super.is(Lambdas.toCondition(lambda));
+  public IntegerAssert is(IntCondition condition) {
+	try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "is")) {
+		if (condition == null) {
+			throw new NullPointerException("The condition to evaluate should not be null");
+		}
+		Objects.instance().assertNotNull(info, actual);
+		if (!condition.matches(actual.intValue())) {
+			throw Failures.instance().failure(info, shouldBe(actual, condition));
+		}
+		return this;
+	}
   }
 
 }
@@ -12,7 +12,9 @@
  */
 package org.assertj.core8.api;
 
+import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.Condition;
@@ -43,12 +45,25 @@ public class Lambdas {
    * @param lambda
    * @return Condition which tests the predicate
    */
-  public static Condition<Integer> toCondition(final IntPredicate lambda) {
-	return new Condition<Integer>() {
-	  @Override
-	  public boolean matches(final Integer value) {
-		return lambda.test(value);
-	  }
-	};
+  public static IntCondition toCondition(final IntPredicate lambda) {
+	return new IntCondition(lambda);
+  }
+
+  /**
+   * Conversion from lambda to Condition for long
+   * @param lambda
+   * @return Condition which tests the predicate
+   */
+  public static LongCondition toCondition(final LongPredicate lambda) {
+	return new LongCondition(lambda);
+  }
+
+  /**
+   * Conversion from lambda to Condition for double
+   * @param lambda
+   * @return Condition which tests the predicate
+   */
+  public static DoubleCondition toCondition(final DoublePredicate lambda) {
+	return new DoubleCondition(lambda);
   }
 }
@@ -13,19 +13,41 @@
 package org.assertj.core8.api;
 
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
-
+import org.assertj.core8.data.LocalDateTimeInterval;
+import org.assertj.core8.data.LocalDateTimeSet;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.DateTimeParseCache;
+import org.assertj.core8.internal.DateTimes;
+import org.assertj.core8.internal.Failures;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
+import static org.assertj.core.error.ShouldNotBeIn.shouldNotBeIn;
 import static org.assertj.core8.error.ShouldBeAfter.shouldBeAfter;
 import static org.assertj.core8.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
 import static org.assertj.core8.error.ShouldBeBefore.shouldBeBefore;
 import static org.assertj.core8.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.core8.error.ShouldBeBetween.shouldBeBetween;
+import static org.assertj.core8.error.ShouldBeCloseTo.shouldBeCloseTo;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringHours.shouldBeEqualIgnoringHours;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringMinutes.shouldBeEqualIgnoringMinutes;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringNanos.shouldBeEqualIgnoringNanos;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringSeconds.shouldBeEqualIgnoringSeconds;
+import static org.assertj.core8.error.ShouldBeEqualTruncatedTo.shouldBeEqualTruncatedTo;
+import static org.assertj.core8.internal.DateTimes.areWithin;
+import static org.assertj.core8.internal.DateTimes.checkIsSupportedTruncationUnit;
+import static org.assertj.core8.internal.DateTimes.checkIsValidInterval;
+import static org.assertj.core8.internal.DateTimes.checkIsValidTolerance;
+import static org.assertj.core8.internal.DateTimes.packFields;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.SECONDS;
 
 /**
  * Assertions for {@link LocalDateTime} type from new Date &amp; Time API introduced in Java 8.
@@ -69,12 +91,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    * @throws AssertionError if the actual {@code LocalDateTime} is not strictly before the given one.
    */
   public LocalDateTimeAssert isBefore(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBefore")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!actual.isBefore(other)) {
+        throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -98,8 +122,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           from given String.
    */
   public LocalDateTimeAssert isBefore(String localDateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isBefore(LocalDateTime.parse(localDateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBefore")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
+      return isBefore(parseLocalDateTime(localDateTimeAsString));
+    }
   }
 
   /**
@@ -120,12 +146,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    * @throws AssertionError if the actual {@code LocalDateTime} is not before or equals to the given one.
    */
   public LocalDateTimeAssert isBeforeOrEqualTo(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBeforeOrEqualTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (actual.isAfter(other)) {
+        throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -151,8 +179,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           built from given String.
    */
   public LocalDateTimeAssert isBeforeOrEqualTo(String localDateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isBeforeOrEqualTo(LocalDateTime.parse(localDateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBeforeOrEqualTo")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
+      return isBeforeOrEqualTo(parseLocalDateTime(localDateTimeAsString));
+    }
   }
 
   /**
@@ -173,12 +203,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    * @throws AssertionError if the actual {@code LocalDateTime} is not after or equals to the given one.
    */
   public LocalDateTimeAssert isAfterOrEqualTo(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfterOrEqualTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (actual.isBefore(other)) {
+        throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -204,8 +236,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           built from given String.
    */
   public LocalDateTimeAssert isAfterOrEqualTo(String localDateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isAfterOrEqualTo(LocalDateTime.parse(localDateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfterOrEqualTo")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
+      return isAfterOrEqualTo(parseLocalDateTime(localDateTimeAsString));
+    }
   }
 
   /**
@@ -224,12 +258,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    * @throws AssertionError if the actual {@code LocalDateTime} is not strictly after the given one.
    */
   public LocalDateTimeAssert isAfter(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfter")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!actual.isAfter(other)) {
+        throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -253,8 +289,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           from given String.
    */
   public LocalDateTimeAssert isAfter(String localDateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
-    return isAfter(LocalDateTime.parse(localDateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfter")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(localDateTimeAsString);
+      return isAfter(parseLocalDateTime(localDateTimeAsString));
+    }
   }
 
   /**
@@ -278,8 +316,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           given String.
    */
   public LocalDateTimeAssert isEqualTo(String dateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isEqualTo(LocalDateTime.parse(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualTo")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isEqualTo(parseLocalDateTime(dateTimeAsString));
+    }
   }
 
   /**
@@ -303,8 +343,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           String.
    */
   public LocalDateTimeAssert isNotEqualTo(String dateTimeAsString) {
-    assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isNotEqualTo(LocalDateTime.parse(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotEqualTo")) {
+      assertLocalDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isNotEqualTo(parseLocalDateTime(dateTimeAsString));
+    }
   }
 
   /**
@@ -328,8 +370,10 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           Strings.
    */
   public LocalDateTimeAssert isIn(String... dateTimesAsString) {
-    checkIsNotNullAndNotEmpty(dateTimesAsString);
-    return isIn(convertToLocalDateTimeArray(dateTimesAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isIn")) {
+      checkIsNotNullAndNotEmpty(dateTimesAsString);
+      return isIn(convertToLocalDateTimeArray(dateTimesAsString));
+    }
   }
 
   /**
@@ -353,14 +397,82 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           Strings.
    */
   public LocalDateTimeAssert isNotIn(String... dateTimesAsString) {
-    checkIsNotNullAndNotEmpty(dateTimesAsString);
-    return isNotIn(convertToLocalDateTimeArray(dateTimesAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotIn")) {
+      checkIsNotNullAndNotEmpty(dateTimesAsString);
+      return isNotIn(convertToLocalDateTimeArray(dateTimesAsString));
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link LocalDateTime} is in the given {@link LocalDateTimeSet}.
+   * <p>
+   * The given set being indexed once for all, this assertion runs in constant time whatever the number of expected
+   * values, build the {@link LocalDateTimeSet} once and reuse it to check many values against the same large set.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * LocalDateTimeSet slots = LocalDateTimeSet.of(LocalDateTime.parse("1999-12-31T23:59:59"),
+   *                                               LocalDateTime.parse("2000-01-01T00:00:00"));
+   * assertThat(LocalDateTime.parse("2000-01-01T00:00:00")).isIn(slots);
+   * </pre>
+   *
+   * @param expected the {@link LocalDateTimeSet} to look the actual value in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if given {@link LocalDateTimeSet} is null or empty.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in the given {@link LocalDateTimeSet}.
+   */
+  public LocalDateTimeAssert isIn(LocalDateTimeSet expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isIn")) {
+      checkIsNotNullAndNotEmpty(expected);
+      Objects.instance().assertNotNull(info, actual);
+      if (!expected.contains(actual)) {
+        throw Failures.instance().failure(info, shouldBeIn(actual, expected));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link LocalDateTime} is not in the given {@link LocalDateTimeSet}.
+   * <p>
+   * The given set being indexed once for all, this assertion runs in constant time whatever the number of expected
+   * values, build the {@link LocalDateTimeSet} once and reuse it to check many values against the same large set.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * LocalDateTimeSet slots = LocalDateTimeSet.of(LocalDateTime.parse("1999-12-31T23:59:59"),
+   *                                               LocalDateTime.parse("2000-01-01T00:00:00"));
+   * assertThat(LocalDateTime.parse("2000-01-02T00:00:00")).isNotIn(slots);
+   * </pre>
+   *
+   * @param expected the {@link LocalDateTimeSet} the actual value should not be in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if given {@link LocalDateTimeSet} is null or empty.
+   * @throws AssertionError if the actual {@code LocalDateTime} is in the given {@link LocalDateTimeSet}.
+   */
+  public LocalDateTimeAssert isNotIn(LocalDateTimeSet expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotIn")) {
+      checkIsNotNullAndNotEmpty(expected);
+      Objects.instance().assertNotNull(info, actual);
+      if (expected.contains(actual)) {
+        throw Failures.instance().failure(info, shouldNotBeIn(actual, expected));
+      }
+      return this;
+    }
+  }
+
+  private static LocalDateTime parseLocalDateTime(String localDateTimeAsString) {
+    return DateTimeParseCache.instance().parseLocalDateTime(localDateTimeAsString);
   }
 
   private static Object[] convertToLocalDateTimeArray(String... dateTimesAsString) {
     LocalDateTime[] dates = new LocalDateTime[dateTimesAsString.length];
     for (int i = 0; i < dateTimesAsString.length; i++) {
-      dates[i] = LocalDateTime.parse(dateTimesAsString[i]);
+      dates[i] = parseLocalDateTime(dateTimesAsString[i]);
     }
     return dates;
   }
@@ -374,6 +486,15 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
     }
   }
 
+  private static void checkIsNotNullAndNotEmpty(LocalDateTimeSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("The given LocalDateTimeSet should not be null");
+    }
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException("The given LocalDateTimeSet should not be empty");
+    }
+  }
+
   /**
    * Check that the {@link LocalDateTime} string representation to compare actual {@link LocalDateTime} to is not null,
    * otherwise throws a {@link IllegalArgumentException} with an explicit message
@@ -431,12 +552,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    * @throws AssertionError if the actual {@code LocalDateTime} is are not equal with nanoseconds ignored.
    */
   public LocalDateTimeAssert isEqualToIgnoringNanos(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringNanos(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringNanos(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringNanos")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!areEqualTruncatedTo(actual, other, SECONDS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringNanos(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -471,12 +594,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           ignored.
    */
   public LocalDateTimeAssert isEqualToIgnoringSeconds(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringSeconds(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringSeconds")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!areEqualTruncatedTo(actual, other, MINUTES)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -511,12 +636,14 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           fields.
    */
   public LocalDateTimeAssert isEqualToIgnoringMinutes(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMinutes(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringMinutes")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!areEqualTruncatedTo(actual, other, HOURS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -551,79 +678,260 @@ public class LocalDateTimeAssert extends AbstractAssert<LocalDateTimeAssert, Loc
    *           ignored.
    */
   public LocalDateTimeAssert isEqualToIgnoringHours(LocalDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertLocalDateTimeParameterIsNotNull(other);
-    if (!haveSameYearMonthAndDayOfMonth(actual, other)) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringHours")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      if (!areEqualTruncatedTo(actual, other, DAYS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
-   * Returns true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   * otherwise.
+   * Verifies that actual and given {@code LocalDateTime} are equal once both truncated to the given unit, that is they
+   * have the same fields down to the given unit (smaller fields are ignored in comparison), e.g. truncated to
+   * {@link ChronoUnit#MINUTES} they must have same year, month, day, hour and minute fields.
+   * <p>
+   * This is the generalization of {@link #isEqualToIgnoringNanos(LocalDateTime)} ({@code SECONDS}),
+   * {@link #isEqualToIgnoringSeconds(LocalDateTime)} ({@code MINUTES}),
+   * {@link #isEqualToIgnoringMinutes(LocalDateTime)} ({@code HOURS}) and
+   * {@link #isEqualToIgnoringHours(LocalDateTime)} ({@code DAYS}), supported units are {@code NANOS}, {@code MICROS},
+   * {@code MILLIS}, {@code SECONDS}, {@code MINUTES}, {@code HOURS}, {@code DAYS}, {@code MONTHS} and {@code YEARS}.
+   * <p>
+   * Code example :
    * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   *         otherwise.
+   * <pre>
+   * // successful assertions
+   * LocalDateTime localDateTime1 = LocalDateTime.of(2000, 1, 1, 23, 50, 0, 123_000_000);
+   * LocalDateTime localDateTime2 = LocalDateTime.of(2000, 1, 1, 23, 50, 0, 123_456_789);
+   * assertThat(localDateTime1).isEqualToTruncatedTo(localDateTime2, ChronoUnit.MILLIS)
+   *                           .isEqualToTruncatedTo(localDateTime2.withDayOfMonth(20), ChronoUnit.MONTHS);
+   * 
+   * // failing assertions (even if time difference is only 1ns)
+   * LocalDateTime localDateTimeA = LocalDateTime.of(2000, 1, 1, 0, 0, 0, 0);
+   * LocalDateTime localDateTimeB = LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_999);
+   * assertThat(localDateTimeA).isEqualToTruncatedTo(localDateTimeB, ChronoUnit.YEARS);
+   * </pre>
+   * 
+   * @param other the given {@link LocalDateTime}.
+   * @param unit the unit both date-times are truncated to before comparison.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given unit is {@code null} or not supported.
+   * @throws AssertionError if the actual {@code LocalDateTime} and the given one are not equal once truncated to the
+   *           given unit.
    */
-  private static boolean areEqualIgnoringNanos(LocalDateTime actual, LocalDateTime other) {
-    return areEqualIgnoringSeconds(actual, other) && actual.getSecond() == other.getSecond();
+  public LocalDateTimeAssert isEqualToTruncatedTo(LocalDateTime other, ChronoUnit unit) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToTruncatedTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      checkIsSupportedTruncationUnit(unit);
+      if (!areEqualTruncatedTo(actual, other, unit)) {
+        throw Failures.instance().failure(info, shouldBeEqualTruncatedTo(actual, other, unit));
+      }
+      return this;
+    }
   }
 
   /**
-   * Returns true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
+   * Verifies that the actual {@code LocalDateTime} is close to the given one, that is the duration between both
+   * date-times is less than or equal to the given tolerance, whatever their order.
+   * <p>
+   * The distance between both date-times is computed from their epoch second and nano of second, no
+   * {@link Duration} is created unless the assertion fails.
+   * <p>
+   * Code example :
    * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
+   * <pre>
+   * LocalDateTime expected = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+   * // successful assertions
+   * assertThat(LocalDateTime.of(2000, 1, 1, 0, 0, 0, 50_000_000)).isCloseTo(expected, Duration.ofMillis(50));
+   * assertThat(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 950_000_000)).isCloseTo(expected, Duration.ofMillis(50));
+   * 
+   * // failing assertion
+   * assertThat(LocalDateTime.of(2000, 1, 1, 0, 0, 0, 51_000_000)).isCloseTo(expected, Duration.ofMillis(50));
+   * </pre>
+   * 
+   * @param other the given {@link LocalDateTime}.
+   * @param tolerance the maximum duration between both date-times.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given tolerance is {@code null} or negative.
+   * @throws AssertionError if the duration between the actual {@code LocalDateTime} and the given one is greater than
+   *           the given tolerance.
    */
-  private static boolean areEqualIgnoringSeconds(LocalDateTime actual, LocalDateTime other) {
-    return areEqualIgnoringMinutes(actual, other) && actual.getMinute() == other.getMinute();
+  public LocalDateTimeAssert isCloseTo(LocalDateTime other, Duration tolerance) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isCloseTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertLocalDateTimeParameterIsNotNull(other);
+      checkIsValidTolerance(tolerance);
+      long epochSecond = actual.toEpochSecond(UTC);
+      long otherEpochSecond = other.toEpochSecond(UTC);
+      if (!areWithin(epochSecond, actual.getNano(), otherEpochSecond, other.getNano(), tolerance)) {
+        Duration difference = Duration.ofSeconds(epochSecond - otherEpochSecond, actual.getNano() - other.getNano());
+        throw Failures.instance().failure(info, shouldBeCloseTo(actual, other, tolerance, difference.abs()));
+      }
+      return this;
+    }
   }
 
   /**
-   * Returns true if both datetime are in the same year, month, day of month and hour, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month and hour, false otherwise.
+   * Verifies that the actual {@link LocalDateTime} is in the interval defined by the given bounds, both included.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+   * LocalDateTime end = LocalDateTime.of(2000, 1, 2, 0, 0);
+   * // successful assertions
+   * assertThat(start).isBetween(start, end);
+   * assertThat(LocalDateTime.of(2000, 1, 1, 12, 0)).isBetween(start, end);
+   *
+   * // failing assertion
+   * assertThat(LocalDateTime.of(2000, 1, 2, 0, 0, 0, 1)).isBetween(start, end);
+   * </pre>
+   *
+   * @param start the start of the interval, included.
+   * @param end the end of the interval, included.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in the given interval.
    */
-  private static boolean areEqualIgnoringMinutes(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYearMonthAndDayOfMonth(actual, other) && actual.getHour() == other.getHour();
+  public LocalDateTimeAssert isBetween(LocalDateTime start, LocalDateTime end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBetween")) {
+      return isInInterval(start, true, end, true);
+    }
   }
 
   /**
-   * Returns true if both datetime are in the same year, month and day of month, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, false otherwise
+   * Verifies that the actual {@link LocalDateTime} is in the interval defined by the given bounds, both excluded.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+   * LocalDateTime end = LocalDateTime.of(2000, 1, 2, 0, 0);
+   * // successful assertion
+   * assertThat(LocalDateTime.of(2000, 1, 1, 12, 0)).isStrictlyBetween(start, end);
+   *
+   * // failing assertion
+   * assertThat(start).isStrictlyBetween(start, end);
+   * </pre>
+   *
+   * @param start the start of the interval, excluded.
+   * @param end the end of the interval, excluded.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not strictly between the given bounds.
    */
-  private static boolean haveSameYearMonthAndDayOfMonth(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYearAndMonth(actual, other) && actual.getDayOfMonth() == other.getDayOfMonth();
+  public LocalDateTimeAssert isStrictlyBetween(LocalDateTime start, LocalDateTime end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isStrictlyBetween")) {
+      return isInInterval(start, false, end, false);
+    }
   }
 
   /**
-   * Returns true if both datetime are in the same year and month, false otherwise.
-   * 
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year and month, false otherwise
+   * Verifies that the actual {@link LocalDateTime} is in the given {@link LocalDateTimeInterval}, its bounds being
+   * included or not depending on how the interval was created.
+   * <p>
+   * The bounds of the interval being converted once for all when it is created, build the interval once and reuse it to
+   * check many values against the same bounds.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * LocalDateTimeInterval interval = LocalDateTimeInterval.halfOpen(LocalDateTime.of(2000, 1, 1, 0, 0),
+   *                                                                 LocalDateTime.of(2000, 1, 2, 0, 0));
+   * // successful assertion
+   * assertThat(LocalDateTime.of(2000, 1, 1, 12, 0)).isBetween(interval);
+   *
+   * // failing assertion
+   * assertThat(interval.end()).isBetween(interval);
+   * </pre>
+   *
+   * @param interval the interval the actual value should be in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not in the given interval.
    */
-  private static boolean haveSameYearAndMonth(LocalDateTime actual, LocalDateTime other) {
-    return haveSameYear(actual, other) && actual.getMonth() == other.getMonth();
+  public LocalDateTimeAssert isBetween(LocalDateTimeInterval interval) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      checkIsNotNull(interval);
+      if (!interval.contains(actual)) {
+        throw Failures.instance().failure(info, shouldBeBetween(actual, interval.start(), interval.end(),
+                                                                interval.includesStart(), interval.includesEnd()));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link LocalDateTime} is strictly between the bounds of the given
+   * {@link LocalDateTimeInterval}, both bounds being excluded whatever the way the interval was created.
+   * <p>
+   * The bounds of the interval being converted once for all when it is created, build the interval once and reuse it to
+   * check many values against the same bounds.
+   *
+   * @param interval the interval the actual value should be strictly in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual {@code LocalDateTime} is not strictly between the bounds of the given
+   *           interval.
+   */
+  public LocalDateTimeAssert isStrictlyBetween(LocalDateTimeInterval interval) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isStrictlyBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      checkIsNotNull(interval);
+      if (!interval.containsStrictly(actual)) {
+        throw Failures.instance().failure(info,
+                                          shouldBeBetween(actual, interval.start(), interval.end(), false, false));
+      }
+      return this;
+    }
+  }
+
+  private LocalDateTimeAssert isInInterval(LocalDateTime start, boolean includesStart, LocalDateTime end,
+                                           boolean includesEnd) {
+    Objects.instance().assertNotNull(info, actual);
+    if (start == null) {
+      throw new IllegalArgumentException("The start of the interval should not be null");
+    }
+    if (end == null) {
+      throw new IllegalArgumentException("The end of the interval should not be null");
+    }
+    long startEpochSecond = start.toEpochSecond(UTC);
+    long endEpochSecond = end.toEpochSecond(UTC);
+    checkIsValidInterval(startEpochSecond, start.getNano(), endEpochSecond, end.getNano());
+    if (!DateTimes.isInInterval(actual.toEpochSecond(UTC), actual.getNano(), startEpochSecond, start.getNano(),
+                                includesStart, endEpochSecond, end.getNano(), includesEnd)) {
+      throw Failures.instance().failure(info, shouldBeBetween(actual, start, end, includesStart, includesEnd));
+    }
+    return this;
+  }
+
+  private static void checkIsNotNull(LocalDateTimeInterval interval) {
+    if (interval == null) {
+      throw new IllegalArgumentException("The given LocalDateTimeInterval should not be null");
+    }
   }
 
   /**
-   * Returns true if both datetime are in the same year, false otherwise.
+   * Returns true if both datetime are equal once truncated to the given unit.
    * 
    * @param actual the actual datetime. expected not be null
    * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, false otherwise
+   * @param unit the unit to truncate datetimes to. expected to be supported
+   * @return true if both datetime are equal once truncated to the given unit, false otherwise.
    */
-  private static boolean haveSameYear(LocalDateTime actual, LocalDateTime other) {
-    return actual.getYear() == other.getYear();
+  private static boolean areEqualTruncatedTo(LocalDateTime actual, LocalDateTime other, ChronoUnit unit) {
+    return DateTimes.areEqualTruncatedTo(packFields(actual), actual.getNano(), packFields(other), other.getNano(), unit);
   }
-}
\ No newline at end of file
+}
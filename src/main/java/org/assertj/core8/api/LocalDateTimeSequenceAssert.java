@@ -0,0 +1,45 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+
+/**
+ * Assertions on a sequence of {@link LocalDateTime}s checked in constant memory while being iterated, see
+ * {@link AbstractDateTimeSequenceAssert}.
+ */
+public class LocalDateTimeSequenceAssert
+    extends AbstractDateTimeSequenceAssert<LocalDateTimeSequenceAssert, LocalDateTime> {
+
+  /**
+   * Creates a new <code>{@link LocalDateTimeSequenceAssert}</code>.
+   *
+   * @param actual the iterator over the date-times to verify
+   */
+  protected LocalDateTimeSequenceAssert(Iterator<? extends LocalDateTime> actual) {
+    super(actual, LocalDateTimeSequenceAssert.class);
+  }
+
+  @Override
+  protected long epochSecondOf(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  @Override
+  protected int nanoOf(LocalDateTime dateTime) {
+    return dateTime.getNano();
+  }
+
+}
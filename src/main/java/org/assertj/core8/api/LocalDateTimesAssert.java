@@ -0,0 +1,238 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.BulkChecks;
+import org.assertj.core8.internal.Failures;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core8.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeAfter;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeBefore;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeBetween;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeEqualIgnoringSeconds;
+import static org.assertj.core8.internal.BulkChecks.offenders;
+import static org.assertj.core8.internal.DateTimes.areEqualTruncatedTo;
+import static org.assertj.core8.internal.DateTimes.packFields;
+
+/**
+ * Assertions on all the elements of a group of {@link LocalDateTime}s.
+ * <p>
+ * Each assertion checks every element in a single pass without creating an assertion object per element, when it
+ * fails the error message reports all the offending elements with their index. {@code null} elements never satisfy an
+ * assertion.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * assertThatLocalDateTimes(executionTimes).areAllAfter(start).areAllBefore(end);
+ * </pre>
+ */
+public class LocalDateTimesAssert extends AbstractAssert<LocalDateTimesAssert, LocalDateTime[]> {
+
+  private boolean parallel;
+
+  /**
+   * Creates a new <code>{@link LocalDateTimesAssert}</code>.
+   *
+   * @param actual the actual values to verify
+   */
+  protected LocalDateTimesAssert(LocalDateTime[] actual) {
+    super(actual, LocalDateTimesAssert.class);
+  }
+
+  /**
+   * Creates a new <code>{@link LocalDateTimesAssert}</code>, the given {@link Iterable} is copied once.
+   *
+   * @param actual the actual values to verify
+   */
+  protected LocalDateTimesAssert(Iterable<? extends LocalDateTime> actual) {
+    this(toArray(actual));
+  }
+
+  /**
+   * Checks the actual {@code LocalDateTime}s in parallel on the common {@link java.util.concurrent.ForkJoinPool} in the
+   * following assertions, groups of less than {@link BulkChecks#PARALLEL_THRESHOLD} elements are still checked
+   * sequentially.
+   * <p>
+   * Failures are the same as when checking sequentially: all the offending elements are reported in index order.
+   *
+   * @return this assertion object.
+   */
+  public LocalDateTimesAssert inParallel() {
+    parallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that all the actual {@code LocalDateTime}s are <b>strictly</b> before the given one.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatLocalDateTimes(parse("2000-01-01T23:59:59"), parse("2000-01-02T00:00:00"))
+   *     .areAllBefore(parse("2000-01-03T00:00:00"));
+   * </pre>
+   *
+   * @param other the given {@link LocalDateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime}s are {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws AssertionError if any of the actual {@code LocalDateTime}s is not strictly before the given one.
+   */
+  public LocalDateTimesAssert areAllBefore(LocalDateTime other) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllBefore")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      Map<Integer, LocalDateTime> offenders = offenders(actual.length, parallel, i -> {
+        LocalDateTime dateTime = actual[i];
+        return dateTime == null || !dateTime.isBefore(other);
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldBeBefore(actual.length, other, offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual {@code LocalDateTime}s are <b>strictly</b> after the given one.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatLocalDateTimes(parse("2000-01-01T23:59:59"), parse("2000-01-02T00:00:00"))
+   *     .areAllAfter(parse("2000-01-01T00:00:00"));
+   * </pre>
+   *
+   * @param other the given {@link LocalDateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime}s are {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws AssertionError if any of the actual {@code LocalDateTime}s is not strictly after the given one.
+   */
+  public LocalDateTimesAssert areAllAfter(LocalDateTime other) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllAfter")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      Map<Integer, LocalDateTime> offenders = offenders(actual.length, parallel, i -> {
+        LocalDateTime dateTime = actual[i];
+        return dateTime == null || !dateTime.isAfter(other);
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldBeAfter(actual.length, other, offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual {@code LocalDateTime}s are between the given ones, bounds included.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatLocalDateTimes(parse("2000-01-01T00:00:00"), parse("2000-01-02T00:00:00"))
+   *     .areAllBetween(parse("2000-01-01T00:00:00"), parse("2000-01-02T00:00:00"));
+   * </pre>
+   *
+   * @param start the start of the range, inclusive.
+   * @param end the end of the range, inclusive.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime}s are {@code null}.
+   * @throws IllegalArgumentException if start or end {@code LocalDateTime} is {@code null}.
+   * @throws AssertionError if any of the actual {@code LocalDateTime}s is before start or after end.
+   */
+  public LocalDateTimesAssert areAllBetween(LocalDateTime start, LocalDateTime end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(start);
+      assertDateTimeParameterIsNotNull(end);
+      Map<Integer, LocalDateTime> offenders = offenders(actual.length, parallel, i -> {
+        LocalDateTime dateTime = actual[i];
+        return dateTime == null || dateTime.isBefore(start) || dateTime.isAfter(end);
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldBeBetween(actual.length, start, end, offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual {@code LocalDateTime}s have same year, month, day, hour and minute fields as the given
+   * one (second and nanosecond fields are ignored in comparison), see
+   * {@link LocalDateTimeAssert#isEqualToIgnoringSeconds(LocalDateTime)}.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * assertThatLocalDateTimes(parse("2000-01-01T23:50:00"), parse("2000-01-01T23:50:59"))
+   *     .areAllEqualToIgnoringSeconds(parse("2000-01-01T23:50:10"));
+   * </pre>
+   *
+   * @param other the given {@link LocalDateTime}.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code LocalDateTime}s are {@code null}.
+   * @throws IllegalArgumentException if other {@code LocalDateTime} is {@code null}.
+   * @throws AssertionError if any of the actual {@code LocalDateTime}s is not equal to the given one with second and
+   *           nanosecond fields ignored.
+   */
+  public LocalDateTimesAssert areAllEqualToIgnoringSeconds(LocalDateTime other) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllEqualToIgnoringSeconds")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      long otherFields = packFields(other);
+      Map<Integer, LocalDateTime> offenders = offenders(actual.length, parallel, i -> {
+        LocalDateTime dateTime = actual[i];
+        return dateTime == null
+               || !areEqualTruncatedTo(packFields(dateTime), dateTime.getNano(), otherFields, other.getNano(), MINUTES);
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, elementsShouldBeEqualIgnoringSeconds(actual.length, other, offenders));
+      }
+      return this;
+    }
+  }
+
+  private static LocalDateTime[] toArray(Iterable<? extends LocalDateTime> dateTimes) {
+    if (dateTimes == null) {
+      return null;
+    }
+    if (dateTimes instanceof Collection) {
+      Collection<? extends LocalDateTime> collection = (Collection<? extends LocalDateTime>) dateTimes;
+      return collection.toArray(new LocalDateTime[collection.size()]);
+    }
+    List<LocalDateTime> list = new ArrayList<>();
+    for (LocalDateTime dateTime : dateTimes) {
+      list.add(dateTime);
+    }
+    return list.toArray(new LocalDateTime[list.size()]);
+  }
+
+  private static void assertDateTimeParameterIsNotNull(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      throw new IllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    }
+  }
+
+}
@@ -13,13 +13,19 @@
 package org.assertj.core8.api;
 
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
 
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.assertj.core8.error.OptionalShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
 import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainAnyOf;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainValueWithKey;
 
 /**
  * Assertions for {@link java.util.Optional}.
@@ -49,11 +55,13 @@ public class OptionalAssert<T> extends AbstractAssert<OptionalAssert<T>, Optiona
    * @return this assertion object.
    */
   public OptionalAssert<T> isPresent() {
-    isNotNull();
-    if (!actual.isPresent()) {
-      throw Failures.instance().failure(info, shouldBePresent());
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isPresent")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -72,11 +80,13 @@ public class OptionalAssert<T> extends AbstractAssert<OptionalAssert<T>, Optiona
    * @return this assertion object.
    */
   public OptionalAssert<T> isEmpty() {
-    isNotNull();
-    if (actual.isPresent()) {
-      throw Failures.instance().failure(info, shouldBeEmpty(actual));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      isNotNull();
+      if (actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBeEmpty(actual));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -98,16 +108,129 @@ public class OptionalAssert<T> extends AbstractAssert<OptionalAssert<T>, Optiona
    * @return this assertion object.
    */
   public OptionalAssert<T> contains(T expectedValue) {
-    isNotNull();
-    if (expectedValue == null) {
-      throw new IllegalArgumentException("The expected contained value should not be <null>.");
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "contains")) {
+      isNotNull();
+      if (expectedValue == null) {
+        throw new IllegalArgumentException("The expected contained value should not be <null>.");
+      }
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (!actual.get().equals(expectedValue)) {
+        throw Failures.instance().failure(info, shouldContain(actual, expectedValue));
+      }
+      return this;
     }
-    if (!actual.isPresent()) {
-      throw Failures.instance().failure(info, shouldContain(expectedValue));
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.Optional} contains a value equal to the value in argument according to
+   * the given comparator, {@code equals} is not called.
+   * <p>
+   * Useful when {@code equals} is expensive (e.g. deep comparison of nested collections) and a cheaper comparison is
+   * enough to identify the value.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(Optional.of("something")).contains("SOMETHING", String.CASE_INSENSITIVE_ORDER);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(Optional.of("something")).contains("something else", String.CASE_INSENSITIVE_ORDER);
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the expected value inside the {@link java.util.Optional}.
+   * @param comparator the comparator used to compare the actual value with the expected one.
+   * @return this assertion object.
+   */
+  public OptionalAssert<T> contains(T expectedValue, Comparator<? super T> comparator) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "contains")) {
+      isNotNull();
+      if (expectedValue == null) {
+        throw new IllegalArgumentException("The expected contained value should not be <null>.");
+      }
+      if (comparator == null) {
+        throw new IllegalArgumentException("The comparator should not be <null>.");
+      }
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (comparator.compare(actual.get(), expectedValue) != 0) {
+        throw Failures.instance().failure(info, shouldContain(actual, expectedValue, comparator));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.Optional} contains a value whose key, as returned by the given key
+   * extractor, is equal to the key in argument; only the keys are compared.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(Optional.of(order)).containsValueWithKey(Order::getId, order.getId());
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(Optional.of(order)).containsValueWithKey(Order::getId, otherOrder.getId());
+   * }</pre></blockquote>
+   *
+   * @param keyExtractor the function returning the key of the value inside the {@link java.util.Optional}.
+   * @param expectedKey the expected key of the value inside the {@link java.util.Optional}.
+   * @param <K> the type of the key.
+   * @return this assertion object.
+   */
+  public <K> OptionalAssert<T> containsValueWithKey(Function<? super T, ? extends K> keyExtractor, K expectedKey) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "containsValueWithKey")) {
+      isNotNull();
+      if (keyExtractor == null) {
+        throw new IllegalArgumentException("The key extractor should not be <null>.");
+      }
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      K actualKey = keyExtractor.apply(actual.get());
+      if (!java.util.Objects.equals(actualKey, expectedKey)) {
+        throw Failures.instance().failure(info, shouldContainValueWithKey(actual, expectedKey, actualKey));
+      }
+      return this;
     }
-    if (!actual.get().equals(expectedValue)) {
-      throw Failures.instance().failure(info, shouldContain(actual, expectedValue));
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.Optional} contains one of the values of the given set.
+   * <p>
+   * The value is looked up with {@link Set#contains(Object)}, a single hash lookup for a {@link java.util.HashSet}
+   * whatever the number of values.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(Optional.of("b")).containsAnyOf(new HashSet<>(Arrays.asList("a", "b", "c")));
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(Optional.of("d")).containsAnyOf(new HashSet<>(Arrays.asList("a", "b", "c")));
+   * }</pre></blockquote>
+   *
+   * @param expectedValues the values one of which is expected inside the {@link java.util.Optional}.
+   * @return this assertion object.
+   */
+  public OptionalAssert<T> containsAnyOf(Set<? extends T> expectedValues) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "containsAnyOf")) {
+      isNotNull();
+      if (expectedValues == null || expectedValues.isEmpty()) {
+        throw new IllegalArgumentException("The expected contained values should not be <null> or empty.");
+      }
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      if (!expectedValues.contains(actual.get())) {
+        throw Failures.instance().failure(info, shouldContainAnyOf(actual, expectedValues));
+      }
+      return this;
     }
-    return this;
   }
 }
@@ -0,0 +1,192 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.data.Offset;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+
+import static org.assertj.core8.error.OptionalShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContainCloseTo.shouldContainCloseTo;
+import static org.assertj.core8.error.OptionalShouldContainValueMatching.shouldContainValueMatching;
+
+/**
+ * Assertions for {@link java.util.OptionalDouble}.
+ * <p>
+ * The contained value is checked as a primitive {@code double}, it is never boxed unless the assertion fails.
+ */
+public class OptionalDoubleAssert extends AbstractAssert<OptionalDoubleAssert, OptionalDouble> {
+
+  protected OptionalDoubleAssert(OptionalDouble actual) {
+    super(actual, OptionalDoubleAssert.class);
+  }
+
+  /**
+   * Verifies that there is a value present in the actual {@link java.util.OptionalDouble}.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).isPresent();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.empty()).isPresent();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalDoubleAssert isPresent() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isPresent")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalDouble} is empty.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.empty()).isEmpty();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).isEmpty();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalDoubleAssert isEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      isNotNull();
+      if (actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBeEmpty(actual));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalDouble} contains the value in argument.
+   * <p>
+   * Values are compared with {@link Double#compare(double, double)}, so {@code NaN} is equal to itself and
+   * {@code 0.0} is not equal to {@code -0.0}.
+   *
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).hasValue(10.0);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(20.0)).hasValue(10.0);
+   *     assertThat(OptionalDouble.empty()).hasValue(10.0);
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the expected value inside the {@link java.util.OptionalDouble}.
+   * @return this assertion object.
+   */
+  public OptionalDoubleAssert hasValue(double expectedValue) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValue")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (Double.compare(actual.getAsDouble(), expectedValue) != 0) {
+        throw Failures.instance().failure(info, shouldContain(actual, expectedValue));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalDouble} contains a value close to the given one within the
+   * given offset, bounds included.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).hasValueCloseTo(10.0, offset(0.5));
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(20.0)).hasValueCloseTo(10.0, offset(0.5));
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the value the contained value should be close to.
+   * @param offset the maximum difference between the contained value and the expected one.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given offset is {@code null}.
+   */
+  public OptionalDoubleAssert hasValueCloseTo(double expectedValue, Offset<Double> offset) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueCloseTo")) {
+      if (offset == null) {
+        throw new IllegalArgumentException("The offset should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (!(Math.abs(actual.getAsDouble() - expectedValue) <= offset.value)) {
+        throw Failures.instance().failure(info, shouldContainCloseTo(actual, expectedValue, offset.value));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalDouble} contains a value matching the given predicate.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalDouble.of(10.0)).hasValueMatching(value -> value < 0);
+   *     assertThat(OptionalDouble.empty()).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * @param predicate the predicate the contained value should match.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given predicate is {@code null}.
+   */
+  public OptionalDoubleAssert hasValueMatching(DoublePredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueMatching")) {
+      if (predicate == null) {
+        throw new IllegalArgumentException("The predicate to evaluate should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      if (!predicate.test(actual.getAsDouble())) {
+        throw Failures.instance().failure(info, shouldContainValueMatching(actual));
+      }
+      return this;
+    }
+  }
+}
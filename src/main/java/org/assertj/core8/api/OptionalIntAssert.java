@@ -0,0 +1,189 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.data.Offset;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core8.error.OptionalShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContainCloseTo.shouldContainCloseTo;
+import static org.assertj.core8.error.OptionalShouldContainValueMatching.shouldContainValueMatching;
+
+/**
+ * Assertions for {@link java.util.OptionalInt}.
+ * <p>
+ * The contained value is checked as a primitive {@code int}, it is never boxed unless the assertion fails.
+ */
+public class OptionalIntAssert extends AbstractAssert<OptionalIntAssert, OptionalInt> {
+
+  protected OptionalIntAssert(OptionalInt actual) {
+    super(actual, OptionalIntAssert.class);
+  }
+
+  /**
+   * Verifies that there is a value present in the actual {@link java.util.OptionalInt}.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).isPresent();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalInt.empty()).isPresent();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalIntAssert isPresent() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isPresent")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalInt} is empty.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalInt.empty()).isEmpty();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).isEmpty();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalIntAssert isEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      isNotNull();
+      if (actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBeEmpty(actual));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalInt} contains the value in argument.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).hasValue(10);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(20)).hasValue(10);
+   *     assertThat(OptionalInt.empty()).hasValue(10);
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the expected value inside the {@link java.util.OptionalInt}.
+   * @return this assertion object.
+   */
+  public OptionalIntAssert hasValue(int expectedValue) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValue")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (actual.getAsInt() != expectedValue) {
+        throw Failures.instance().failure(info, shouldContain(actual, expectedValue));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalInt} contains a value close to the given one within the
+   * given offset, bounds included.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).hasValueCloseTo(10, offset(1));
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(20)).hasValueCloseTo(10, offset(1));
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the value the contained value should be close to.
+   * @param offset the maximum difference between the contained value and the expected one.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given offset is {@code null}.
+   */
+  public OptionalIntAssert hasValueCloseTo(int expectedValue, Offset<Integer> offset) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueCloseTo")) {
+      if (offset == null) {
+        throw new IllegalArgumentException("The offset should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      long difference = (long) actual.getAsInt() - expectedValue;
+      if (Math.abs(difference) > offset.value) {
+        throw Failures.instance().failure(info, shouldContainCloseTo(actual, expectedValue, offset.value));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalInt} contains a value matching the given predicate.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalInt.of(10)).hasValueMatching(value -> value < 0);
+   *     assertThat(OptionalInt.empty()).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * @param predicate the predicate the contained value should match.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given predicate is {@code null}.
+   */
+  public OptionalIntAssert hasValueMatching(IntPredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueMatching")) {
+      if (predicate == null) {
+        throw new IllegalArgumentException("The predicate to evaluate should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      if (!predicate.test(actual.getAsInt())) {
+        throw Failures.instance().failure(info, shouldContainValueMatching(actual));
+      }
+      return this;
+    }
+  }
+}
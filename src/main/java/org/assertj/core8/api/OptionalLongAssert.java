@@ -0,0 +1,191 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.data.Offset;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core8.error.OptionalShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContainCloseTo.shouldContainCloseTo;
+import static org.assertj.core8.error.OptionalShouldContainValueMatching.shouldContainValueMatching;
+
+/**
+ * Assertions for {@link java.util.OptionalLong}.
+ * <p>
+ * The contained value is checked as a primitive {@code long}, it is never boxed unless the assertion fails.
+ */
+public class OptionalLongAssert extends AbstractAssert<OptionalLongAssert, OptionalLong> {
+
+  protected OptionalLongAssert(OptionalLong actual) {
+    super(actual, OptionalLongAssert.class);
+  }
+
+  /**
+   * Verifies that there is a value present in the actual {@link java.util.OptionalLong}.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).isPresent();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalLong.empty()).isPresent();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalLongAssert isPresent() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isPresent")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalLong} is empty.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalLong.empty()).isEmpty();
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).isEmpty();
+   * }</pre></blockquote>
+   *
+   * @return this assertion object.
+   */
+  public OptionalLongAssert isEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      isNotNull();
+      if (actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBeEmpty(actual));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalLong} contains the value in argument.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).hasValue(10L);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(20L)).hasValue(10L);
+   *     assertThat(OptionalLong.empty()).hasValue(10L);
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the expected value inside the {@link java.util.OptionalLong}.
+   * @return this assertion object.
+   */
+  public OptionalLongAssert hasValue(long expectedValue) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValue")) {
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      if (actual.getAsLong() != expectedValue) {
+        throw Failures.instance().failure(info, shouldContain(actual, expectedValue));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalLong} contains a value close to the given one within the
+   * given offset, bounds included.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).hasValueCloseTo(10L, offset(1L));
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(20L)).hasValueCloseTo(10L, offset(1L));
+   * }</pre></blockquote>
+   *
+   * @param expectedValue the value the contained value should be close to.
+   * @param offset the maximum difference between the contained value and the expected one.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given offset is {@code null}.
+   */
+  public OptionalLongAssert hasValueCloseTo(long expectedValue, Offset<Long> offset) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueCloseTo")) {
+      if (offset == null) {
+        throw new IllegalArgumentException("The offset should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldContain(expectedValue));
+      }
+      long value = actual.getAsLong();
+      // the difference of two ordered longs always fits in an unsigned long, so this cannot overflow
+      long difference = value >= expectedValue ? value - expectedValue : expectedValue - value;
+      if (Long.compareUnsigned(difference, offset.value) > 0) {
+        throw Failures.instance().failure(info, shouldContainCloseTo(actual, expectedValue, offset.value));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link java.util.OptionalLong} contains a value matching the given predicate.
+   *
+   * <blockquote>Assertion will pass,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * <blockquote>Assertion will fail,
+   * <pre>{@code
+   *     assertThat(OptionalLong.of(10L)).hasValueMatching(value -> value < 0);
+   *     assertThat(OptionalLong.empty()).hasValueMatching(value -> value > 0);
+   * }</pre></blockquote>
+   *
+   * @param predicate the predicate the contained value should match.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if given predicate is {@code null}.
+   */
+  public OptionalLongAssert hasValueMatching(LongPredicate predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasValueMatching")) {
+      if (predicate == null) {
+        throw new IllegalArgumentException("The predicate to evaluate should not be null");
+      }
+      isNotNull();
+      if (!actual.isPresent()) {
+        throw Failures.instance().failure(info, shouldBePresent());
+      }
+      if (!predicate.test(actual.getAsLong())) {
+        throw Failures.instance().failure(info, shouldContainValueMatching(actual));
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.BulkChecks;
+import org.assertj.core8.internal.Failures;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core8.error.OptionalsShouldBe.optionalsShouldBeEmpty;
+import static org.assertj.core8.error.OptionalsShouldBe.optionalsShouldBePresent;
+import static org.assertj.core8.error.OptionalsShouldBe.optionalsShouldContain;
+import static org.assertj.core8.internal.BulkChecks.offenders;
+
+/**
+ * Assertions on all the elements of a group of {@link Optional}s.
+ * <p>
+ * Each assertion checks every {@code Optional} in a single pass without creating an {@link OptionalAssert} per
+ * element, when it fails the error message reports how many {@code Optional}s are present and empty and all the
+ * offending ones with their index. {@code null} elements never satisfy an assertion.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * assertThatOptionals(service.findAll(ids)).areAllPresent();
+ * </pre>
+ *
+ * @param <T> type of the value contained in the {@link Optional}s.
+ */
+public class OptionalsAssert<T> extends AbstractAssert<OptionalsAssert<T>, Optional<? extends T>[]> {
+
+  private boolean parallel;
+
+  /**
+   * Creates a new <code>{@link OptionalsAssert}</code>, the given {@link Iterable} is copied once.
+   *
+   * @param actual the actual values to verify
+   */
+  protected OptionalsAssert(Iterable<? extends Optional<? extends T>> actual) {
+    super(toArray(actual), OptionalsAssert.class);
+  }
+
+  /**
+   * Creates a new <code>{@link OptionalsAssert}</code>, the given {@link Stream} is consumed once.
+   *
+   * @param actual the actual values to verify
+   */
+  protected OptionalsAssert(Stream<? extends Optional<? extends T>> actual) {
+    super(toArray(actual), OptionalsAssert.class);
+  }
+
+  /**
+   * Checks the actual {@code Optional}s in parallel on the common {@link java.util.concurrent.ForkJoinPool} in the
+   * following assertions, groups of less than {@link BulkChecks#PARALLEL_THRESHOLD} elements are still checked
+   * sequentially.
+   * <p>
+   * Failures are the same as when checking sequentially: all the offending elements are reported in index order.
+   *
+   * @return this assertion object.
+   */
+  public OptionalsAssert<T> inParallel() {
+    parallel = true;
+    return this;
+  }
+
+  /**
+   * Verifies that all the actual {@code Optional}s contain a value.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * // assertion will pass
+   * assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.of("b"))).areAllPresent();
+   *
+   * // assertion will fail
+   * assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.empty())).areAllPresent();
+   * </pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Optional}s are {@code null}.
+   * @throws AssertionError if any of the actual {@code Optional}s is empty.
+   */
+  public OptionalsAssert<T> areAllPresent() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllPresent")) {
+      Objects.instance().assertNotNull(info, actual);
+      Map<Integer, Optional<? extends T>> offenders = offenders(actual.length, parallel, i -> {
+        Optional<? extends T> optional = actual[i];
+        return optional == null || !optional.isPresent();
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, optionalsShouldBePresent(actual.length,
+                                                                         actual.length - offenders.size(), offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual {@code Optional}s are empty.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * // assertion will pass
+   * assertThatOptionals(Arrays.asList(Optional.empty(), Optional.empty())).areAllEmpty();
+   *
+   * // assertion will fail
+   * assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.empty())).areAllEmpty();
+   * </pre>
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Optional}s are {@code null}.
+   * @throws AssertionError if any of the actual {@code Optional}s contains a value.
+   */
+  public OptionalsAssert<T> areAllEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "areAllEmpty")) {
+      Objects.instance().assertNotNull(info, actual);
+      Map<Integer, Optional<? extends T>> offenders = offenders(actual.length, parallel, i -> {
+        Optional<? extends T> optional = actual[i];
+        return optional == null || optional.isPresent();
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, optionalsShouldBeEmpty(actual.length, presentCount(), offenders));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that all the actual {@code Optional}s contain the given value.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * // assertion will pass
+   * assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.of("a"))).allContain("a");
+   *
+   * // assertion will fail
+   * assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.of("b"), Optional.empty())).allContain("a");
+   * </pre>
+   *
+   * @param expectedValue the value all the actual {@code Optional}s should contain.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code Optional}s are {@code null}.
+   * @throws IllegalArgumentException if the expected value is {@code null}.
+   * @throws AssertionError if any of the actual {@code Optional}s does not contain the given value.
+   */
+  public OptionalsAssert<T> allContain(T expectedValue) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "allContain")) {
+      Objects.instance().assertNotNull(info, actual);
+      if (expectedValue == null) {
+        throw new IllegalArgumentException("The expected contained value should not be <null>.");
+      }
+      Map<Integer, Optional<? extends T>> offenders = offenders(actual.length, parallel, i -> {
+        Optional<? extends T> optional = actual[i];
+        return optional == null || !optional.isPresent() || !optional.get().equals(expectedValue);
+      }, i -> actual[i]);
+      if (offenders != null) {
+        throw Failures.instance().failure(info, optionalsShouldContain(actual.length, expectedValue, presentCount(),
+                                                                       offenders));
+      }
+      return this;
+    }
+  }
+
+  private int presentCount() {
+    int presentCount = 0;
+    for (Optional<? extends T> optional : actual) {
+      if (optional != null && optional.isPresent()) {
+        presentCount++;
+      }
+    }
+    return presentCount;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Optional<? extends T>[] toArray(Iterable<? extends Optional<? extends T>> optionals) {
+    if (optionals == null) {
+      return null;
+    }
+    if (optionals instanceof Collection) {
+      Collection<? extends Optional<? extends T>> collection = (Collection<? extends Optional<? extends T>>) optionals;
+      return collection.toArray(new Optional[collection.size()]);
+    }
+    List<Optional<? extends T>> list = new ArrayList<>();
+    for (Optional<? extends T> optional : optionals) {
+      list.add(optional);
+    }
+    return list.toArray(new Optional[list.size()]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Optional<? extends T>[] toArray(Stream<? extends Optional<? extends T>> optionals) {
+    return optionals == null ? null : optionals.toArray(Optional[]::new);
+  }
+
+}
@@ -0,0 +1,185 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core8.internal.Failures;
+import org.assertj.core8.internal.SoftErrorCollector;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Collects the failures of assertions instead of throwing them, {@link #assertAll()} reports them all at once.
+ * <p>
+ * Assertions are given as lambdas, the errors they throw are collected without locking so several threads can check
+ * assertions with the same {@code SoftAssertions}. To keep the memory used by a big batch bounded, only the first
+ * {@code maxRetainedErrors} errors are retained (the following ones are only counted) and only the first
+ * {@code maxStackTraces} ones keep their stack trace.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * SoftAssertions softly = new SoftAssertions();
+ * for (Order order : orders) {
+ *   softly.assertThat(order.getDeliveryTime(), deliveryTime -&gt; deliveryTime.isAfter(order.getCreationTime()));
+ *   softly.assertThat(order.getInvoice(), invoice -&gt; invoice.isPresent());
+ * }
+ * softly.assertAll();
+ * </pre>
+ */
+public class SoftAssertions {
+
+  /** The default maximum number of retained errors. */
+  public static final int DEFAULT_MAX_RETAINED_ERRORS = 100;
+
+  /** The default number of first errors keeping their stack trace. */
+  public static final int DEFAULT_MAX_STACK_TRACES = 10;
+
+  private final SoftErrorCollector collector;
+
+  /**
+   * Creates a new <code>{@link SoftAssertions}</code> retaining the first {@link #DEFAULT_MAX_RETAINED_ERRORS} errors,
+   * the first {@link #DEFAULT_MAX_STACK_TRACES} ones with their stack trace.
+   */
+  public SoftAssertions() {
+    this(DEFAULT_MAX_RETAINED_ERRORS, DEFAULT_MAX_STACK_TRACES);
+  }
+
+  /**
+   * Creates a new <code>{@link SoftAssertions}</code>.
+   *
+   * @param maxRetainedErrors the maximum number of retained errors, the following ones are only counted.
+   * @param maxStackTraces the number of first errors keeping their stack trace.
+   * @throws IllegalArgumentException if {@code maxRetainedErrors} is not greater than 0 or {@code maxStackTraces} is
+   *           negative.
+   */
+  public SoftAssertions(int maxRetainedErrors, int maxStackTraces) {
+    collector = new SoftErrorCollector(maxRetainedErrors, maxStackTraces);
+  }
+
+  /**
+   * Runs the given assertions, collecting the {@link AssertionError} they throw if any.
+   *
+   * @param assertions the assertions to check.
+   * @return this object.
+   */
+  public SoftAssertions check(Runnable assertions) {
+    try {
+      if (collector.keepsStackTraces()) {
+        assertions.run();
+      } else {
+        // the stack trace would be dropped, don't pay for filling it in
+        Failures.instance().runWithoutStackTraces(assertions);
+      }
+    } catch (AssertionError error) {
+      collector.collect(error);
+    }
+    return this;
+  }
+
+  /**
+   * Checks the given assertions on a {@link ZonedDateTime}, collecting the {@link AssertionError} they throw if any.
+   *
+   * @param actual the actual value.
+   * @param assertions the assertions to check.
+   * @return this object.
+   */
+  public SoftAssertions assertThat(ZonedDateTime actual, Consumer<ZonedDateTimeAssert> assertions) {
+    return check(() -> assertions.accept(Assertions.assertThat(actual)));
+  }
+
+  /**
+   * Checks the given assertions on a {@link LocalDateTime}, collecting the {@link AssertionError} they throw if any.
+   *
+   * @param actual the actual value.
+   * @param assertions the assertions to check.
+   * @return this object.
+   */
+  public SoftAssertions assertThat(LocalDateTime actual, Consumer<LocalDateTimeAssert> assertions) {
+    return check(() -> assertions.accept(Assertions.assertThat(actual)));
+  }
+
+  /**
+   * Checks the given assertions on an {@link Optional}, collecting the {@link AssertionError} they throw if any.
+   *
+   * @param actual the actual value.
+   * @param assertions the assertions to check.
+   * @param <T> the type of the value contained in the {@link Optional}.
+   * @return this object.
+   */
+  public <T> SoftAssertions assertThat(Optional<T> actual, Consumer<OptionalAssert<T>> assertions) {
+    return check(() -> assertions.accept(Assertions.assertThat(actual)));
+  }
+
+  /**
+   * Returns the retained errors in the order they were collected.
+   *
+   * @return the retained errors.
+   */
+  public List<AssertionError> errorsCollected() {
+    return collector.retainedErrors();
+  }
+
+  /**
+   * Returns the number of failed assertions, including the ones whose error was not retained.
+   *
+   * @return the number of failed assertions.
+   */
+  public long failureCount() {
+    return collector.errorCount();
+  }
+
+  /**
+   * Returns the number of failed assertions whose error was not retained.
+   *
+   * @return the number of dropped errors.
+   */
+  public long droppedErrorCount() {
+    return collector.droppedErrorCount();
+  }
+
+  /**
+   * Throws an {@link AssertionError} reporting the messages of the retained errors and the number of dropped ones if
+   * any assertion failed, the retained errors are added as suppressed exceptions.
+   * <p>
+   * Must be called once all the threads checking assertions are done.
+   *
+   * @throws AssertionError if any assertion failed.
+   */
+  public void assertAll() {
+    long failureCount = collector.errorCount();
+    if (failureCount == 0) {
+      return;
+    }
+    List<AssertionError> errors = collector.retainedErrors();
+    StringBuilder message = new StringBuilder();
+    message.append(String.format("%nThe following %s assertions failed:", failureCount));
+    int number = 1;
+    for (AssertionError error : errors) {
+      message.append(String.format("%n%s) %s", number++, error.getMessage()));
+    }
+    long droppedErrorCount = collector.droppedErrorCount();
+    if (droppedErrorCount > 0) {
+      message.append(String.format("%n... and %s more, not retained", droppedErrorCount));
+    }
+    AssertionError softAssertionError = new AssertionError(message.toString());
+    for (AssertionError error : errors) {
+      softAssertionError.addSuppressed(error);
+    }
+    throw softAssertionError;
+  }
+
+}
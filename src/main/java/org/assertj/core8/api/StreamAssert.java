@@ -0,0 +1,430 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractListAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Objects;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.Failures;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core8.error.StreamElementsShould.shouldAllMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldAnyMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldBeEmpty;
+import static org.assertj.core8.error.StreamElementsShould.shouldContain;
+import static org.assertj.core8.error.StreamElementsShould.shouldEndWith;
+import static org.assertj.core8.error.StreamElementsShould.shouldHave;
+import static org.assertj.core8.error.StreamElementsShould.shouldHaveCountButHadMore;
+import static org.assertj.core8.error.StreamElementsShould.shouldHaveCountLessThan;
+import static org.assertj.core8.error.StreamElementsShould.shouldNoneMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldNotHaveDuplicates;
+import static org.assertj.core8.error.StreamElementsShould.shouldStartOrEndWithButWasTooShort;
+import static org.assertj.core8.error.StreamElementsShould.shouldStartWith;
+
+/**
+ * Assertions on the elements of a {@link Stream}, checked while the stream is lazily consumed.
+ * <p>
+ * Assertions stop consuming the stream as soon as their outcome is known (e.g. {@link #allMatch(Predicate)} stops at
+ * the first element not matching the predicate, {@link #startsWith(Object...)} only reads the first elements) so they
+ * can be used on huge or infinite streams. The few assertions that need to keep the elements they have read, like
+ * {@link #doesNotHaveDuplicates()} or {@link #asList()}, buffer at most {@link #DEFAULT_MAX_BUFFERED_ELEMENTS}
+ * elements, this limit can be changed with {@link #withMaxBufferedElements(int)}.
+ * <p>
+ * The stream can only be consumed once: each assertion is terminal and closes the stream once done, releasing the
+ * resources it holds (e.g. the file of {@link java.nio.file.Files#lines(java.nio.file.Path)}), any further assertion
+ * throws an {@link IllegalStateException}.
+ *
+ * @param <T> the type of the elements of the stream.
+ */
+public class StreamAssert<T> extends AbstractAssert<StreamAssert<T>, Stream<? extends T>> {
+
+  /** The default maximum number of elements buffered by the assertions that need to keep the elements they read. */
+  public static final int DEFAULT_MAX_BUFFERED_ELEMENTS = 10_000;
+
+  private int maxBufferedElements = DEFAULT_MAX_BUFFERED_ELEMENTS;
+  private boolean consumed;
+
+  /**
+   * Creates a new <code>{@link StreamAssert}</code>.
+   *
+   * @param actual the stream to verify
+   */
+  protected StreamAssert(Stream<? extends T> actual) {
+    super(actual, StreamAssert.class);
+  }
+
+  /**
+   * Sets the maximum number of elements the assertions that need to keep the elements they read may buffer, beyond
+   * which they throw an {@link IllegalStateException} instead of filling the memory.
+   *
+   * @param maxBufferedElements the maximum number of elements to buffer.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given maximum is not strictly positive.
+   */
+  public StreamAssert<T> withMaxBufferedElements(int maxBufferedElements) {
+    if (maxBufferedElements <= 0) {
+      throw new IllegalArgumentException("The maximum number of buffered elements should be greater than 0 but was: "
+                                         + maxBufferedElements);
+    }
+    this.maxBufferedElements = maxBufferedElements;
+    return this;
+  }
+
+  /**
+   * Verifies that the actual stream is empty, only its first element is read.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or not empty.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> isEmpty() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEmpty")) {
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        if (elements.hasNext()) {
+          throw failure(shouldBeEmpty(elements.next()));
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream has the given number of elements, at most {@code expected + 1} elements are read.
+   *
+   * @param expected the expected number of elements.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or does not have the given number of elements.
+   * @throws IllegalArgumentException if the expected number of elements is negative.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> hasSize(long expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasSize")) {
+      if (expected < 0) {
+        throw new IllegalArgumentException("The expected number of elements should not be negative but was: "
+                                           + expected);
+      }
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        long count = 0;
+        for (; count < expected && elements.hasNext(); count++) {
+          elements.next();
+        }
+        if (count < expected) {
+          throw failure(shouldHave("count", expected, count));
+        }
+        if (elements.hasNext()) {
+          throw failure(shouldHaveCountButHadMore(expected));
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream has less elements than the given boundary, at most {@code boundary} elements are
+   * read.
+   *
+   * @param boundary the number of elements the actual stream should have less than.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or has {@code boundary} elements or more.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> hasSizeLessThan(long boundary) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "hasSizeLessThan")) {
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        for (long count = 0;; count++) {
+          if (count >= boundary) {
+            throw failure(shouldHaveCountLessThan(boundary));
+          }
+          if (!elements.hasNext()) {
+            return this;
+          }
+          elements.next();
+        }
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream starts with the given values, only {@code values.length} elements are read.
+   *
+   * @param values the values the actual stream should start with.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given values are {@code null} or empty.
+   * @throws AssertionError if the actual stream does not start with the given values.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> startsWith(T... values) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "startsWith")) {
+      checkValues(values);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        for (int index = 0; index < values.length; index++) {
+          if (!elements.hasNext()) {
+            throw failure(shouldStartOrEndWithButWasTooShort(values, index, true));
+          }
+          T element = elements.next();
+          if (!java.util.Objects.equals(element, values[index])) {
+            throw failure(shouldStartWith(values, index, element));
+          }
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream ends with the given values. The whole stream is read but only the last
+   * {@code values.length} elements are kept.
+   *
+   * @param values the values the actual stream should end with.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given values are {@code null} or empty.
+   * @throws AssertionError if the actual stream does not end with the given values.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> endsWith(T... values) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "endsWith")) {
+      checkValues(values);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        // circular buffer of the last elements read
+        Object[] last = new Object[values.length];
+        long count = 0;
+        for (; elements.hasNext(); count++) {
+          last[(int) (count % values.length)] = elements.next();
+        }
+        if (count < values.length) {
+          throw failure(shouldStartOrEndWithButWasTooShort(values, count, false));
+        }
+        List<Object> lastElements = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+          lastElements.add(last[(int) ((count + i) % values.length)]);
+        }
+        for (int i = 0; i < values.length; i++) {
+          if (!java.util.Objects.equals(lastElements.get(i), values[i])) {
+            throw failure(shouldEndWith(values, lastElements));
+          }
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream contains all the given values, in any order. The stream is read until all the
+   * values have been found, only the values not found yet are kept.
+   *
+   * @param values the values to look for.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given values are {@code null} or empty.
+   * @throws AssertionError if the actual stream does not contain all the given values.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> contains(T... values) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "contains")) {
+      checkValues(values);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        List<T> notFound = new ArrayList<>(values.length);
+        for (T value : values) {
+          if (!notFound.contains(value)) {
+            notFound.add(value);
+          }
+        }
+        while (!notFound.isEmpty() && elements.hasNext()) {
+          notFound.remove(elements.next());
+        }
+        if (!notFound.isEmpty()) {
+          throw failure(shouldContain(values, notFound));
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given predicate, the stream is read up to the first
+   * element not matching it.
+   *
+   * @param predicate the predicate the elements should match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if an element of the actual stream does not match the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> allMatch(Predicate<? super T> predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "allMatch")) {
+      checkPredicate(predicate);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        for (long index = 0; elements.hasNext(); index++) {
+          T element = elements.next();
+          if (!predicate.test(element)) {
+            throw failure(shouldAllMatch(index, element));
+          }
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given predicate, the stream is read up to the
+   * first element matching it.
+   *
+   * @param predicate the predicate an element should match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if no element of the actual stream matches the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> anyMatch(Predicate<? super T> predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "anyMatch")) {
+      checkPredicate(predicate);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        long count = 0;
+        for (; elements.hasNext(); count++) {
+          if (predicate.test(elements.next())) {
+            return this;
+          }
+        }
+        throw failure(shouldAnyMatch(count));
+      }
+    }
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given predicate, the stream is read up to the first
+   * element matching it.
+   *
+   * @param predicate the predicate the elements should not match.
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalArgumentException if the given predicate is {@code null}.
+   * @throws AssertionError if an element of the actual stream matches the given predicate.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> noneMatch(Predicate<? super T> predicate) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "noneMatch")) {
+      checkPredicate(predicate);
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        for (long index = 0; elements.hasNext(); index++) {
+          T element = elements.next();
+          if (predicate.test(element)) {
+            throw failure(shouldNoneMatch(index, element));
+          }
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Verifies that the actual stream does not contain duplicates, the stream is read up to the first duplicate and the
+   * elements read are buffered.
+   *
+   * @return this assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or contains duplicates.
+   * @throws IllegalStateException if the actual stream has more elements than the maximum number of buffered elements.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public StreamAssert<T> doesNotHaveDuplicates() {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "doesNotHaveDuplicates")) {
+      try (Stream<? extends T> stream = consume()) {
+        Iterator<? extends T> elements = stream.iterator();
+        Set<T> found = new HashSet<>();
+        for (long index = 0; elements.hasNext(); index++) {
+          checkBufferSize(index);
+          T element = elements.next();
+          if (!found.add(element)) {
+            throw failure(shouldNotHaveDuplicates(index, element));
+          }
+        }
+        return this;
+      }
+    }
+  }
+
+  /**
+   * Buffers all the elements of the actual stream in a {@link List} to check them with the assertions on lists, for
+   * the checks that need the whole content of the stream.
+   *
+   * @return a new assertion object on the elements of the actual stream.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalStateException if the actual stream has more elements than the maximum number of buffered elements.
+   * @throws IllegalStateException if the actual stream has already been consumed.
+   */
+  public AbstractListAssert<?, ? extends List<T>, T> asList() {
+    try (Stream<? extends T> stream = consume()) {
+      Iterator<? extends T> elements = stream.iterator();
+      List<T> buffer = new ArrayList<>();
+      for (long index = 0; elements.hasNext(); index++) {
+        checkBufferSize(index);
+        buffer.add(elements.next());
+      }
+      return org.assertj.core.api.Assertions.assertThat(buffer);
+    }
+  }
+
+  private Stream<? extends T> consume() {
+    Objects.instance().assertNotNull(info, actual);
+    if (consumed) {
+      throw new IllegalStateException("The stream can only be checked once, it has already been consumed");
+    }
+    consumed = true;
+    return actual;
+  }
+
+  private void checkBufferSize(long size) {
+    if (size >= maxBufferedElements) {
+      throw new IllegalStateException("The stream has more than the " + maxBufferedElements
+                                      + " elements that can be buffered, see withMaxBufferedElements(int)");
+    }
+  }
+
+  private AssertionError failure(ErrorMessageFactory errorMessageFactory) {
+    return Failures.instance().failure(info, errorMessageFactory);
+  }
+
+  private static void checkValues(Object[] values) {
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("The values to look for should not be null or empty");
+    }
+  }
+
+  private static void checkPredicate(Predicate<?> predicate) {
+    if (predicate == null) {
+      throw new IllegalArgumentException("The predicate to evaluate should not be null");
+    }
+  }
+
+}
@@ -15,6 +15,7 @@ package org.assertj.core8.api;
 import java.io.File;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.LongBuffer;
 import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.time.LocalDateTime;
@@ -24,6 +25,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AbstractBigDecimalAssert;
 import org.assertj.core.api.AbstractBooleanArrayAssert;
@@ -166,10 +174,10 @@ public interface WithAssertions {
   }
 
   /**
-   * Delegate call to {@link org.assertj.core.api.Assertions#assertThat(long)}
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(long)}
    */
-  default public AbstractLongAssert<?> assertThat(final long actual) {
-	return org.assertj.core.api.Assertions.assertThat(actual);
+  default public LongAssert assertThat(final long actual) {
+	return Assertions.assertThat(actual);
   }
 
   /**
@@ -390,10 +398,10 @@ public interface WithAssertions {
   }
 
   /**
-   * Delegate call to {@link org.assertj.core.api.Assertions#assertThat(double)}
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(double)}
    */
-  default public AbstractDoubleAssert<?> assertThat(final double actual) {
-	return org.assertj.core.api.Assertions.assertThat(actual);
+  default public DoubleAssert assertThat(final double actual) {
+	return Assertions.assertThat(actual);
   }
 
   /**
@@ -585,6 +593,48 @@ public interface WithAssertions {
 	return org.assertj.core8.api.Assertions.assertThat(optional);
   }
 
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(OptionalInt)}
+   */
+  default public OptionalIntAssert assertThat(final OptionalInt optional) {
+	return org.assertj.core8.api.Assertions.assertThat(optional);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(OptionalLong)}
+   */
+  default public OptionalLongAssert assertThat(final OptionalLong optional) {
+	return org.assertj.core8.api.Assertions.assertThat(optional);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(OptionalDouble)}
+   */
+  default public OptionalDoubleAssert assertThat(final OptionalDouble optional) {
+	return org.assertj.core8.api.Assertions.assertThat(optional);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatOptionals(Iterable)}
+   */
+  default public <T> OptionalsAssert<T> assertThatOptionals(final Iterable<? extends Optional<? extends T>> actual) {
+	return org.assertj.core8.api.Assertions.assertThatOptionals(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatOptionals(Stream)}
+   */
+  default public <T> OptionalsAssert<T> assertThatOptionals(final Stream<? extends Optional<? extends T>> actual) {
+	return org.assertj.core8.api.Assertions.assertThatOptionals(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(Stream)}
+   */
+  default public <T> StreamAssert<T> assertThat(final Stream<? extends T> actual) {
+	return org.assertj.core8.api.Assertions.assertThat(actual);
+  }
+
   /**
    * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(LocalDateTime)}
    */
@@ -592,6 +642,146 @@ public interface WithAssertions {
 	return org.assertj.core8.api.Assertions.assertThat(localDateTime);
   }
 
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatZonedDateTimes(ZonedDateTime...)}
+   */
+  default public ZonedDateTimesAssert assertThatZonedDateTimes(final ZonedDateTime... actual) {
+	return org.assertj.core8.api.Assertions.assertThatZonedDateTimes(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatZonedDateTimes(Iterable)}
+   */
+  default public ZonedDateTimesAssert assertThatZonedDateTimes(final Iterable<? extends ZonedDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatZonedDateTimes(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatLocalDateTimes(LocalDateTime...)}
+   */
+  default public LocalDateTimesAssert assertThatLocalDateTimes(final LocalDateTime... actual) {
+	return org.assertj.core8.api.Assertions.assertThatLocalDateTimes(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatLocalDateTimes(Iterable)}
+   */
+  default public LocalDateTimesAssert assertThatLocalDateTimes(final Iterable<? extends LocalDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatLocalDateTimes(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatEpochMillis(long...)}
+   */
+  default public EpochTimestampsAssert assertThatEpochMillis(final long... actual) {
+	return org.assertj.core8.api.Assertions.assertThatEpochMillis(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatEpochMillis(LongBuffer)}
+   */
+  default public EpochTimestampsAssert assertThatEpochMillis(final LongBuffer actual) {
+	return org.assertj.core8.api.Assertions.assertThatEpochMillis(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatEpochNanos(long...)}
+   */
+  default public EpochTimestampsAssert assertThatEpochNanos(final long... actual) {
+	return org.assertj.core8.api.Assertions.assertThatEpochNanos(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatEpochNanos(LongBuffer)}
+   */
+  default public EpochTimestampsAssert assertThatEpochNanos(final LongBuffer actual) {
+	return org.assertj.core8.api.Assertions.assertThatEpochNanos(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatZonedDateTimeSequence(Stream)}
+   */
+  default public ZonedDateTimeSequenceAssert assertThatZonedDateTimeSequence(final Stream<? extends ZonedDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatZonedDateTimeSequence(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatZonedDateTimeSequence(Iterator)}
+   */
+  default public ZonedDateTimeSequenceAssert assertThatZonedDateTimeSequence(final Iterator<? extends ZonedDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatZonedDateTimeSequence(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatLocalDateTimeSequence(Stream)}
+   */
+  default public LocalDateTimeSequenceAssert assertThatLocalDateTimeSequence(final Stream<? extends LocalDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatLocalDateTimeSequence(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThatLocalDateTimeSequence(Iterator)}
+   */
+  default public LocalDateTimeSequenceAssert assertThatLocalDateTimeSequence(final Iterator<? extends LocalDateTime> actual) {
+	return org.assertj.core8.api.Assertions.assertThatLocalDateTimeSequence(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(IntStream)}
+   */
+  default public IntStreamAssert assertThat(final IntStream actual) {
+	return org.assertj.core8.api.Assertions.assertThat(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(LongStream)}
+   */
+  default public LongStreamAssert assertThat(final LongStream actual) {
+	return org.assertj.core8.api.Assertions.assertThat(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#assertThat(DoubleStream)}
+   */
+  default public DoubleStreamAssert assertThat(final DoubleStream actual) {
+	return org.assertj.core8.api.Assertions.assertThat(actual);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#runWithoutStackTraces(Runnable)}
+   */
+  default public void runWithoutStackTraces(final Runnable assertions) {
+	org.assertj.core8.api.Assertions.runWithoutStackTraces(assertions);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#enableAssertionMetrics()}
+   */
+  default public void enableAssertionMetrics() {
+	org.assertj.core8.api.Assertions.enableAssertionMetrics();
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#disableAssertionMetrics()}
+   */
+  default public void disableAssertionMetrics() {
+	org.assertj.core8.api.Assertions.disableAssertionMetrics();
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#enableDateTimeParseCache(int)}
+   */
+  default public void enableDateTimeParseCache(final int maxSize) {
+	org.assertj.core8.api.Assertions.enableDateTimeParseCache(maxSize);
+  }
+
+  /**
+   * Delegate call to {@link org.assertj.core8.api.Assertions#disableDateTimeParseCache()}
+   */
+  default public void disableDateTimeParseCache() {
+	org.assertj.core8.api.Assertions.disableDateTimeParseCache();
+  }
+
   // --------------------------------------------------------------------------------------------------
   // Filter methods : not assertions but here to have a complete entry point to all AssertJ features.
   // --------------------------------------------------------------------------------------------------
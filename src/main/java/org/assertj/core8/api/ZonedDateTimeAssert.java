@@ -13,20 +13,45 @@
 package org.assertj.core8.api;
 
 import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
+import org.assertj.core8.data.ZonedDateTimeInterval;
+import org.assertj.core8.data.ZonedDateTimeSet;
+import org.assertj.core8.internal.AssertionEvaluation;
+import org.assertj.core8.internal.AssertionEvents;
+import org.assertj.core8.internal.DateTimeParseCache;
+import org.assertj.core8.internal.DateTimes;
+import org.assertj.core8.internal.Failures;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 
+import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
+import static org.assertj.core.error.ShouldNotBeEqual.shouldNotBeEqual;
+import static org.assertj.core.error.ShouldNotBeIn.shouldNotBeIn;
 import static org.assertj.core8.error.ShouldBeAfter.shouldBeAfter;
 import static org.assertj.core8.error.ShouldBeAfterOrEqualsTo.shouldBeAfterOrEqualsTo;
 import static org.assertj.core8.error.ShouldBeBefore.shouldBeBefore;
 import static org.assertj.core8.error.ShouldBeBeforeOrEqualsTo.shouldBeBeforeOrEqualsTo;
+import static org.assertj.core8.error.ShouldBeBetween.shouldBeBetween;
+import static org.assertj.core8.error.ShouldBeCloseTo.shouldBeCloseTo;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringHours.shouldBeEqualIgnoringHours;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringNanos.shouldBeEqualIgnoringNanos;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringMinutes.shouldBeEqualIgnoringMinutes;
 import static org.assertj.core8.error.ShouldBeEqualIgnoringSeconds.shouldBeEqualIgnoringSeconds;
+import static org.assertj.core8.error.ShouldBeEqualTruncatedTo.shouldBeEqualTruncatedTo;
+import static org.assertj.core8.internal.DateTimes.areEqualTruncatedTo;
+import static org.assertj.core8.internal.DateTimes.areWithin;
+import static org.assertj.core8.internal.DateTimes.checkIsSupportedTruncationUnit;
+import static org.assertj.core8.internal.DateTimes.checkIsValidInterval;
+import static org.assertj.core8.internal.DateTimes.checkIsValidTolerance;
+import static org.assertj.core8.internal.DateTimes.packFields;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.SECONDS;
 
 /**
  * Assertions for {@link ZonedDateTime} type from new Date &amp; Time API introduced in Java 8.
@@ -39,6 +64,8 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
 
   public static final String NULL_DATE_TIME_PARAMETER_MESSAGE = "The ZonedDateTime to compare actual with should not be null";
 
+  private boolean instantComparison;
+
   /**
    * Creates a new <code>{@link ZonedDateTimeAssert}</code>.
    *
@@ -54,6 +81,47 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
     return actual;
   }
 
+  /**
+   * Use the instant of the {@link ZonedDateTime}s, i.e. their epoch second and nanosecond, to compare them in
+   * {@link #isEqualTo(ZonedDateTime)}, {@link #isNotEqualTo(ZonedDateTime)}, {@link #isIn(ZonedDateTime...)} and
+   * {@link #isNotIn(ZonedDateTime...)} instead of converting the expected values in the actual's
+   * {@link java.time.ZoneId} to compare them with {@link ZonedDateTime#equals(Object)}.
+   * <p>
+   * Both ways give the same result as two {@link ZonedDateTime}s in the same zone are equal if and only if they
+   * represent the same instant, but comparing instants does not build any {@link ZonedDateTime} on the passing path,
+   * which matters when checking a large number of values. Expected values are only converted in the actual's zone to
+   * report a failure.
+   * <p>
+   * This mode is in effect until {@link #usingDefaultComparator()} or {@link #usingComparator(Comparator)} is called.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * ZonedDateTime utcDateTime = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+   * ZonedDateTime parisDateTime = ZonedDateTime.parse("2000-01-01T01:00:00+01:00[Europe/Paris]");
+   * // assertion will pass
+   * assertThat(utcDateTime).usingInstantComparison().isEqualTo(parisDateTime);
+   * </pre>
+   *
+   * @return this assertion object.
+   */
+  public ZonedDateTimeAssert usingInstantComparison() {
+    instantComparison = true;
+    return this;
+  }
+
+  @Override
+  public ZonedDateTimeAssert usingComparator(Comparator<? super ZonedDateTime> customComparator) {
+    instantComparison = false;
+    return super.usingComparator(customComparator);
+  }
+
+  @Override
+  public ZonedDateTimeAssert usingDefaultComparator() {
+    instantComparison = false;
+    return super.usingDefaultComparator();
+  }
+
   /**
    * Verifies that the actual {@code ZonedDateTime} is <b>strictly</b> before the given one.
    * <p>
@@ -70,12 +138,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is not strictly before the given one.
    */
   public ZonedDateTimeAssert isBefore(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBefore")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!actual.isBefore(other)) {
+        throw Failures.instance().failure(info, shouldBeBefore(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -102,8 +172,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           from given String.
    */
   public ZonedDateTimeAssert isBefore(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isBefore(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBefore")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isBefore(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -124,12 +196,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZoneDateTime} is not before or equals to the given one.
    */
   public ZonedDateTimeAssert isBeforeOrEqualTo(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBeforeOrEqualTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (actual.isAfter(other)) {
+        throw Failures.instance().failure(info, shouldBeBeforeOrEqualsTo(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -158,8 +232,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           built from given String.
    */
   public ZonedDateTimeAssert isBeforeOrEqualTo(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isBeforeOrEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBeforeOrEqualTo")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isBeforeOrEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -180,12 +256,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is not after or equals to the given one.
    */
   public ZonedDateTimeAssert isAfterOrEqualTo(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (actual.isBefore(other)) {
-      throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfterOrEqualTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (actual.isBefore(other)) {
+        throw Failures.instance().failure(info, shouldBeAfterOrEqualsTo(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -214,8 +292,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           built from given String.
    */
   public ZonedDateTimeAssert isAfterOrEqualTo(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isAfterOrEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfterOrEqualTo")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isAfterOrEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -234,12 +314,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is not strictly after the given one.
    */
   public ZonedDateTimeAssert isAfter(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!actual.isAfter(other)) {
-      throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfter")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!actual.isAfter(other)) {
+        throw Failures.instance().failure(info, shouldBeAfter(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -266,8 +348,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           from given String.
    */
   public ZonedDateTimeAssert isAfter(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isAfter(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isAfter")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isAfter(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -303,12 +387,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is are not equal with nanoseconds ignored.
    */
   public ZonedDateTimeAssert isEqualToIgnoringNanos(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringNanos(actual, other.withZoneSameInstant(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringNanos(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringNanos")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!areEqualInActualZoneTruncatedTo(other, SECONDS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringNanos(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -345,12 +431,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           ignored.
    */
   public ZonedDateTimeAssert isEqualToIgnoringSeconds(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringSeconds(actual, other.withZoneSameInstant(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringSeconds")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!areEqualInActualZoneTruncatedTo(other, MINUTES)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringSeconds(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -387,12 +475,14 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           fields.
    */
   public ZonedDateTimeAssert isEqualToIgnoringMinutes(ZonedDateTime other) {
-    Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!areEqualIgnoringMinutes(actual, other.withZoneSameInstant(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringMinutes")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!areEqualInActualZoneTruncatedTo(other, HOURS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringMinutes(actual, other));
+      }
+      return this;
     }
-    return this;
   }
 
   /**
@@ -429,14 +519,255 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           ignored.
    */
   public ZonedDateTimeAssert isEqualToIgnoringHours(ZonedDateTime other) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToIgnoringHours")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      if (!areEqualInActualZoneTruncatedTo(other, DAYS)) {
+        throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that actual and given {@code ZonedDateTime} are equal once both truncated to the given unit, that is they
+   * have the same fields down to the given unit (smaller fields are ignored in comparison), e.g. truncated to
+   * {@link ChronoUnit#MINUTES} they must have same year, month, day, hour and minute fields.
+   * <p>
+   * This is the generalization of {@link #isEqualToIgnoringNanos(ZonedDateTime)} ({@code SECONDS}),
+   * {@link #isEqualToIgnoringSeconds(ZonedDateTime)} ({@code MINUTES}), {@link #isEqualToIgnoringMinutes(ZonedDateTime)}
+   * ({@code HOURS}) and {@link #isEqualToIgnoringHours(ZonedDateTime)} ({@code DAYS}), supported units are
+   * {@code NANOS}, {@code MICROS}, {@code MILLIS}, {@code SECONDS}, {@code MINUTES}, {@code HOURS}, {@code DAYS},
+   * {@code MONTHS} and {@code YEARS}.
+   * <p>
+   * Note that given {@link ZonedDateTime} is converted in the actual's {@link java.time.ZoneId} before comparison.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * // successfull assertions
+   * ZonedDateTime dateTime1 = ZonedDateTime.of(2000, 1, 1, 23, 50, 0, 123_000_000, UTC);
+   * ZonedDateTime dateTime2 = ZonedDateTime.of(2000, 1, 1, 23, 50, 0, 123_456_789, UTC);
+   * assertThat(dateTime1).isEqualToTruncatedTo(dateTime2, ChronoUnit.MILLIS)
+   *                      .isEqualToTruncatedTo(dateTime2.withDayOfMonth(20), ChronoUnit.MONTHS);
+   *
+   * // failing assertions (even if time difference is only 1ns)
+   * ZonedDateTime dateTimeA = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, UTC);
+   * ZonedDateTime dateTimeB = ZonedDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_999, UTC);
+   * assertThat(dateTimeA).isEqualToTruncatedTo(dateTimeB, ChronoUnit.YEARS);
+   * </pre>
+   *
+   * @param other the given {@link ZonedDateTime}.
+   * @param unit the unit both date-times are truncated to before comparison.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given unit is {@code null} or not supported.
+   * @throws AssertionError if the actual {@code ZonedDateTime} and the given one are not equal once truncated to the
+   *           given unit.
+   */
+  public ZonedDateTimeAssert isEqualToTruncatedTo(ZonedDateTime other, ChronoUnit unit) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualToTruncatedTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      checkIsSupportedTruncationUnit(unit);
+      if (!areEqualInActualZoneTruncatedTo(other, unit)) {
+        throw Failures.instance().failure(info, shouldBeEqualTruncatedTo(actual, other, unit));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is close to the given one, that is the duration between both
+   * instants is less than or equal to the given tolerance, whatever their order and their {@link java.time.ZoneId}.
+   * <p>
+   * The distance between both date-times is computed from their epoch second and nano of second, no
+   * {@link Duration} is created unless the assertion fails.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * ZonedDateTime expected = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+   * // successful assertions
+   * assertThat(ZonedDateTime.parse("2000-01-01T00:00:00.050Z")).isCloseTo(expected, Duration.ofMillis(50));
+   * assertThat(ZonedDateTime.parse("2000-01-01T00:59:59.950-01:00")).isCloseTo(expected, Duration.ofMillis(50));
+   *
+   * // failing assertion
+   * assertThat(ZonedDateTime.parse("2000-01-01T00:00:00.051Z")).isCloseTo(expected, Duration.ofMillis(50));
+   * </pre>
+   *
+   * @param other the given {@link ZonedDateTime}.
+   * @param tolerance the maximum duration between both date-times.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if other {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given tolerance is {@code null} or negative.
+   * @throws AssertionError if the duration between the actual {@code ZonedDateTime} and the given one is greater than
+   *           the given tolerance.
+   */
+  public ZonedDateTimeAssert isCloseTo(ZonedDateTime other, Duration tolerance) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isCloseTo")) {
+      Objects.instance().assertNotNull(info, actual);
+      assertDateTimeParameterIsNotNull(other);
+      checkIsValidTolerance(tolerance);
+      long epochSecond = actual.toEpochSecond();
+      long otherEpochSecond = other.toEpochSecond();
+      if (!areWithin(epochSecond, actual.getNano(), otherEpochSecond, other.getNano(), tolerance)) {
+        Duration difference = Duration.ofSeconds(epochSecond - otherEpochSecond, actual.getNano() - other.getNano());
+        throw Failures.instance().failure(info, shouldBeCloseTo(actual, other, tolerance, difference.abs()));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is in the interval defined by the given bounds, both included,
+   * date-times being compared by instant whatever their {@link java.time.ZoneId}.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * ZonedDateTime start = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+   * ZonedDateTime end = ZonedDateTime.parse("2000-01-02T00:00:00Z");
+   * // successful assertions
+   * assertThat(start).isBetween(start, end);
+   * assertThat(ZonedDateTime.parse("2000-01-01T12:00:00+01:00")).isBetween(start, end);
+   *
+   * // failing assertion
+   * assertThat(ZonedDateTime.parse("2000-01-02T01:30:00+01:00")).isBetween(start, end);
+   * </pre>
+   *
+   * @param start the start of the interval, included.
+   * @param end the end of the interval, included.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is not in the given interval.
+   */
+  public ZonedDateTimeAssert isBetween(ZonedDateTime start, ZonedDateTime end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBetween")) {
+      return isInInterval(start, true, end, true);
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is in the interval defined by the given bounds, both excluded,
+   * date-times being compared by instant whatever their {@link java.time.ZoneId}.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * ZonedDateTime start = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+   * ZonedDateTime end = ZonedDateTime.parse("2000-01-02T00:00:00Z");
+   * // successful assertion
+   * assertThat(ZonedDateTime.parse("2000-01-01T12:00:00+01:00")).isStrictlyBetween(start, end);
+   *
+   * // failing assertion
+   * assertThat(start).isStrictlyBetween(start, end);
+   * </pre>
+   *
+   * @param start the start of the interval, excluded.
+   * @param end the end of the interval, excluded.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is not strictly between the given bounds.
+   */
+  public ZonedDateTimeAssert isStrictlyBetween(ZonedDateTime start, ZonedDateTime end) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isStrictlyBetween")) {
+      return isInInterval(start, false, end, false);
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is in the given {@link ZonedDateTimeInterval}, its bounds being
+   * included or not depending on how the interval was created.
+   * <p>
+   * The bounds of the interval being converted once for all when it is created, build the interval once and reuse it to
+   * check many values against the same bounds.
+   * <p>
+   * Code example :
+   *
+   * <pre>
+   * ZonedDateTimeInterval interval = ZonedDateTimeInterval.halfOpen(ZonedDateTime.parse("2000-01-01T00:00:00Z"),
+   *                                                                 ZonedDateTime.parse("2000-01-02T00:00:00Z"));
+   * // successful assertion
+   * assertThat(ZonedDateTime.parse("2000-01-01T12:00:00+01:00")).isBetween(interval);
+   *
+   * // failing assertion
+   * assertThat(interval.end()).isBetween(interval);
+   * </pre>
+   *
+   * @param interval the interval the actual value should be in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is not in the given interval.
+   */
+  public ZonedDateTimeAssert isBetween(ZonedDateTimeInterval interval) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      checkIsNotNull(interval);
+      if (!interval.contains(actual)) {
+        throw Failures.instance().failure(info, shouldBeBetween(actual, interval.start(), interval.end(),
+                                                                interval.includesStart(), interval.includesEnd()));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is strictly between the bounds of the given
+   * {@link ZonedDateTimeInterval}, both bounds being excluded whatever the way the interval was created.
+   * <p>
+   * The bounds of the interval being converted once for all when it is created, build the interval once and reuse it to
+   * check many values against the same bounds.
+   *
+   * @param interval the interval the actual value should be strictly in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if the given interval is {@code null}.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is not strictly between the bounds of the given
+   *           interval.
+   */
+  public ZonedDateTimeAssert isStrictlyBetween(ZonedDateTimeInterval interval) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isStrictlyBetween")) {
+      Objects.instance().assertNotNull(info, actual);
+      checkIsNotNull(interval);
+      if (!interval.containsStrictly(actual)) {
+        throw Failures.instance().failure(info,
+                                          shouldBeBetween(actual, interval.start(), interval.end(), false, false));
+      }
+      return this;
+    }
+  }
+
+  private ZonedDateTimeAssert isInInterval(ZonedDateTime start, boolean includesStart, ZonedDateTime end,
+                                           boolean includesEnd) {
     Objects.instance().assertNotNull(info, actual);
-    assertDateTimeParameterIsNotNull(other);
-    if (!haveSameYearMonthAndDayOfMonth(actual, other.withZoneSameInstant(actual.getZone()))) {
-      throw Failures.instance().failure(info, shouldBeEqualIgnoringHours(actual, other));
+    if (start == null) {
+      throw new IllegalArgumentException("The start of the interval should not be null");
+    }
+    if (end == null) {
+      throw new IllegalArgumentException("The end of the interval should not be null");
+    }
+    long startEpochSecond = start.toEpochSecond();
+    long endEpochSecond = end.toEpochSecond();
+    checkIsValidInterval(startEpochSecond, start.getNano(), endEpochSecond, end.getNano());
+    if (!DateTimes.isInInterval(actual.toEpochSecond(), actual.getNano(), startEpochSecond, start.getNano(),
+                                includesStart, endEpochSecond, end.getNano(), includesEnd)) {
+      throw Failures.instance().failure(info, shouldBeBetween(actual, start, end, includesStart, includesEnd));
     }
     return this;
   }
 
+  private static void checkIsNotNull(ZonedDateTimeInterval interval) {
+    if (interval == null) {
+      throw new IllegalArgumentException("The given ZonedDateTimeInterval should not be null");
+    }
+  }
+
   /**
    * Verifies that the actual {@link ZonedDateTime} is equal to the given one <b>in the actual's
    * {@link java.time.ZoneId}</b>.
@@ -454,7 +785,16 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           ZonedDateTime's java.time.ZoneId.
    */
   public ZonedDateTimeAssert isEqualTo(ZonedDateTime expected) {
-    return super.isEqualTo(expected.withZoneSameInstant(actual.getZone()));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualTo")) {
+      if (instantComparison && actual != null && expected != null) {
+        // the conversion makes the failure message show both values in the same zone
+        if (!isSameInstant(actual, expected)) {
+          Objects.instance().assertEqual(info, actual, changeToActualTimeZone(expected));
+        }
+        return this;
+      }
+      return super.isEqualTo(changeToActualTimeZone(expected));
+    }
   }
 
   /**
@@ -481,8 +821,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           given String.
    */
   public ZonedDateTimeAssert isEqualTo(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isEqualTo")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -500,7 +842,15 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           ZonedDateTime's java.time.ZoneId.
    */
   public ZonedDateTimeAssert isNotEqualTo(ZonedDateTime expected) {
-    return super.isNotEqualTo(expected.withZoneSameInstant(actual.getZone()));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotEqualTo")) {
+      if (instantComparison && actual != null && expected != null) {
+        if (isSameInstant(actual, expected)) {
+          throw Failures.instance().failure(info, shouldNotBeEqual(actual, expected));
+        }
+        return this;
+      }
+      return super.isNotEqualTo(changeToActualTimeZone(expected));
+    }
   }
 
   /**
@@ -527,8 +877,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           String.
    */
   public ZonedDateTimeAssert isNotEqualTo(String dateTimeAsString) {
-    assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
-    return isNotEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotEqualTo")) {
+      assertDateTimeAsStringParameterIsNotNull(dateTimeAsString);
+      return isNotEqualTo(parseStringAsIsoDateTimeAndMoveToZoneSameActual(dateTimeAsString));
+    }
   }
 
   /**
@@ -548,7 +900,15 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is not in the given {@link ZonedDateTime}s.
    */
   public ZonedDateTimeAssert isIn(ZonedDateTime... expected) {
-    return super.isIn((Object[]) changeToActualTimeZone(expected));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isIn")) {
+      if (useInstantComparison(expected)) {
+        if (!containsSameInstant(expected)) {
+          throw Failures.instance().failure(info, shouldBeIn(actual, changeNonNullToActualTimeZone(expected)));
+        }
+        return this;
+      }
+      return super.isIn((Object[]) changeToActualTimeZone(expected));
+    }
   }
 
   /**
@@ -575,8 +935,10 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *           Strings.
    */
   public ZonedDateTimeAssert isIn(String... dateTimesAsString) {
-    checkIsNotNullAndNotEmpty(dateTimesAsString);
-    return isIn(convertToDateTimeArray(dateTimesAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isIn")) {
+      checkIsNotNullAndNotEmpty(dateTimesAsString);
+      return isIn(convertToDateTimeArray(dateTimesAsString));
+    }
   }
 
   /**
@@ -596,7 +958,15 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    * @throws AssertionError if the actual {@code ZonedDateTime} is not in the given {@link ZonedDateTime}s.
    */
   public ZonedDateTimeAssert isNotIn(ZonedDateTime... expected) {
-    return super.isNotIn((Object[]) changeToActualTimeZone(expected));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotIn")) {
+      if (useInstantComparison(expected)) {
+        if (containsSameInstant(expected)) {
+          throw Failures.instance().failure(info, shouldNotBeIn(actual, changeNonNullToActualTimeZone(expected)));
+        }
+        return this;
+      }
+      return super.isNotIn((Object[]) changeToActualTimeZone(expected));
+    }
   }
 
   /**
@@ -623,8 +993,95 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
    *            given String.
    */
   public ZonedDateTimeAssert isNotIn(String... dateTimesAsString) {
-    checkIsNotNullAndNotEmpty(dateTimesAsString);
-    return isNotIn(convertToDateTimeArray(dateTimesAsString));
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotIn")) {
+      checkIsNotNullAndNotEmpty(dateTimesAsString);
+      return isNotIn(convertToDateTimeArray(dateTimesAsString));
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is in the given {@link ZonedDateTimeSet} <b>in the actual
+   * ZonedDateTime's {@link java.time.ZoneId}</b>, that is representing the same instant.
+   * <p>
+   * The given set being indexed once for all, this assertion runs in constant time whatever the number of expected
+   * values, build the {@link ZonedDateTimeSet} once and reuse it to check many values against the same large set.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * ZonedDateTimeSet slots = ZonedDateTimeSet.of(ZonedDateTime.parse("1999-12-31T23:59:59Z"),
+   *                                                 ZonedDateTime.parse("2000-01-01T00:00:00Z"));
+   * assertThat(ZonedDateTime.parse("2000-01-01T00:00:00Z")).isIn(slots);
+   * </pre>
+   *
+   * @param expected the {@link ZonedDateTimeSet} to look the actual value in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if given {@link ZonedDateTimeSet} is null or empty.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is not in the given {@link ZonedDateTimeSet}.
+   */
+  public ZonedDateTimeAssert isIn(ZonedDateTimeSet expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isIn")) {
+      checkIsNotNullAndNotEmpty(expected);
+      Objects.instance().assertNotNull(info, actual);
+      if (!expected.contains(actual)) {
+        throw Failures.instance().failure(info, shouldBeIn(actual, expected));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link ZonedDateTime} is not in the given {@link ZonedDateTimeSet} <b>in the actual
+   * ZonedDateTime's {@link java.time.ZoneId}</b>, that is representing the same instant.
+   * <p>
+   * The given set being indexed once for all, this assertion runs in constant time whatever the number of expected
+   * values, build the {@link ZonedDateTimeSet} once and reuse it to check many values against the same large set.
+   * <p>
+   * Example :
+   *
+   * <pre>
+   * ZonedDateTimeSet slots = ZonedDateTimeSet.of(ZonedDateTime.parse("1999-12-31T23:59:59Z"),
+   *                                                 ZonedDateTime.parse("2000-01-01T00:00:00Z"));
+   * assertThat(ZonedDateTime.parse("2000-01-02T00:00:00Z")).isNotIn(slots);
+   * </pre>
+   *
+   * @param expected the {@link ZonedDateTimeSet} the actual value should not be in.
+   * @return this assertion object.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is {@code null}.
+   * @throws IllegalArgumentException if given {@link ZonedDateTimeSet} is null or empty.
+   * @throws AssertionError if the actual {@code ZonedDateTime} is in the given {@link ZonedDateTimeSet}.
+   */
+  public ZonedDateTimeAssert isNotIn(ZonedDateTimeSet expected) {
+    try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isNotIn")) {
+      checkIsNotNullAndNotEmpty(expected);
+      Objects.instance().assertNotNull(info, actual);
+      if (expected.contains(actual)) {
+        throw Failures.instance().failure(info, shouldNotBeIn(actual, expected));
+      }
+      return this;
+    }
+  }
+
+  /**
+   * @return true if the instant comparison mode is on and actual and the given values are valid for it, otherwise the
+   *         default comparison reports the invalid values.
+   */
+  private boolean useInstantComparison(ZonedDateTime[] expected) {
+    return instantComparison && actual != null && expected != null && expected.length > 0;
+  }
+
+  private boolean containsSameInstant(ZonedDateTime[] dateTimes) {
+    for (ZonedDateTime dateTime : dateTimes) {
+      if (dateTime != null && isSameInstant(actual, dateTime)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isSameInstant(ZonedDateTime dateTime, ZonedDateTime other) {
+    return dateTime.toEpochSecond() == other.toEpochSecond() && dateTime.getNano() == other.getNano();
   }
 
   private ZonedDateTime[] convertToDateTimeArray(String... dateTimesAsString) {
@@ -637,14 +1094,32 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
   }
 
   private ZonedDateTime[] changeToActualTimeZone(ZonedDateTime... dateTimes) {
+    Object event = AssertionEvents.beginZoneConversion();
     ZonedDateTime[] dates = new ZonedDateTime[dateTimes.length];
     for (int i = 0; i < dateTimes.length; i++) {
       // building the ZonedDateTime in actual's ZoneId
       dates[i] = dateTimes[i].withZoneSameInstant(actual.getZone());
     }
+    AssertionEvents.endZoneConversion(event, actual.getZone(), dates.length);
+    return dates;
+  }
+
+  // the instant comparison ignores null values, they are reported as is
+  private ZonedDateTime[] changeNonNullToActualTimeZone(ZonedDateTime[] dateTimes) {
+    ZonedDateTime[] dates = new ZonedDateTime[dateTimes.length];
+    for (int i = 0; i < dateTimes.length; i++) {
+      dates[i] = dateTimes[i] == null ? null : changeToActualTimeZone(dateTimes[i]);
+    }
     return dates;
   }
 
+  private ZonedDateTime changeToActualTimeZone(ZonedDateTime dateTime) {
+    Object event = AssertionEvents.beginZoneConversion();
+    ZonedDateTime date = dateTime.withZoneSameInstant(actual.getZone());
+    AssertionEvents.endZoneConversion(event, actual.getZone(), 1);
+    return date;
+  }
+
   private void checkIsNotNullAndNotEmpty(Object[] values) {
     if (values == null) {
       throw new IllegalArgumentException("The given ZonedDateTime array should not be null");
@@ -654,9 +1129,17 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
     }
   }
 
+  private static void checkIsNotNullAndNotEmpty(ZonedDateTimeSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("The given ZonedDateTimeSet should not be null");
+    }
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException("The given ZonedDateTimeSet should not be empty");
+    }
+  }
+
   private ZonedDateTime parseStringAsIsoDateTimeAndMoveToZoneSameActual(String dateTimeAsString) {
-    ZonedDateTime parsedDateTime = ZonedDateTime.parse(dateTimeAsString, DateTimeFormatter.ISO_DATE_TIME);
-    return parsedDateTime.withZoneSameInstant(actual.getZone());
+    return DateTimeParseCache.instance().parseZonedDateTime(dateTimeAsString, actual.getZone());
   }
 
   /**
@@ -687,70 +1170,15 @@ public class ZonedDateTimeAssert extends AbstractAssert<ZonedDateTimeAssert, Zon
   }
 
   /**
-   * Returns true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   * otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, hour, minute and second, false
-   *         otherwise.
-   */
-  private static boolean areEqualIgnoringNanos(ZonedDateTime actual, ZonedDateTime other) {
-    return areEqualIgnoringSeconds(actual, other) && actual.getSecond() == other.getSecond();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month, hour and minute, false otherwise.
-   */
-  private static boolean areEqualIgnoringSeconds(ZonedDateTime actual, ZonedDateTime other) {
-    return areEqualIgnoringMinutes(actual, other) && actual.getMinute() == other.getMinute();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month, day of month and hour, false otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month, day of month and hour, false otherwise.
-   */
-  private static boolean areEqualIgnoringMinutes(ZonedDateTime actual, ZonedDateTime other) {
-    return haveSameYearMonthAndDayOfMonth(actual, other) && actual.getHour() == other.getHour();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, month and day of month, false otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, month and day of month, false otherwise
-   */
-  private static boolean haveSameYearMonthAndDayOfMonth(ZonedDateTime actual, ZonedDateTime other) {
-    return haveSameYearAndMonth(actual, other) && actual.getDayOfMonth() == other.getDayOfMonth();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year and month, false otherwise.
-   *
-   * @param actual the actual datetime. expected not be null
-   * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year and month, false otherwise
-   */
-  private static boolean haveSameYearAndMonth(ZonedDateTime actual, ZonedDateTime other) {
-    return haveSameYear(actual, other) && actual.getMonth() == other.getMonth();
-  }
-
-  /**
-   * Returns true if both datetime are in the same year, false otherwise.
+   * Returns true if actual and the given datetime, as seen in actual's {@link java.time.ZoneId}, are equal once
+   * truncated to the given unit.
    *
-   * @param actual the actual datetime. expected not be null
    * @param other the other datetime. expected not be null
-   * @return true if both datetime are in the same year, false otherwise
+   * @param unit the unit to truncate datetimes to. expected to be supported
+   * @return true if both datetime are equal once truncated to the given unit, false otherwise.
    */
-  private static boolean haveSameYear(ZonedDateTime actual, ZonedDateTime other) {
-    return actual.getYear() == other.getYear();
+  private boolean areEqualInActualZoneTruncatedTo(ZonedDateTime other, ChronoUnit unit) {
+    return areEqualTruncatedTo(packFields(actual), actual.getNano(), packFields(other, actual.getZone()),
+                               other.getNano(), unit);
   }
 }
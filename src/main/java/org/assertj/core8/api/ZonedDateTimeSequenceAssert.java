@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+
+/**
+ * Assertions on a sequence of {@link ZonedDateTime}s checked in constant memory while being iterated, see
+ * {@link AbstractDateTimeSequenceAssert}.
+ */
+public class ZonedDateTimeSequenceAssert
+    extends AbstractDateTimeSequenceAssert<ZonedDateTimeSequenceAssert, ZonedDateTime> {
+
+  /**
+   * Creates a new <code>{@link ZonedDateTimeSequenceAssert}</code>.
+   *
+   * @param actual the iterator over the date-times to verify
+   */
+  protected ZonedDateTimeSequenceAssert(Iterator<? extends ZonedDateTime> actual) {
+    super(actual, ZonedDateTimeSequenceAssert.class);
+  }
+
+  @Override
+  protected long epochSecondOf(ZonedDateTime dateTime) {
+    return dateTime.toEpochSecond();
+  }
+
+  @Override
+  protected int nanoOf(ZonedDateTime dateTime) {
+    return dateTime.getNano();
+  }
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import java.time.LocalDateTime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core8.internal.DateTimes.checkIsValidInterval;
+import static org.assertj.core8.internal.DateTimes.isInInterval;
+
+/**
+ * An immutable interval of {@link LocalDateTime}s whose bounds are converted once for all to epoch seconds and
+ * nanoseconds, meant to be built once and reused to check that many date-times are between the same bounds.
+ * <p>
+ * Date-times are compared like {@link LocalDateTime#compareTo(java.time.chrono.ChronoLocalDateTime)} does.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * LocalDateTimeInterval businessDay = LocalDateTimeInterval.halfOpen(opening, closing);
+ * for (LocalDateTime execution : executions) {
+ *   assertThat(execution).isBetween(businessDay);
+ * }
+ * </pre>
+ */
+public final class LocalDateTimeInterval {
+
+  private final LocalDateTime start;
+  private final LocalDateTime end;
+  private final boolean includesStart;
+  private final boolean includesEnd;
+  private final long startEpochSecond;
+  private final int startNano;
+  private final long endEpochSecond;
+  private final int endNano;
+
+  /**
+   * Creates a new {@link LocalDateTimeInterval} including both of the given bounds.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link LocalDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static LocalDateTimeInterval closed(LocalDateTime start, LocalDateTime end) {
+    return new LocalDateTimeInterval(start, true, end, true);
+  }
+
+  /**
+   * Creates a new {@link LocalDateTimeInterval} including the given start and excluding the given end.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link LocalDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static LocalDateTimeInterval halfOpen(LocalDateTime start, LocalDateTime end) {
+    return new LocalDateTimeInterval(start, true, end, false);
+  }
+
+  /**
+   * Creates a new {@link LocalDateTimeInterval} excluding both of the given bounds.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link LocalDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static LocalDateTimeInterval open(LocalDateTime start, LocalDateTime end) {
+    return new LocalDateTimeInterval(start, false, end, false);
+  }
+
+  private LocalDateTimeInterval(LocalDateTime start, boolean includesStart, LocalDateTime end, boolean includesEnd) {
+    if (start == null) {
+      throw new IllegalArgumentException("The start of the interval should not be null");
+    }
+    if (end == null) {
+      throw new IllegalArgumentException("The end of the interval should not be null");
+    }
+    this.start = start;
+    this.end = end;
+    this.includesStart = includesStart;
+    this.includesEnd = includesEnd;
+    startEpochSecond = start.toEpochSecond(UTC);
+    startNano = start.getNano();
+    endEpochSecond = end.toEpochSecond(UTC);
+    endNano = end.getNano();
+    checkIsValidInterval(startEpochSecond, startNano, endEpochSecond, endNano);
+  }
+
+  /**
+   * Returns whether the given {@link LocalDateTime} is in this interval, its bounds being included or not depending
+   * on how this interval was created.
+   *
+   * @param dateTime the {@link LocalDateTime} to check, {@code null} is never contained.
+   * @return {@code true} if the given {@link LocalDateTime} is in this interval.
+   */
+  public boolean contains(LocalDateTime dateTime) {
+    return dateTime != null
+           && isInInterval(dateTime.toEpochSecond(UTC), dateTime.getNano(), startEpochSecond, startNano,
+                           includesStart, endEpochSecond, endNano, includesEnd);
+  }
+
+  /**
+   * Returns whether the given {@link LocalDateTime} is in this interval, both of its bounds being excluded whatever
+   * the way this interval was created.
+   *
+   * @param dateTime the {@link LocalDateTime} to check, {@code null} is never contained.
+   * @return {@code true} if the given {@link LocalDateTime} is strictly between the bounds of this interval.
+   */
+  public boolean containsStrictly(LocalDateTime dateTime) {
+    return dateTime != null
+           && isInInterval(dateTime.toEpochSecond(UTC), dateTime.getNano(), startEpochSecond, startNano, false,
+                           endEpochSecond, endNano, false);
+  }
+
+  /**
+   * @return the start of this interval.
+   */
+  public LocalDateTime start() {
+    return start;
+  }
+
+  /**
+   * @return the end of this interval.
+   */
+  public LocalDateTime end() {
+    return end;
+  }
+
+  /**
+   * @return {@code true} if the start of this interval is in it.
+   */
+  public boolean includesStart() {
+    return includesStart;
+  }
+
+  /**
+   * @return {@code true} if the end of this interval is in it.
+   */
+  public boolean includesEnd() {
+    return includesEnd;
+  }
+
+  @Override
+  public String toString() {
+    return (includesStart ? "[" : "]") + start + ", " + end + (includesEnd ? "]" : "[");
+  }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import org.assertj.core8.internal.DateTimeIndex;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core8.internal.DateTimes.packFields;
+
+/**
+ * An immutable set of {@link LocalDateTime}s indexed by their packed date-time fields, meant to be built once and
+ * reused to check that many date-times are (or are not) in a large set of expected values.
+ * <p>
+ * Elements are compared with {@link LocalDateTime#equals(Object)} semantic.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * LocalDateTimeSet scheduleSlots = LocalDateTimeSet.of(slots);
+ * for (LocalDateTime execution : executions) {
+ *   assertThat(execution).isIn(scheduleSlots);
+ * }
+ * </pre>
+ */
+public final class LocalDateTimeSet {
+
+  /** Number of values described by {@link #toString()}, failure messages of large sets only show this sample. */
+  private static final int MAX_DESCRIBED_VALUES = 10;
+
+  private final DateTimeIndex index;
+  private final List<LocalDateTime> values;
+
+  /**
+   * Creates a new {@link LocalDateTimeSet} from the given {@link LocalDateTime}s, duplicates are only kept once.
+   *
+   * @param dateTimes the {@link LocalDateTime}s of the set.
+   * @return the created {@link LocalDateTimeSet}.
+   * @throws IllegalArgumentException if the given array is {@code null} or contains {@code null} elements.
+   */
+  public static LocalDateTimeSet of(LocalDateTime... dateTimes) {
+    if (dateTimes == null) {
+      throw new IllegalArgumentException("The given LocalDateTime array should not be null");
+    }
+    List<LocalDateTime> list = new ArrayList<>(dateTimes.length);
+    Collections.addAll(list, dateTimes);
+    return new LocalDateTimeSet(list);
+  }
+
+  /**
+   * Creates a new {@link LocalDateTimeSet} from the given {@link LocalDateTime}s, duplicates are only kept once.
+   *
+   * @param dateTimes the {@link LocalDateTime}s of the set.
+   * @return the created {@link LocalDateTimeSet}.
+   * @throws IllegalArgumentException if the given {@link Iterable} is {@code null} or contains {@code null} elements.
+   */
+  public static LocalDateTimeSet of(Iterable<LocalDateTime> dateTimes) {
+    if (dateTimes == null) {
+      throw new IllegalArgumentException("The given LocalDateTime Iterable should not be null");
+    }
+    List<LocalDateTime> list = new ArrayList<>();
+    for (LocalDateTime dateTime : dateTimes) {
+      list.add(dateTime);
+    }
+    return new LocalDateTimeSet(list);
+  }
+
+  private LocalDateTimeSet(List<LocalDateTime> dateTimes) {
+    index = new DateTimeIndex(dateTimes.size());
+    List<LocalDateTime> distinctValues = new ArrayList<>(dateTimes.size());
+    for (LocalDateTime dateTime : dateTimes) {
+      if (dateTime == null) {
+        throw new IllegalArgumentException("A LocalDateTimeSet should not contain null elements");
+      }
+      if (index.add(packFields(dateTime), dateTime.getNano())) {
+        distinctValues.add(dateTime);
+      }
+    }
+    values = Collections.unmodifiableList(distinctValues);
+  }
+
+  /**
+   * Returns whether this set contains a {@link LocalDateTime} equal to the given one.
+   *
+   * @param dateTime the {@link LocalDateTime} to look for, {@code null} is never contained.
+   * @return {@code true} if this set contains the given {@link LocalDateTime}.
+   */
+  public boolean contains(LocalDateTime dateTime) {
+    return dateTime != null && index.contains(packFields(dateTime), dateTime.getNano());
+  }
+
+  /**
+   * @return the number of distinct date-times in this set.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return {@code true} if this set has no elements.
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * @return the {@link LocalDateTime}s of this set in their insertion order, duplicates excepted.
+   */
+  public List<LocalDateTime> values() {
+    return values;
+  }
+
+  /**
+   * Describes the values of this set, a set with more than {@value #MAX_DESCRIBED_VALUES} values is described by its
+   * first values and its size, e.g. {@code [v1, v2, ..., v10, ...] (1000 values)}.
+   */
+  @Override
+  public String toString() {
+    if (values.size() <= MAX_DESCRIBED_VALUES) {
+      return values.toString();
+    }
+    StringBuilder description = new StringBuilder("[");
+    for (int i = 0; i < MAX_DESCRIBED_VALUES; i++) {
+      description.append(values.get(i)).append(", ");
+    }
+    return description.append("...] (").append(values.size()).append(" values)").toString();
+  }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core8.internal.DateTimes.checkIsValidInterval;
+import static org.assertj.core8.internal.DateTimes.isInInterval;
+
+/**
+ * An immutable interval of {@link ZonedDateTime}s whose bounds are converted once for all to epoch seconds and
+ * nanoseconds, meant to be built once and reused to check that many date-times are between the same bounds.
+ * <p>
+ * Date-times are compared by instant whatever their {@link java.time.ZoneId}, which is the semantic of
+ * {@link org.assertj.core8.api.ZonedDateTimeAssert#isBefore(ZonedDateTime)} and
+ * {@link org.assertj.core8.api.ZonedDateTimeAssert#isAfter(ZonedDateTime)}.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * ZonedDateTimeInterval businessDay = ZonedDateTimeInterval.halfOpen(opening, closing);
+ * for (ZonedDateTime execution : executions) {
+ *   assertThat(execution).isBetween(businessDay);
+ * }
+ * </pre>
+ */
+public final class ZonedDateTimeInterval {
+
+  private final ZonedDateTime start;
+  private final ZonedDateTime end;
+  private final boolean includesStart;
+  private final boolean includesEnd;
+  private final long startEpochSecond;
+  private final int startNano;
+  private final long endEpochSecond;
+  private final int endNano;
+
+  /**
+   * Creates a new {@link ZonedDateTimeInterval} including both of the given bounds.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link ZonedDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static ZonedDateTimeInterval closed(ZonedDateTime start, ZonedDateTime end) {
+    return new ZonedDateTimeInterval(start, true, end, true);
+  }
+
+  /**
+   * Creates a new {@link ZonedDateTimeInterval} including the given start and excluding the given end.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link ZonedDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static ZonedDateTimeInterval halfOpen(ZonedDateTime start, ZonedDateTime end) {
+    return new ZonedDateTimeInterval(start, true, end, false);
+  }
+
+  /**
+   * Creates a new {@link ZonedDateTimeInterval} excluding both of the given bounds.
+   *
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @return the created {@link ZonedDateTimeInterval}.
+   * @throws IllegalArgumentException if one of the given bounds is {@code null} or if end is before start.
+   */
+  public static ZonedDateTimeInterval open(ZonedDateTime start, ZonedDateTime end) {
+    return new ZonedDateTimeInterval(start, false, end, false);
+  }
+
+  private ZonedDateTimeInterval(ZonedDateTime start, boolean includesStart, ZonedDateTime end, boolean includesEnd) {
+    if (start == null) {
+      throw new IllegalArgumentException("The start of the interval should not be null");
+    }
+    if (end == null) {
+      throw new IllegalArgumentException("The end of the interval should not be null");
+    }
+    this.start = start;
+    this.end = end;
+    this.includesStart = includesStart;
+    this.includesEnd = includesEnd;
+    startEpochSecond = start.toEpochSecond();
+    startNano = start.getNano();
+    endEpochSecond = end.toEpochSecond();
+    endNano = end.getNano();
+    checkIsValidInterval(startEpochSecond, startNano, endEpochSecond, endNano);
+  }
+
+  /**
+   * Returns whether the given {@link ZonedDateTime} is in this interval, its bounds being included or not depending
+   * on how this interval was created.
+   *
+   * @param dateTime the {@link ZonedDateTime} to check, {@code null} is never contained.
+   * @return {@code true} if the given {@link ZonedDateTime} is in this interval.
+   */
+  public boolean contains(ZonedDateTime dateTime) {
+    return dateTime != null
+           && isInInterval(dateTime.toEpochSecond(), dateTime.getNano(), startEpochSecond, startNano,
+                           includesStart, endEpochSecond, endNano, includesEnd);
+  }
+
+  /**
+   * Returns whether the given {@link ZonedDateTime} is in this interval, both of its bounds being excluded whatever
+   * the way this interval was created.
+   *
+   * @param dateTime the {@link ZonedDateTime} to check, {@code null} is never contained.
+   * @return {@code true} if the given {@link ZonedDateTime} is strictly between the bounds of this interval.
+   */
+  public boolean containsStrictly(ZonedDateTime dateTime) {
+    return dateTime != null
+           && isInInterval(dateTime.toEpochSecond(), dateTime.getNano(), startEpochSecond, startNano, false,
+                           endEpochSecond, endNano, false);
+  }
+
+  /**
+   * @return the start of this interval.
+   */
+  public ZonedDateTime start() {
+    return start;
+  }
+
+  /**
+   * @return the end of this interval.
+   */
+  public ZonedDateTime end() {
+    return end;
+  }
+
+  /**
+   * @return {@code true} if the start of this interval is in it.
+   */
+  public boolean includesStart() {
+    return includesStart;
+  }
+
+  /**
+   * @return {@code true} if the end of this interval is in it.
+   */
+  public boolean includesEnd() {
+    return includesEnd;
+  }
+
+  @Override
+  public String toString() {
+    return (includesStart ? "[" : "]") + start + ", " + end + (includesEnd ? "]" : "[");
+  }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import org.assertj.core8.internal.DateTimeIndex;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable set of {@link ZonedDateTime}s indexed by instant, meant to be built once and reused to check that many
+ * date-times are (or are not) in a large set of expected values.
+ * <p>
+ * Two {@link ZonedDateTime}s are considered equal if they represent the same instant whatever their
+ * {@link java.time.ZoneId}, which is the semantic of {@link org.assertj.core8.api.ZonedDateTimeAssert#isIn(ZonedDateTime...)}
+ * where expected values are compared in the actual {@link ZonedDateTime}'s {@link java.time.ZoneId}.
+ * <p>
+ * Example :
+ *
+ * <pre>
+ * ZonedDateTimeSet scheduleSlots = ZonedDateTimeSet.of(slots);
+ * for (ZonedDateTime execution : executions) {
+ *   assertThat(execution).isIn(scheduleSlots);
+ * }
+ * </pre>
+ */
+public final class ZonedDateTimeSet {
+
+  /** Number of values described by {@link #toString()}, failure messages of large sets only show this sample. */
+  private static final int MAX_DESCRIBED_VALUES = 10;
+
+  private final DateTimeIndex index;
+  private final List<ZonedDateTime> values;
+
+  /**
+   * Creates a new {@link ZonedDateTimeSet} from the given {@link ZonedDateTime}s, duplicate instants are only kept once.
+   *
+   * @param dateTimes the {@link ZonedDateTime}s of the set.
+   * @return the created {@link ZonedDateTimeSet}.
+   * @throws IllegalArgumentException if the given array is {@code null} or contains {@code null} elements.
+   */
+  public static ZonedDateTimeSet of(ZonedDateTime... dateTimes) {
+    if (dateTimes == null) {
+      throw new IllegalArgumentException("The given ZonedDateTime array should not be null");
+    }
+    List<ZonedDateTime> list = new ArrayList<>(dateTimes.length);
+    Collections.addAll(list, dateTimes);
+    return new ZonedDateTimeSet(list);
+  }
+
+  /**
+   * Creates a new {@link ZonedDateTimeSet} from the given {@link ZonedDateTime}s, duplicate instants are only kept once.
+   *
+   * @param dateTimes the {@link ZonedDateTime}s of the set.
+   * @return the created {@link ZonedDateTimeSet}.
+   * @throws IllegalArgumentException if the given {@link Iterable} is {@code null} or contains {@code null} elements.
+   */
+  public static ZonedDateTimeSet of(Iterable<ZonedDateTime> dateTimes) {
+    if (dateTimes == null) {
+      throw new IllegalArgumentException("The given ZonedDateTime Iterable should not be null");
+    }
+    List<ZonedDateTime> list = new ArrayList<>();
+    for (ZonedDateTime dateTime : dateTimes) {
+      list.add(dateTime);
+    }
+    return new ZonedDateTimeSet(list);
+  }
+
+  private ZonedDateTimeSet(List<ZonedDateTime> dateTimes) {
+    index = new DateTimeIndex(dateTimes.size());
+    List<ZonedDateTime> distinctValues = new ArrayList<>(dateTimes.size());
+    for (ZonedDateTime dateTime : dateTimes) {
+      if (dateTime == null) {
+        throw new IllegalArgumentException("A ZonedDateTimeSet should not contain null elements");
+      }
+      if (index.add(dateTime.toEpochSecond(), dateTime.getNano())) {
+        distinctValues.add(dateTime);
+      }
+    }
+    values = Collections.unmodifiableList(distinctValues);
+  }
+
+  /**
+   * Returns whether this set contains a {@link ZonedDateTime} representing the same instant as the given one.
+   *
+   * @param dateTime the {@link ZonedDateTime} to look for, {@code null} is never contained.
+   * @return {@code true} if this set contains the same instant as the given {@link ZonedDateTime}.
+   */
+  public boolean contains(ZonedDateTime dateTime) {
+    return dateTime != null && index.contains(dateTime.toEpochSecond(), dateTime.getNano());
+  }
+
+  /**
+   * @return the number of distinct instants in this set.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return {@code true} if this set has no elements.
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * @return the {@link ZonedDateTime}s of this set in their insertion order, duplicate instants excepted.
+   */
+  public List<ZonedDateTime> values() {
+    return values;
+  }
+
+  /**
+   * Describes the values of this set, a set with more than {@value #MAX_DESCRIBED_VALUES} values is described by its
+   * first values and its size, e.g. {@code [v1, v2, ..., v10, ...] (1000 values)}.
+   */
+  @Override
+  public String toString() {
+    if (values.size() <= MAX_DESCRIBED_VALUES) {
+      return values.toString();
+    }
+    StringBuilder description = new StringBuilder("[");
+    for (int i = 0; i < MAX_DESCRIBED_VALUES; i++) {
+      description.append(values.get(i)).append(", ");
+    }
+    return description.append("...] (").append(values.size()).append(" values)").toString();
+  }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core8.error.ShouldBeEqualTruncatedTo.comparedFields;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements of a group of date-times
+ * satisfy a requirement failed, the message reports every offending element with its index.
+ */
+public class ElementsShouldBe extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be strictly before a date-time.
+   *
+   * @param size the number of elements in the group.
+   * @param other the date-time all elements should be before.
+   * @param offenders the elements that are not before other by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeBefore(int size, Object other, Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to be strictly before:\n  <%s>", size, offenders, other);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be strictly after a date-time.
+   *
+   * @param size the number of elements in the group.
+   * @param other the date-time all elements should be after.
+   * @param offenders the elements that are not after other by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeAfter(int size, Object other, Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to be strictly after:\n  <%s>", size, offenders, other);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be between two date-times
+   * (inclusive).
+   *
+   * @param size the number of elements in the group.
+   * @param start the start of the range all elements should be in.
+   * @param end the end of the range all elements should be in.
+   * @param offenders the elements that are out of range by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeBetween(int size, Object start, Object end,
+                                                            Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to be in range:\n  [<%s>, <%s>]", size, offenders, start, end);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be equal to a date-time when
+   * second and nanosecond fields are ignored.
+   *
+   * @param size the number of elements in the group.
+   * @param other the date-time all elements should be equal to.
+   * @param offenders the elements that are not equal to other by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeEqualIgnoringSeconds(int size, Object other,
+                                                                         Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to have same year, month, day, hour and minute as:\n  <%s>", size, offenders, other);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be equal to a date-time once
+   * truncated to the given unit.
+   *
+   * @param size the number of elements in the group.
+   * @param other the date-time all elements should be equal to.
+   * @param unit the unit date-times are truncated to.
+   * @param offenders the elements that are not equal to other by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeEqualTruncatedTo(int size, Object other, ChronoUnit unit,
+                                                                     Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to have same " + comparedFields(unit) + " as:\n  <%s>", size, offenders, other);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all be greater than (or equal to)
+   * their predecessor.
+   *
+   * @param size the number of elements in the group.
+   * @param strictly whether elements should be strictly greater than their predecessor.
+   * @param offenders the elements that are lower than (or equal to) their predecessor by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldBeIncreasing(int size, boolean strictly, Map<Integer, ?> offenders) {
+    return new ElementsShouldBe(strictly ? "to be strictly greater than their predecessor"
+        : "to be greater than or equal to their predecessor", size, offenders);
+  }
+
+  /**
+   * Creates a new <code>{@link ElementsShouldBe}</code> for elements that should all follow their predecessor by at
+   * most the given gap.
+   *
+   * @param size the number of elements in the group.
+   * @param maxGap the maximum gap between an element and its predecessor.
+   * @param offenders the elements that are too far from their predecessor by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementsShouldNotHaveGapGreaterThan(int size, Object maxGap,
+                                                                        Map<Integer, ?> offenders) {
+    return new ElementsShouldBe("to follow their predecessor by at most:\n  <%s>", size, offenders, maxGap);
+  }
+
+  private ElementsShouldBe(String expectation, int size, Map<Integer, ?> offenders, Object... expected) {
+    super("\nExpecting all of the <%s> elements " + expectation
+          + "\nbut these elements were not (index=element):\n  <%s>", arguments(size, offenders, expected));
+  }
+
+  private static Object[] arguments(int size, Map<Integer, ?> offenders, Object... expected) {
+    Object[] arguments = new Object[expected.length + 2];
+    arguments[0] = size;
+    System.arraycopy(expected, 0, arguments, 1, expected.length);
+    arguments[arguments.length - 1] = offenders;
+    return arguments;
+  }
+}
@@ -15,6 +15,9 @@ package org.assertj.core8.error;
 import org.assertj.core.error.BasicErrorMessageFactory;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * Build error message when an {@link java.util.Optional} should be empty.
@@ -37,4 +40,34 @@ public class OptionalShouldBeEmpty extends BasicErrorMessageFactory {
   public static <T> OptionalShouldBeEmpty shouldBeEmpty(Optional<T> optional) {
     return new OptionalShouldBeEmpty(optional.get());
   }
+
+  /**
+   * Indicates that the provided {@link java.util.OptionalInt} should be empty.
+   *
+   * @param optional the actual {@link OptionalInt} to test.
+   * @return a error message factory.
+   */
+  public static OptionalShouldBeEmpty shouldBeEmpty(OptionalInt optional) {
+    return new OptionalShouldBeEmpty(optional.getAsInt());
+  }
+
+  /**
+   * Indicates that the provided {@link java.util.OptionalLong} should be empty.
+   *
+   * @param optional the actual {@link OptionalLong} to test.
+   * @return a error message factory.
+   */
+  public static OptionalShouldBeEmpty shouldBeEmpty(OptionalLong optional) {
+    return new OptionalShouldBeEmpty(optional.getAsLong());
+  }
+
+  /**
+   * Indicates that the provided {@link java.util.OptionalDouble} should be empty.
+   *
+   * @param optional the actual {@link OptionalDouble} to test.
+   * @return a error message factory.
+   */
+  public static OptionalShouldBeEmpty shouldBeEmpty(OptionalDouble optional) {
+    return new OptionalShouldBeEmpty(optional.getAsDouble());
+  }
 }
@@ -14,7 +14,15 @@ package org.assertj.core8.error;
 
 import org.assertj.core.error.BasicErrorMessageFactory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
 
 /**
  * Build error message when an {@link Optional} should contain a specific value.
@@ -23,6 +31,9 @@ import java.util.Optional;
  */
 public class OptionalShouldContain extends BasicErrorMessageFactory {
 
+  /** Number of values described by {@link #shouldContainAnyOf(Optional, Set)}, large sets only show this sample. */
+  private static final int MAX_DESCRIBED_VALUES = 10;
+
   private OptionalShouldContain(Object actual, Object expected) {
     super("%nExpecting:%n  <%s>%nto contains:%n  <%s>%nbut was not.", actual, expected);
   }
@@ -31,6 +42,10 @@ public class OptionalShouldContain extends BasicErrorMessageFactory {
     super("%nExpecting an Optional with value:%n  <%s>%nbut was empty.", expected);
   }
 
+  private OptionalShouldContain(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
   /**
    * Indicates that the provided {@link java.util.Optional} does not contain the provided argument.
    *
@@ -43,6 +58,90 @@ public class OptionalShouldContain extends BasicErrorMessageFactory {
     return new OptionalShouldContain(optional, expectedValue);
   }
 
+  /**
+   * Indicates that the provided {@link java.util.OptionalInt} does not contain the provided argument.
+   *
+   * @param optional      the {@link java.util.OptionalInt} which contains a value.
+   * @param expectedValue the value we expect to be in the provided {@link java.util.OptionalInt}.
+   * @return a error message factory
+   */
+  public static OptionalShouldContain shouldContain(OptionalInt optional, int expectedValue) {
+    return new OptionalShouldContain(optional, expectedValue);
+  }
+
+  /**
+   * Indicates that the provided {@link java.util.OptionalLong} does not contain the provided argument.
+   *
+   * @param optional      the {@link java.util.OptionalLong} which contains a value.
+   * @param expectedValue the value we expect to be in the provided {@link java.util.OptionalLong}.
+   * @return a error message factory
+   */
+  public static OptionalShouldContain shouldContain(OptionalLong optional, long expectedValue) {
+    return new OptionalShouldContain(optional, expectedValue);
+  }
+
+  /**
+   * Indicates that the provided {@link java.util.OptionalDouble} does not contain the provided argument.
+   *
+   * @param optional      the {@link java.util.OptionalDouble} which contains a value.
+   * @param expectedValue the value we expect to be in the provided {@link java.util.OptionalDouble}.
+   * @return a error message factory
+   */
+  public static OptionalShouldContain shouldContain(OptionalDouble optional, double expectedValue) {
+    return new OptionalShouldContain(optional, expectedValue);
+  }
+
+  /**
+   * Indicates that the provided {@link java.util.Optional} does not contain a value equal to the provided argument
+   * according to the given comparator.
+   *
+   * @param optional      the {@link java.util.Optional} which contains a value.
+   * @param expectedValue the value we expect to be in the provided {@link java.util.Optional}.
+   * @param comparator    the comparator used to compare the values.
+   * @param <T>           the type of the value contained in the {@link java.util.Optional}.
+   * @return a error message factory
+   */
+  public static <T> OptionalShouldContain shouldContain(Optional<T> optional, T expectedValue,
+                                                        Comparator<? super T> comparator) {
+    return new OptionalShouldContain("%nExpecting:%n  <%s>%nto contains:%n  <%s>%naccording to comparator:%n  <%s>"
+                                     + "%nbut was not.", optional, expectedValue, comparator);
+  }
+
+  /**
+   * Indicates that the key of the value of the provided {@link java.util.Optional} is not the expected one.
+   *
+   * @param optional    the {@link java.util.Optional} which contains a value.
+   * @param expectedKey the key we expect the value of the provided {@link java.util.Optional} to have.
+   * @param actualKey   the key of the value of the provided {@link java.util.Optional}.
+   * @return a error message factory
+   */
+  public static OptionalShouldContain shouldContainValueWithKey(Optional<?> optional, Object expectedKey,
+                                                                Object actualKey) {
+    return new OptionalShouldContain("%nExpecting:%n  <%s>%nto contain a value with key:%n  <%s>"
+                                     + "%nbut key was:%n  <%s>.", optional, expectedKey, actualKey);
+  }
+
+  /**
+   * Indicates that the value of the provided {@link java.util.Optional} is none of the provided values, a set of more
+   * than {@value #MAX_DESCRIBED_VALUES} values is described by its size and its first values only.
+   *
+   * @param optional       the {@link java.util.Optional} which contains a value.
+   * @param expectedValues the values we expect one of to be in the provided {@link java.util.Optional}.
+   * @return a error message factory
+   */
+  public static OptionalShouldContain shouldContainAnyOf(Optional<?> optional, Set<?> expectedValues) {
+    if (expectedValues.size() <= MAX_DESCRIBED_VALUES) {
+      return new OptionalShouldContain("%nExpecting:%n  <%s>%nto contain any of:%n  <%s>%nbut did not.", optional,
+                                       expectedValues);
+    }
+    List<Object> describedValues = new ArrayList<>(MAX_DESCRIBED_VALUES);
+    for (Iterator<?> values = expectedValues.iterator(); describedValues.size() < MAX_DESCRIBED_VALUES;) {
+      describedValues.add(values.next());
+    }
+    return new OptionalShouldContain("%nExpecting:%n  <%s>%nto contain any of <%s> values including:%n  <%s>"
+                                     + "%nbut did not.", optional, expectedValues.size(), describedValues);
+  }
+
   /**
    * Indicates that an {@link java.util.Optional} is empty so it doesn't contain the expected value.
    *
@@ -0,0 +1,40 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+/**
+ * Build error message when an {@link java.util.OptionalInt}, {@link java.util.OptionalLong} or
+ * {@link java.util.OptionalDouble} should contain a value close to an expected one.
+ */
+public class OptionalShouldContainCloseTo extends BasicErrorMessageFactory {
+
+  private OptionalShouldContainCloseTo(Object actual, Object expected, Object offset) {
+    super("%nExpecting:%n  <%s>%nto contain a value close to:%n  <%s>%nwithin offset:%n  <%s>%nbut was not.", actual,
+          expected, offset);
+  }
+
+  /**
+   * Indicates that the provided optional does not contain a value close to the expected one.
+   *
+   * @param optional      the optional which contains a value.
+   * @param expectedValue the value we expect to be close to the value of the provided optional.
+   * @param offset        the maximum difference between the expected value and the value of the optional.
+   * @return a error message factory.
+   */
+  public static OptionalShouldContainCloseTo shouldContainCloseTo(Object optional, Object expectedValue,
+                                                                  Object offset) {
+    return new OptionalShouldContainCloseTo(optional, expectedValue, offset);
+  }
+}
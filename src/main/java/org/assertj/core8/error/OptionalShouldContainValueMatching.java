@@ -0,0 +1,36 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+
+/**
+ * Build error message when an {@link java.util.OptionalInt}, {@link java.util.OptionalLong} or
+ * {@link java.util.OptionalDouble} should contain a value matching a predicate.
+ */
+public class OptionalShouldContainValueMatching extends BasicErrorMessageFactory {
+
+  private OptionalShouldContainValueMatching(Object actual) {
+    super("%nExpecting:%n  <%s>%nto contain a value matching given predicate but it did not.", actual);
+  }
+
+  /**
+   * Indicates that the value of the provided optional does not match the given predicate.
+   *
+   * @param optional the optional which contains a value.
+   * @return a error message factory.
+   */
+  public static OptionalShouldContainValueMatching shouldContainValueMatching(Object optional) {
+    return new OptionalShouldContainValueMatching(optional);
+  }
+}
@@ -0,0 +1,72 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the {@link java.util.Optional}s of a
+ * group satisfy a requirement failed, the message reports how many of them are present and empty and every offending
+ * {@code Optional} with its index.
+ */
+public class OptionalsShouldBe extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link OptionalsShouldBe}</code> for {@code Optional}s that should all contain a value.
+   *
+   * @param size the number of {@code Optional}s in the group.
+   * @param presentCount the number of present {@code Optional}s in the group.
+   * @param offenders the empty (or {@code null}) {@code Optional}s by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory optionalsShouldBePresent(int size, int presentCount, Map<Integer, ?> offenders) {
+    return new OptionalsShouldBe("to contain a value\nbut <%s> were present and these <%s> were not, at indices:",
+                                 size, presentCount, offenders.size(), offenders.keySet());
+  }
+
+  /**
+   * Creates a new <code>{@link OptionalsShouldBe}</code> for {@code Optional}s that should all be empty.
+   *
+   * @param size the number of {@code Optional}s in the group.
+   * @param presentCount the number of present {@code Optional}s in the group.
+   * @param offenders the present (or {@code null}) {@code Optional}s by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory optionalsShouldBeEmpty(int size, int presentCount, Map<Integer, ?> offenders) {
+    return new OptionalsShouldBe("to be empty\nbut <%s> were present, these Optionals were not empty (index=Optional):",
+                                 size, presentCount, offenders);
+  }
+
+  /**
+   * Creates a new <code>{@link OptionalsShouldBe}</code> for {@code Optional}s that should all contain a given value.
+   *
+   * @param size the number of {@code Optional}s in the group.
+   * @param expectedValue the value all {@code Optional}s should contain.
+   * @param presentCount the number of present {@code Optional}s in the group.
+   * @param offenders the {@code Optional}s that do not contain the expected value by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory optionalsShouldContain(int size, Object expectedValue, int presentCount,
+                                                           Map<Integer, ?> offenders) {
+    return new OptionalsShouldBe("to contain:\n  <%s>"
+                                 + "\nbut <%s> were present, these Optionals did not contain it (index=Optional):",
+                                 size, expectedValue, presentCount, offenders);
+  }
+
+  private OptionalsShouldBe(String expectation, Object... arguments) {
+    super("\nExpecting all of the <%s> Optionals " + expectation + "\n  <%s>", arguments);
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a date-time is in an interval failed, the
+ * interval is shown in the usual notation where a bracket facing away from the interval excludes its bound, e.g.
+ * {@code [start, end[} includes the start and excludes the end.
+ */
+public class ShouldBeBetween extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeBetween}</code>.
+   * 
+   * @param actual the actual value in the failed assertion.
+   * @param start the start of the interval.
+   * @param end the end of the interval.
+   * @param includesStart whether the start is in the interval.
+   * @param includesEnd whether the end is in the interval.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeBetween(Object actual, Object start, Object end, boolean includesStart,
+                                                    boolean includesEnd) {
+    return new ShouldBeBetween(actual, start, end, includesStart, includesEnd);
+  }
+
+  private ShouldBeBetween(Object actual, Object start, Object end, boolean includesStart, boolean includesEnd) {
+    super("\nExpecting:\n  <%s>\nto be in interval:\n  " + (includesStart ? '[' : ']') + "%s, %s"
+          + (includesEnd ? ']' : '[') + "\nbut was not.", actual, start, end);
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.Duration;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a date-time is within a given tolerance of
+ * another one failed.
+ */
+public class ShouldBeCloseTo extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeCloseTo}</code>.
+   * 
+   * @param actual the actual value in the failed assertion.
+   * @param other the value used in the failed assertion to compare the actual value to.
+   * @param tolerance the maximum distance allowed between both values.
+   * @param difference the actual distance between both values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeCloseTo(Object actual, Object other, Duration tolerance,
+                                                    Duration difference) {
+    return new ShouldBeCloseTo(actual, other, tolerance, difference);
+  }
+
+  private ShouldBeCloseTo(Object actual, Object other, Duration tolerance, Duration difference) {
+    super("\nExpecting:\n  <%s>\nto be close to:\n  <%s>\nwithin <%s> but difference was <%s>.", actual, other,
+          tolerance, difference);
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two date-times have same fields down to a
+ * given {@link ChronoUnit} failed.
+ */
+public class ShouldBeEqualTruncatedTo extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeEqualTruncatedTo}</code>.
+   * 
+   * @param actual the actual value in the failed assertion.
+   * @param other the value used in the failed assertion to compare the actual value to.
+   * @param unit the unit both values were truncated to.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualTruncatedTo(Object actual, Object other, ChronoUnit unit) {
+    return new ShouldBeEqualTruncatedTo(actual, other, unit);
+  }
+
+  private ShouldBeEqualTruncatedTo(Object actual, Object other, ChronoUnit unit) {
+    super("\nExpecting:\n  <%s>\nto have same " + comparedFields(unit) + " as:\n  <%s>\nbut had not.", actual, other);
+  }
+
+  static String comparedFields(ChronoUnit unit) {
+    switch (unit) {
+    case YEARS:
+      return "year";
+    case MONTHS:
+      return "year and month";
+    case DAYS:
+      return "year, month and day";
+    case HOURS:
+      return "year, month, day and hour";
+    case MINUTES:
+      return "year, month, day, hour and minute";
+    case SECONDS:
+      return "year, month, day, hour, minute and second";
+    case MILLIS:
+      return "year, month, day, hour, minute, second and millisecond";
+    case MICROS:
+      return "year, month, day, hour, minute, second and microsecond";
+    default:
+      return "year, month, day, hour, minute, second and nanosecond";
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a sequence of date-times is in chronological
+ * order failed, the message reports the first offending element with its index and neighbourhood.
+ */
+public class ShouldBeInChronologicalOrder extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeInChronologicalOrder}</code> for an element before its predecessor.
+   *
+   * @param index the index of the offending element.
+   * @param element the offending element.
+   * @param previous the element preceding the offending one.
+   * @param strictly whether elements should be strictly after their predecessor.
+   * @param neighbourhood the offending element and its neighbours by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeInChronologicalOrder(long index, Object element, Object previous,
+                                                                 boolean strictly, Map<Long, ?> neighbourhood) {
+    return new ShouldBeInChronologicalOrder("\nExpecting date-times to be in " + (strictly ? "strict " : "")
+                                            + "chronological order\nbut element at index <%s>:\n  <%s>\nwas "
+                                            + (strictly ? "not after" : "before") + " previous element:\n  <%s>\n"
+                                            + "neighbourhood (index=element):\n  <%s>",
+                                            index, element, previous, neighbourhood);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldBeInChronologicalOrder}</code> for an element too far from its predecessor.
+   *
+   * @param index the index of the offending element.
+   * @param element the offending element.
+   * @param previous the element preceding the offending one.
+   * @param gap the gap between the offending element and its predecessor.
+   * @param maxGap the maximum allowed gap between two consecutive elements.
+   * @param neighbourhood the offending element and its neighbours by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotHaveGapGreaterThan(long index, Object element, Object previous,
+                                                                Duration gap, Duration maxGap,
+                                                                Map<Long, ?> neighbourhood) {
+    return new ShouldBeInChronologicalOrder("\nExpecting consecutive date-times to be at most <%s> apart\n"
+                                            + "but element at index <%s>:\n  <%s>\nwas <%s> after previous element:\n"
+                                            + "  <%s>\nneighbourhood (index=element):\n  <%s>",
+                                            maxGap, index, element, gap, previous, neighbourhood);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldBeInChronologicalOrder}</code> for a {@code null} element.
+   *
+   * @param index the index of the {@code null} element.
+   * @param neighbourhood the {@code null} element and its neighbours by index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory elementShouldNotBeNull(long index, Map<Long, ?> neighbourhood) {
+    return new ShouldBeInChronologicalOrder("\nExpecting date-times to be in chronological order\n"
+                                            + "but element at index <%s> was null\n"
+                                            + "neighbourhood (index=element):\n  <%s>", index, neighbourhood);
+  }
+
+  private ShouldBeInChronologicalOrder(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,211 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates error messages indicating that an assertion on the elements of a stream failed, the stream being consumed
+ * by the assertion only the offending element and its index are reported.
+ * <p>
+ * Indices and element counts are written in the message format rather than given as arguments, so that they read as
+ * plain numbers instead of being represented as {@code long} values (e.g. {@code 3L}).
+ */
+public class StreamElementsShould extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream that should be empty.
+   *
+   * @param first the first element of the stream.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEmpty(Object first) {
+    return new StreamElementsShould("\nExpecting stream to be empty but its first element was:\n  <%s>", first);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream statistic not having the expected value.
+   *
+   * @param statistic the name of the statistic, e.g. "count".
+   * @param expected the expected value of the statistic.
+   * @param actual the actual value of the statistic.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHave(String statistic, Object expected, Object actual) {
+    return new StreamElementsShould("\nExpecting stream " + statistic + " to be:\n  <%s>\nbut was:\n  <%s>", expected,
+                                    actual);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a statistic that is not defined as the stream is empty.
+   *
+   * @param statistic the name of the statistic, e.g. "min".
+   * @param expected the expected value of the statistic.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveButWasEmpty(String statistic, Object expected) {
+    return new StreamElementsShould("\nExpecting stream " + statistic + " to be:\n  <%s>\nbut stream was empty",
+                                    expected);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for an element less than its predecessor.
+   *
+   * @param index the index of the offending element.
+   * @param element the offending element.
+   * @param previous the element preceding the offending one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSorted(long index, Object element, Object previous) {
+    return new StreamElementsShould("\nExpecting stream elements to be sorted but element at index <" + index
+                                    + ">:\n  <%s>\nwas less than previous element:\n  <%s>", element, previous);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for values not found in the stream.
+   *
+   * @param expected the values to look for.
+   * @param notFound the values that were not found.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContain(Object expected, Object notFound) {
+    return new StreamElementsShould("\nExpecting stream to contain:\n  <%s>\nbut could not find:\n  <%s>", expected,
+                                    notFound);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for an unexpected value found in the stream.
+   *
+   * @param unexpected the values that should not be found.
+   * @param index the index of the first element found.
+   * @param element the first element found.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotContain(Object unexpected, long index, Object element) {
+    return new StreamElementsShould("\nExpecting stream not to contain:\n  <%s>\nbut found element at index <" + index
+                                    + ">:\n  <%s>", unexpected, element);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for an element not matching the given predicate.
+   *
+   * @param index the index of the offending element.
+   * @param element the offending element.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllMatch(long index, Object element) {
+    return new StreamElementsShould("\nExpecting all stream elements to match given predicate but element at index <"
+                                    + index + ">:\n  <%s>\ndid not", element);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for an element matching the given predicate.
+   *
+   * @param index the index of the offending element.
+   * @param element the offending element.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNoneMatch(long index, Object element) {
+    return new StreamElementsShould("\nExpecting no stream element to match given predicate but element at index <"
+                                    + index + ">:\n  <%s>\ndid", element);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream without any element matching the given
+   * predicate.
+   *
+   * @param count the number of elements of the stream.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAnyMatch(long count) {
+    return new StreamElementsShould("\nExpecting any of the <" + count
+                                    + "> stream elements to match given predicate but none did");
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream having more elements than expected.
+   *
+   * @param expected the expected number of elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveCountButHadMore(long expected) {
+    return new StreamElementsShould("\nExpecting stream count to be:\n  <%s>\nbut stream had more elements", expected);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream having too many elements.
+   *
+   * @param boundary the number of elements the stream should have less than.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveCountLessThan(long boundary) {
+    return new StreamElementsShould("\nExpecting stream to have less than <" + boundary
+                                    + "> elements but it had at least <" + boundary + ">");
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream not starting with the expected values.
+   *
+   * @param expected the values the stream should start with.
+   * @param index the index of the first element not equal to the expected one.
+   * @param element the first element not equal to the expected one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldStartWith(Object expected, long index, Object element) {
+    return new StreamElementsShould("\nExpecting stream to start with:\n  <%s>\nbut element at index <" + index
+                                    + "> was:\n  <%s>", expected, element);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream too short to start or end with the expected
+   * values.
+   *
+   * @param expected the values the stream should start or end with.
+   * @param count the number of elements of the stream.
+   * @param start whether the stream should start or end with the expected values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldStartOrEndWithButWasTooShort(Object expected, long count, boolean start) {
+    return new StreamElementsShould("\nExpecting stream to " + (start ? "start" : "end") + " with:\n  <%s>\n"
+                                    + "but stream only had <" + count + "> elements", expected);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a stream not ending with the expected values.
+   *
+   * @param expected the values the stream should end with.
+   * @param last the last elements of the stream.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldEndWith(Object expected, Object last) {
+    return new StreamElementsShould("\nExpecting stream to end with:\n  <%s>\nbut its last elements were:\n  <%s>",
+                                    expected, last);
+  }
+
+  /**
+   * Creates a new <code>{@link StreamElementsShould}</code> for a duplicated element.
+   *
+   * @param index the index of the duplicated element.
+   * @param element the duplicated element.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotHaveDuplicates(long index, Object element) {
+    return new StreamElementsShould("\nExpecting stream not to have duplicates but element at index <" + index
+                                    + ">:\n  <%s>\nwas already found", element);
+  }
+
+  private StreamElementsShould(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+/**
+ * The evaluation of an assertion method, begun and closed around its body by the assertion methods of this module:
+ *
+ * <pre><code class='java'>
+ * public ZonedDateTimeAssert isBefore(ZonedDateTime other) {
+ *   try (AssertionEvaluation evaluation = AssertionEvaluation.begin(this, "isBefore")) {
+ *     ...
+ *   }
+ * }
+ * </code></pre>
+ *
+ * The evaluation is recorded as an {@code AssertionEvaluated} event of {@link AssertionEvents} and, when the
+ * {@link AssertionMetrics} are enabled, as an invocation of the assertion method with its latency. It is failed when a
+ * failure is created by {@link Failures} while it runs. Only the outermost evaluation of a thread is recorded, the
+ * assertion methods called by another one (e.g. the {@code String} overloads) are part of it.
+ * <p>
+ * When the evaluations are not recorded, {@link #begin(Object, String)} returns a shared instance doing nothing on
+ * {@link #close()}.
+ */
+public final class AssertionEvaluation implements AutoCloseable {
+
+  private static final AssertionEvaluation NOT_RECORDED = new AssertionEvaluation(null, null, null, false);
+  private static final ThreadLocal<AssertionEvaluation> CURRENT = new ThreadLocal<>();
+
+  private final Object assertion;
+  private final String method;
+  private final Object event;
+  private final boolean timed;
+  private final long startNanos;
+  private boolean failed;
+
+  private AssertionEvaluation(Object assertion, String method, Object event, boolean timed) {
+    this.assertion = assertion;
+    this.method = method;
+    this.event = event;
+    this.timed = timed;
+    this.startNanos = timed ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Begins the evaluation of the given assertion method.
+   *
+   * @param assertion the assertion object the method is called on.
+   * @param method the name of the assertion method.
+   * @return the begun evaluation, to close once the assertion method is done.
+   */
+  public static AssertionEvaluation begin(Object assertion, String method) {
+    boolean timed = AssertionMetrics.instance().isEnabled();
+    if ((!timed && !AssertionEvents.isEvaluationRecorded()) || CURRENT.get() != null) {
+      return NOT_RECORDED;
+    }
+    AssertionEvaluation evaluation = new AssertionEvaluation(assertion, method, AssertionEvents.beginEvaluation(),
+                                                             timed);
+    CURRENT.set(evaluation);
+    return evaluation;
+  }
+
+  /**
+   * Marks the evaluation running in the current thread, if any, as failed.
+   */
+  static void failed() {
+    if (isRecorded()) {
+      AssertionEvaluation evaluation = CURRENT.get();
+      if (evaluation != null) {
+        evaluation.failed = true;
+      }
+    }
+  }
+
+  /**
+   * Ends the evaluation and records it.
+   */
+  @Override
+  public void close() {
+    if (this == NOT_RECORDED) {
+      return;
+    }
+    if (timed) {
+      AssertionMetrics.instance().recordEvaluation(assertion, method, System.nanoTime() - startNanos, failed);
+    }
+    CURRENT.remove();
+    AssertionEvents.endEvaluation(event, assertion, method, failed);
+  }
+
+  private static boolean isRecorded() {
+    return AssertionMetrics.instance().isEnabled() || AssertionEvents.isEvaluationRecorded();
+  }
+
+}
@@ -0,0 +1,149 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+/**
+ * Emits the Java Flight Recorder events of this module, all disabled by default:
+ * <ul>
+ * <li>{@code org.assertj.core8.AssertionEvaluated}: an assertion method is evaluated, see
+ * {@link AssertionEvaluation},</li>
+ * <li>{@code org.assertj.core8.FailureCreated}: the error of a failed assertion is created, including the filtering
+ * of its stack trace,</li>
+ * <li>{@code org.assertj.core8.DateTimeParsed}: a date-time given as a String to an assertion is parsed,</li>
+ * <li>{@code org.assertj.core8.ZoneConverted}: date-times are moved to the zone of the actual date-time.</li>
+ * </ul>
+ * They are enabled like any JFR event, e.g. in a recording settings file:
+ *
+ * <pre>
+ * &lt;event name="org.assertj.core8.FailureCreated"&gt;
+ *   &lt;setting name="enabled"&gt;true&lt;/setting&gt;
+ *   &lt;setting name="threshold"&gt;0 ms&lt;/setting&gt;
+ * &lt;/event&gt;
+ * </pre>
+ *
+ * When the JVM has no Flight Recorder or when an event is disabled, emitting it costs a static check and no event
+ * object is created. The {@code begin} methods return an opaque event, {@code null} when it is not recorded, to give
+ * to the matching {@code end} method.
+ */
+public final class AssertionEvents {
+
+  private static final boolean FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
+  private AssertionEvents() {}
+
+  /**
+   * @return {@code true} if the {@code AssertionEvaluated} events are recorded.
+   */
+  static boolean isEvaluationRecorded() {
+    return FLIGHT_RECORDER_AVAILABLE && JfrAssertionEvents.isEvaluationEnabled();
+  }
+
+  /**
+   * Begins an {@code AssertionEvaluated} event.
+   *
+   * @return the begun event, {@code null} if it is not recorded.
+   */
+  static Object beginEvaluation() {
+    return FLIGHT_RECORDER_AVAILABLE ? JfrAssertionEvents.beginEvaluation() : null;
+  }
+
+  /**
+   * Ends and commits an {@code AssertionEvaluated} event.
+   *
+   * @param event the event returned by {@link #beginEvaluation()}.
+   * @param assertion the assertion object the evaluated method was called on.
+   * @param method the name of the evaluated assertion method.
+   * @param failed whether the assertion failed.
+   */
+  static void endEvaluation(Object event, Object assertion, String method, boolean failed) {
+    if (event != null) {
+      JfrAssertionEvents.endEvaluation(event, assertion, method, failed);
+    }
+  }
+
+  /**
+   * Begins a {@code FailureCreated} event.
+   *
+   * @return the begun event, {@code null} if it is not recorded.
+   */
+  public static Object beginFailure() {
+    return FLIGHT_RECORDER_AVAILABLE ? JfrAssertionEvents.beginFailure() : null;
+  }
+
+  /**
+   * Ends and commits a {@code FailureCreated} event.
+   *
+   * @param event the event returned by {@link #beginFailure()}.
+   * @param messageFactory the factory of the error message of the failure.
+   * @param withoutStackTrace whether the error was created without stack trace.
+   */
+  public static void endFailure(Object event, Object messageFactory, boolean withoutStackTrace) {
+    if (event != null) {
+      JfrAssertionEvents.endFailure(event, messageFactory, withoutStackTrace);
+    }
+  }
+
+  /**
+   * Begins a {@code DateTimeParsed} event.
+   *
+   * @return the begun event, {@code null} if it is not recorded.
+   */
+  public static Object beginParse() {
+    return FLIGHT_RECORDER_AVAILABLE ? JfrAssertionEvents.beginParse() : null;
+  }
+
+  /**
+   * Ends and commits a {@code DateTimeParsed} event.
+   *
+   * @param event the event returned by {@link #beginParse()}.
+   * @param text the parsed text.
+   * @param cacheEnabled whether the {@link DateTimeParseCache} was enabled.
+   */
+  public static void endParse(Object event, String text, boolean cacheEnabled) {
+    if (event != null) {
+      JfrAssertionEvents.endParse(event, text, cacheEnabled);
+    }
+  }
+
+  /**
+   * Begins a {@code ZoneConverted} event.
+   *
+   * @return the begun event, {@code null} if it is not recorded.
+   */
+  public static Object beginZoneConversion() {
+    return FLIGHT_RECORDER_AVAILABLE ? JfrAssertionEvents.beginZoneConversion() : null;
+  }
+
+  /**
+   * Ends and commits a {@code ZoneConverted} event.
+   *
+   * @param event the event returned by {@link #beginZoneConversion()}.
+   * @param zone the zone the date-times were moved to.
+   * @param count the number of converted date-times.
+   */
+  public static void endZoneConversion(Object event, Object zone, int count) {
+    if (event != null) {
+      JfrAssertionEvents.endZoneConversion(event, zone, count);
+    }
+  }
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,292 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics of the assertions of this module: the invocations, failures and latency of each assertion method
+ * (e.g. {@code ZonedDateTimeAssert.isBefore}), the number of assertion objects created by the
+ * {@link org.assertj.core8.api.Assertions} entry points per assertion type and the number of failures per error type
+ * (e.g. {@code ShouldBeAfter}). Named groups of assertions can also be timed with {@link #time(String, Runnable)}.
+ * <p>
+ * Assertion methods are measured by their {@link AssertionEvaluation}, an assertion method called by another one is
+ * part of the caller's measure.
+ * <p>
+ * Metrics are disabled by default, when disabled recording costs a single volatile read. Counters are
+ * {@link LongAdder}s so threads recording the same metric do not contend on a single value.
+ */
+public final class AssertionMetrics {
+
+  private static final AssertionMetrics INSTANCE = new AssertionMetrics();
+
+  private volatile boolean enabled;
+  private volatile Counters counters = new Counters();
+  private final List<MetricsExporter> exitExporters = new CopyOnWriteArrayList<>();
+  private boolean exitHookAdded;
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static AssertionMetrics instance() {
+    return INSTANCE;
+  }
+
+  AssertionMetrics() {}
+
+  /**
+   * Enables the metrics, the previously recorded ones are discarded.
+   */
+  public synchronized void enable() {
+    counters = new Counters();
+    enabled = true;
+  }
+
+  /**
+   * Disables the metrics, the recorded ones are kept.
+   */
+  public synchronized void disable() {
+    enabled = false;
+  }
+
+  /**
+   * @return {@code true} if the metrics are enabled.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Counts the creation of the given assertion object if the metrics are enabled. Assertion objects are counted once
+   * whatever the number of assertions called on them, e.g. {@code assertThat(date).isAfter(a).isBefore(b)} counts one
+   * {@code ZonedDateTimeAssert}.
+   *
+   * @param assertion the created assertion object.
+   * @param <A> the type of the assertion object.
+   * @return the given assertion object.
+   */
+  public <A> A recordCreation(A assertion) {
+    if (enabled) {
+      counters.createdAssertions.increment(assertion.getClass().getSimpleName());
+    }
+    return assertion;
+  }
+
+  /**
+   * Counts a failure built by the given error message factory if the metrics are enabled.
+   *
+   * @param messageFactory the factory of the error message of the failure.
+   */
+  public void recordFailure(Object messageFactory) {
+    if (enabled) {
+      counters.failures.increment(messageFactory.getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * Records an evaluation of the given assertion method, whether the metrics are enabled is checked by
+   * {@link AssertionEvaluation} when the evaluation begins.
+   *
+   * @param assertion the assertion object the method was called on.
+   * @param method the name of the assertion method.
+   * @param nanos the latency of the evaluation in nanoseconds.
+   * @param failed whether the assertion failed.
+   */
+  void recordEvaluation(Object assertion, String method, long nanos, boolean failed) {
+    counters.methodTimer(assertion.getClass(), method).record(nanos, failed);
+  }
+
+  /**
+   * Runs the given assertions and records their latency under the given name if the metrics are enabled, assertions
+   * throwing an error are counted as failed.
+   *
+   * @param name the name of the timed assertions.
+   * @param assertions the assertions to run.
+   */
+  public void time(String name, Runnable assertions) {
+    if (!enabled) {
+      assertions.run();
+      return;
+    }
+    Timer timer = counters.timer(name);
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      assertions.run();
+      failed = false;
+    } finally {
+      timer.record(System.nanoTime() - start, failed);
+    }
+  }
+
+  /**
+   * Returns a snapshot of the metrics recorded since they were last enabled.
+   *
+   * @return a snapshot of the recorded metrics.
+   */
+  public MetricsSnapshot snapshot() {
+    Counters counters = this.counters;
+    Map<String, MetricsSnapshot.Latency> methodLatencies = new TreeMap<>();
+    counters.methodTimers.forEach((type, timers) -> timers.forEach((method, timer) -> methodLatencies
+        .put(type.getSimpleName() + "." + method, timer.latency())));
+    Map<String, MetricsSnapshot.Latency> latencies = new TreeMap<>();
+    counters.timers.forEach((name, timer) -> latencies.put(name, timer.latency()));
+    return new MetricsSnapshot(methodLatencies, counters.createdAssertions.sums(), counters.failures.sums(),
+                               latencies);
+  }
+
+  /**
+   * Exports a snapshot of the metrics with the given exporter when the JVM exits.
+   * <p>
+   * A single shutdown hook exports the same snapshot with all the registered exporters, in registration order, an
+   * exporter registered several times is only called once. An export failure does not prevent the other exporters
+   * from running, the failures are then thrown from the shutdown hook thread and thus reported by its uncaught
+   * exception handler.
+   *
+   * @param exporter the exporter of the metrics.
+   */
+  public synchronized void exportAtExit(MetricsExporter exporter) {
+    if (exitExporters.contains(exporter)) {
+      return;
+    }
+    exitExporters.add(exporter);
+    if (!exitHookAdded) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::exportWithExitExporters, "assertion-metrics-exporter"));
+      exitHookAdded = true;
+    }
+  }
+
+  // package-private to be tested without exiting the JVM
+  void exportWithExitExporters() {
+    MetricsSnapshot snapshot = snapshot();
+    UncheckedIOException failure = null;
+    for (MetricsExporter exporter : exitExporters) {
+      try {
+        exporter.export(snapshot);
+      } catch (IOException e) {
+        if (failure == null) {
+          failure = new UncheckedIOException("Unable to export assertion metrics", e);
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static final class Counters {
+
+    private final CounterMap createdAssertions = new CounterMap();
+    private final CounterMap failures = new CounterMap();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    // by assertion type then method name, no key is built when recording an evaluation
+    private final Map<Class<?>, Map<String, Timer>> methodTimers = new ConcurrentHashMap<>();
+
+    Timer timer(String name) {
+      Timer timer = timers.get(name);
+      return timer != null ? timer : timers.computeIfAbsent(name, key -> new Timer());
+    }
+
+    Timer methodTimer(Class<?> type, String method) {
+      Map<String, Timer> timers = methodTimers.get(type);
+      if (timers == null) {
+        timers = methodTimers.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+      }
+      Timer timer = timers.get(method);
+      return timer != null ? timer : timers.computeIfAbsent(method, key -> new Timer());
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static final class CounterMap extends ConcurrentHashMap<String, LongAdder> {
+
+    void increment(String key) {
+      // get first, computeIfAbsent locks even when the key is present
+      LongAdder counter = get(key);
+      if (counter == null) {
+        counter = computeIfAbsent(key, k -> new LongAdder());
+      }
+      counter.increment();
+    }
+
+    Map<String, Long> sums() {
+      Map<String, Long> sums = new TreeMap<>();
+      forEach((key, counter) -> sums.put(key, counter.sum()));
+      return sums;
+    }
+  }
+
+  private static final class Timer {
+
+    // bucket 0 counts the latencies of 0ns, bucket i > 0 the ones in [2^(i-1), 2^i - 1] nanoseconds
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    Timer() {
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    void record(long nanos, boolean failed) {
+      long latency = Math.max(0, nanos);
+      buckets[Long.SIZE - Long.numberOfLeadingZeros(latency)].increment();
+      if (failed) {
+        failures.increment();
+      }
+      totalNanos.add(latency);
+      maxNanos.accumulate(latency);
+    }
+
+    MetricsSnapshot.Latency latency() {
+      long[] counts = new long[buckets.length];
+      long count = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        counts[i] = buckets[i].sum();
+        count += counts[i];
+      }
+      long max = maxNanos.get();
+      return new MetricsSnapshot.Latency(count, failures.sum(), totalNanos.sum(), percentile(counts, count, 0.5, max),
+                                         percentile(counts, count, 0.9, max), percentile(counts, count, 0.99, max),
+                                         max);
+    }
+
+    // upper bound of the bucket containing the percentile, within a factor of two of the exact value
+    private static long percentile(long[] counts, long count, double percentile, long max) {
+      long rank = (long) Math.ceil(count * percentile);
+      long cumulatedCount = 0;
+      for (int i = 0; i < counts.length; i++) {
+        cumulatedCount += counts[i];
+        if (cumulatedCount > 0 && cumulatedCount >= rank) {
+          return i == Long.SIZE - 1 ? max : Math.min(max, (1L << i) - 1);
+        }
+      }
+      return 0;
+    }
+  }
+
+}
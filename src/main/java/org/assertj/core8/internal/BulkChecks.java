@@ -0,0 +1,170 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Finds the offending elements of the bulk assertions (e.g. the elements not before a given date-time), sequentially or
+ * in parallel.
+ * <p>
+ * In parallel, the range of indices is recursively split in halves, like the spliterator of an array, and the halves
+ * are checked by the tasks of the common {@link ForkJoinPool}. The offending indices of each half are merged in index
+ * order so the reported offenders are the same, in the same order, as when checking sequentially. Groups of less than
+ * {@link #PARALLEL_THRESHOLD} elements are always checked sequentially, splitting them costs more than it saves.
+ */
+public final class BulkChecks {
+
+  /** The minimum number of elements to check them in parallel. */
+  public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  /** The minimum number of elements checked by a single task. */
+  private static final int MIN_TASK_SIZE = 1 << 11;
+
+  /**
+   * Checks the elements of a range of indices, useful when checking an element can reuse what was computed for the
+   * previous ones of the range.
+   */
+  @FunctionalInterface
+  public interface IndexRangeCheck {
+
+    /**
+     * Checks the elements from index {@code from} (inclusive) to index {@code to} (exclusive).
+     *
+     * @param from the first index to check.
+     * @param to the index after the last one to check.
+     * @param offending accepts the indices of the offending elements, in increasing order.
+     */
+    void check(int from, int to, IntConsumer offending);
+  }
+
+  private BulkChecks() {}
+
+  /**
+   * Returns the offending elements of a group of elements by index.
+   *
+   * @param size the number of elements to check.
+   * @param parallel whether the elements should be checked in parallel.
+   * @param isOffending tests whether the element at the given index is offending, must be thread-safe if parallel.
+   * @param offender returns the element at the given index as it should be reported.
+   * @param <T> the type of the reported elements.
+   * @return the offending elements by index in increasing index order, {@code null} if there are none.
+   */
+  public static <T> Map<Integer, T> offenders(int size, boolean parallel, IntPredicate isOffending,
+                                              IntFunction<T> offender) {
+    return offenders(size, parallel, (from, to, offending) -> {
+      for (int i = from; i < to; i++) {
+        if (isOffending.test(i)) {
+          offending.accept(i);
+        }
+      }
+    }, offender);
+  }
+
+  /**
+   * Returns the offending elements of a group of elements by index.
+   *
+   * @param size the number of elements to check.
+   * @param parallel whether the elements should be checked in parallel.
+   * @param check checks a range of elements, must be thread-safe if parallel.
+   * @param offender returns the element at the given index as it should be reported.
+   * @param <T> the type of the reported elements.
+   * @return the offending elements by index in increasing index order, {@code null} if there are none.
+   */
+  public static <T> Map<Integer, T> offenders(int size, boolean parallel, IndexRangeCheck check,
+                                              IntFunction<T> offender) {
+    IndexBuffer offendingIndices;
+    if (parallel && size >= PARALLEL_THRESHOLD) {
+      int taskSize = Math.max(MIN_TASK_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() << 2));
+      offendingIndices = ForkJoinPool.commonPool().invoke(new CheckTask(check, 0, size, taskSize));
+    } else {
+      offendingIndices = new IndexBuffer();
+      check.check(0, size, offendingIndices);
+    }
+    if (offendingIndices.size == 0) {
+      return null;
+    }
+    Map<Integer, T> offenders = new LinkedHashMap<>();
+    for (int i = 0; i < offendingIndices.size; i++) {
+      int index = offendingIndices.indices[i];
+      offenders.put(index, offender.apply(index));
+    }
+    return offenders;
+  }
+
+  private static class CheckTask extends RecursiveTask<IndexBuffer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final IndexRangeCheck check;
+    private final int from;
+    private final int to;
+    private final int taskSize;
+
+    CheckTask(IndexRangeCheck check, int from, int to, int taskSize) {
+      this.check = check;
+      this.from = from;
+      this.to = to;
+      this.taskSize = taskSize;
+    }
+
+    @Override
+    protected IndexBuffer compute() {
+      if (to - from <= taskSize) {
+        IndexBuffer offendingIndices = new IndexBuffer();
+        check.check(from, to, offendingIndices);
+        return offendingIndices;
+      }
+      int middle = (from + to) >>> 1;
+      CheckTask left = new CheckTask(check, from, middle, taskSize);
+      left.fork();
+      IndexBuffer right = new CheckTask(check, middle, to, taskSize).compute();
+      // left indices are all lower than right ones
+      return left.join().addAll(right);
+    }
+  }
+
+  private static class IndexBuffer implements IntConsumer {
+
+    private int[] indices = new int[8];
+    private int size;
+
+    @Override
+    public void accept(int index) {
+      if (size == indices.length) {
+        indices = Arrays.copyOf(indices, size << 1);
+      }
+      indices[size++] = index;
+    }
+
+    IndexBuffer addAll(IndexBuffer other) {
+      if (other.size == 0) {
+        return this;
+      }
+      if (size + other.size > indices.length) {
+        indices = Arrays.copyOf(indices, size + other.size);
+      }
+      System.arraycopy(other.indices, 0, indices, size, other.size);
+      size += other.size;
+      return this;
+    }
+  }
+
+}
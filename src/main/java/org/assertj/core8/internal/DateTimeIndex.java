@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of date-time keys made of a {@code long} (epoch second, packed fields, ...) and an
+ * {@code int} nano of second, it allows to check whether a date-time belongs to a large set of date-times in constant
+ * time without boxing nor building any intermediate date-time instance.
+ * <p>
+ * Instances are not thread safe while being filled, they can be shared once all keys have been added.
+ */
+public final class DateTimeIndex {
+
+  private static final int NO_ENTRY = -1;
+
+  private final long[] keys;
+  private final int[] nanos;
+  // slot -> index in keys/nanos, NO_ENTRY for a free slot
+  private final int[] slots;
+  private final int mask;
+  private int size;
+
+  /**
+   * Creates an empty index able to hold up to the given number of keys.
+   *
+   * @param capacity the maximum number of keys to add to the index.
+   */
+  public DateTimeIndex(int capacity) {
+    keys = new long[capacity];
+    nanos = new int[capacity];
+    // keep the load factor under 0.5 so that probe sequences stay short
+    int slotCount = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+    slots = new int[slotCount];
+    Arrays.fill(slots, NO_ENTRY);
+    mask = slotCount - 1;
+  }
+
+  /**
+   * Adds the given key to this index if not already present.
+   *
+   * @param key the long part of the key.
+   * @param nano the nano of second part of the key.
+   * @return {@code true} if the key was added, {@code false} if it was already present.
+   * @throws IllegalStateException if this index is full.
+   */
+  public boolean add(long key, int nano) {
+    int slot = hash(key, nano) & mask;
+    while (slots[slot] != NO_ENTRY) {
+      int index = slots[slot];
+      if (keys[index] == key && nanos[index] == nano) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size == keys.length) {
+      throw new IllegalStateException("DateTimeIndex capacity exceeded: " + keys.length);
+    }
+    keys[size] = key;
+    nanos[size] = nano;
+    slots[slot] = size++;
+    return true;
+  }
+
+  /**
+   * Returns whether the given key has been added to this index.
+   *
+   * @param key the long part of the key.
+   * @param nano the nano of second part of the key.
+   * @return {@code true} if the key has been added to this index, {@code false} otherwise.
+   */
+  public boolean contains(long key, int nano) {
+    int slot = hash(key, nano) & mask;
+    int index;
+    while ((index = slots[slot]) != NO_ENTRY) {
+      if (keys[index] == key && nanos[index] == nano) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  /**
+   * @return the number of distinct keys in this index.
+   */
+  public int size() {
+    return size;
+  }
+
+  private static int hash(long key, int nano) {
+    // MurmurHash3 64 bits finalizer, spreads consecutive date-times over the whole table
+    long h = key * 31 + nano;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+}
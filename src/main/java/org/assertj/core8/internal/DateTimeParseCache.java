@@ -0,0 +1,228 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in cache of the date-times parsed from the Strings given to date-time assertions, keyed by the String and the
+ * {@link ZoneId} the parsed date-time is moved to. It is disabled by default, once enabled the least recently used
+ * entries are evicted when the cache exceeds its maximum size.
+ * <p>
+ * All methods are thread safe, parsing failures are not cached.
+ */
+public class DateTimeParseCache {
+
+  private static final DateTimeParseCache INSTANCE = new DateTimeParseCache();
+
+  // null when the cache is disabled
+  private volatile LruMap entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static DateTimeParseCache instance() {
+    return INSTANCE;
+  }
+
+  DateTimeParseCache() {}
+
+  /**
+   * Enables the cache with the given maximum number of entries, any previously cached entry is discarded and the hit and
+   * miss counters are reset.
+   *
+   * @param maxSize the maximum number of parsed date-times kept in the cache.
+   * @throws IllegalArgumentException if the given maximum size is not strictly positive.
+   */
+  public void enable(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("The maximum size of the date-time parse cache should be greater than 0 but was: "
+                                         + maxSize);
+    }
+    hits.reset();
+    misses.reset();
+    entries = new LruMap(maxSize);
+  }
+
+  /**
+   * Disables the cache and discards its entries, hit and miss counters are kept.
+   */
+  public void disable() {
+    entries = null;
+  }
+
+  /**
+   * @return {@code true} if the cache is enabled.
+   */
+  public boolean isEnabled() {
+    return entries != null;
+  }
+
+  /**
+   * Parses the given ISO date-time String and moves it to the given {@link ZoneId}, see
+   * {@link IsoDateTimeParser#parseZonedDateTime(CharSequence, ZoneId)}, the result is looked up in and added to the
+   * cache if enabled.
+   *
+   * @param text the text to parse, expected not be null.
+   * @param zone the zone of the returned {@link ZonedDateTime}, expected not be null.
+   * @return the parsed {@link ZonedDateTime} moved to the given zone.
+   * @throws java.time.format.DateTimeParseException if the text cannot be parsed.
+   */
+  public ZonedDateTime parseZonedDateTime(String text, ZoneId zone) {
+    Object event = AssertionEvents.beginParse();
+    LruMap cache = entries;
+    ZonedDateTime dateTime = cache == null ? IsoDateTimeParser.parseZonedDateTime(text, zone)
+        : parseZonedDateTime(cache, text, zone);
+    AssertionEvents.endParse(event, text, cache != null);
+    return dateTime;
+  }
+
+  private ZonedDateTime parseZonedDateTime(LruMap cache, String text, ZoneId zone) {
+    Key key = new Key(text, zone);
+    ZonedDateTime dateTime = (ZonedDateTime) lookup(cache, key);
+    if (dateTime == null) {
+      dateTime = IsoDateTimeParser.parseZonedDateTime(text, zone);
+      store(cache, key, dateTime);
+    }
+    return dateTime;
+  }
+
+  /**
+   * Parses the given ISO local date-time String, see {@link IsoDateTimeParser#parseLocalDateTime(CharSequence)}, the
+   * result is looked up in and added to the cache if enabled.
+   *
+   * @param text the text to parse, expected not be null.
+   * @return the parsed {@link LocalDateTime}.
+   * @throws java.time.format.DateTimeParseException if the text cannot be parsed.
+   */
+  public LocalDateTime parseLocalDateTime(String text) {
+    Object event = AssertionEvents.beginParse();
+    LruMap cache = entries;
+    LocalDateTime dateTime = cache == null ? IsoDateTimeParser.parseLocalDateTime(text)
+        : parseLocalDateTime(cache, text);
+    AssertionEvents.endParse(event, text, cache != null);
+    return dateTime;
+  }
+
+  private LocalDateTime parseLocalDateTime(LruMap cache, String text) {
+    Key key = new Key(text, null);
+    LocalDateTime dateTime = (LocalDateTime) lookup(cache, key);
+    if (dateTime == null) {
+      dateTime = IsoDateTimeParser.parseLocalDateTime(text);
+      store(cache, key, dateTime);
+    }
+    return dateTime;
+  }
+
+  /**
+   * @return the number of lookups that found a cached date-time since the cache was last enabled.
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups that had to parse the given String since the cache was last enabled.
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of cached date-times, 0 if the cache is disabled.
+   */
+  public int size() {
+    LruMap cache = entries;
+    if (cache == null) {
+      return 0;
+    }
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private Temporal lookup(LruMap cache, Key key) {
+    Temporal dateTime;
+    synchronized (cache) {
+      dateTime = cache.get(key);
+    }
+    if (dateTime == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return dateTime;
+  }
+
+  private static void store(LruMap cache, Key key, Temporal dateTime) {
+    synchronized (cache) {
+      cache.put(key, dateTime);
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static final class LruMap extends LinkedHashMap<Key, Temporal> {
+
+    private final int maxSize;
+
+    LruMap(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Temporal> eldest) {
+      return size() > maxSize;
+    }
+  }
+
+  private static final class Key {
+
+    private final String text;
+    // null for local date-times
+    private final ZoneId zone;
+
+    Key(String text, ZoneId zone) {
+      this.text = text;
+      this.zone = zone;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return text.equals(other.text) && (zone == null ? other.zone == null : zone.equals(other.zone));
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * text.hashCode() + (zone == null ? 0 : zone.hashCode());
+    }
+  }
+
+}
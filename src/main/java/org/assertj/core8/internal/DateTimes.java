@@ -0,0 +1,374 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+
+/**
+ * Date-time arithmetic working on primitive epoch values, it allows to compare date-times as seen in a given
+ * {@link ZoneId} without building intermediate {@link ZonedDateTime} (or {@link java.time.LocalDateTime}) instances.
+ * <p>
+ * A <b>local epoch second</b> is the number of seconds from 1970-01-01T00:00 to a local date-time, it encodes the
+ * year, month, day, hour, minute and second fields of a date-time in a single {@code long} where each day is exactly
+ * 86400 seconds long.
+ * <p>
+ * <b>Packed fields</b> are the year, month, day, hour, minute and second fields of a date-time packed in a single
+ * {@code long} (see {@link #packFields(int, int, int, int, int, int)}), truncating a date-time to a unit is then a mere
+ * bit mask applied on its packed fields (plus a division of its nano of second for sub-second units).
+ */
+public final class DateTimes {
+
+  public static final int SECONDS_PER_MINUTE = 60;
+  public static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+  public static final int SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+  public static final int NANOS_PER_SECOND = 1_000_000_000;
+
+  private static final long DAYS_PER_CYCLE = 146097;
+  private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+  private static final int MINUTE_SHIFT = 6;
+  private static final int HOUR_SHIFT = 12;
+  private static final int DAY_SHIFT = 17;
+  private static final int MONTH_SHIFT = 22;
+  private static final int YEAR_SHIFT = 26;
+
+  // indexed by ChronoUnit ordinal, a 0 nano divisor means that the unit is not supported
+  private static final long[] FIELDS_MASKS = new long[ChronoUnit.values().length];
+  private static final int[] NANO_DIVISORS = new int[ChronoUnit.values().length];
+
+  static {
+    supportTruncationTo(ChronoUnit.NANOS, -1L, 1);
+    supportTruncationTo(ChronoUnit.MICROS, -1L, 1000);
+    supportTruncationTo(ChronoUnit.MILLIS, -1L, 1000_000);
+    supportTruncationTo(ChronoUnit.SECONDS, -1L, 1000_000_000);
+    supportTruncationTo(ChronoUnit.MINUTES, -1L << MINUTE_SHIFT, 1000_000_000);
+    supportTruncationTo(ChronoUnit.HOURS, -1L << HOUR_SHIFT, 1000_000_000);
+    supportTruncationTo(ChronoUnit.DAYS, -1L << DAY_SHIFT, 1000_000_000);
+    supportTruncationTo(ChronoUnit.MONTHS, -1L << MONTH_SHIFT, 1000_000_000);
+    supportTruncationTo(ChronoUnit.YEARS, -1L << YEAR_SHIFT, 1000_000_000);
+  }
+
+  private static void supportTruncationTo(ChronoUnit unit, long fieldsMask, int nanoDivisor) {
+    FIELDS_MASKS[unit.ordinal()] = fieldsMask;
+    NANO_DIVISORS[unit.ordinal()] = nanoDivisor;
+  }
+
+  /**
+   * Returns the local epoch second of the given {@link ZonedDateTime} in its own {@link ZoneId}.
+   *
+   * @param dateTime the date-time to get the local epoch second from, expected not be null.
+   * @return the local epoch second of the given date-time.
+   */
+  public static long localEpochSecond(ZonedDateTime dateTime) {
+    return dateTime.toEpochSecond() + dateTime.getOffset().getTotalSeconds();
+  }
+
+  /**
+   * Returns the local epoch second of the given {@link ZonedDateTime} once moved to the given {@link ZoneId}, that is
+   * the local epoch second of {@code dateTime.withZoneSameInstant(zone)}.
+   *
+   * @param dateTime the date-time to get the local epoch second from, expected not be null.
+   * @param zone the zone in which the local date-time is considered, expected not be null.
+   * @return the local epoch second of the given date-time in the given zone.
+   */
+  public static long localEpochSecond(ZonedDateTime dateTime, ZoneId zone) {
+    if (zone.equals(dateTime.getZone())) {
+      return localEpochSecond(dateTime);
+    }
+    long epochSecond = dateTime.toEpochSecond();
+    return epochSecond + offsetSecondsAt(zone, epochSecond);
+  }
+
+  /**
+   * Returns the {@link ZonedDateTime} in the given {@link ZoneId} at the instant of the given local date-time and
+   * offset, like {@link ZonedDateTime#ofInstant(LocalDateTime, ZoneOffset, ZoneId)} but resolving the offset of the
+   * zone with {@link #offsetSecondsAt(ZoneId, long)} first, so that the zone rules validate the offset only once.
+   *
+   * @param localDateTime the local date-time, expected not be null.
+   * @param offset the offset of the local date-time, expected not be null.
+   * @param zone the zone of the returned date-time, expected not be null.
+   * @return the {@link ZonedDateTime} at the same instant in the given zone.
+   */
+  public static ZonedDateTime atSameInstant(LocalDateTime localDateTime, ZoneOffset offset, ZoneId zone) {
+    int offsetSeconds = offset.getTotalSeconds();
+    int zoneOffsetSeconds = offsetSecondsAt(zone, localDateTime.toEpochSecond(offset));
+    if (zoneOffsetSeconds == offsetSeconds) {
+      return ZonedDateTime.ofInstant(localDateTime, offset, zone);
+    }
+    return ZonedDateTime.ofInstant(localDateTime.plusSeconds(zoneOffsetSeconds - offsetSeconds),
+                                   ZoneOffset.ofTotalSeconds(zoneOffsetSeconds), zone);
+  }
+
+  /**
+   * Returns the total offset in seconds from UTC of the given {@link ZoneId} at the given instant.
+   *
+   * @param zone the zone to get the offset of, expected not be null.
+   * @param epochSecond the instant at which the offset is evaluated.
+   * @return the total offset in seconds of the zone at the given instant.
+   */
+  public static int offsetSecondsAt(ZoneId zone, long epochSecond) {
+    if (zone instanceof ZoneOffset) {
+      return ((ZoneOffset) zone).getTotalSeconds();
+    }
+    ZoneRules rules = zone.getRules();
+    if (rules.isFixedOffset()) {
+      return rules.getOffset(Instant.EPOCH).getTotalSeconds();
+    }
+    return ZoneOffsetCache.offsetSecondsAt(zone, epochSecond);
+  }
+
+  /**
+   * Returns the year, month, day, hour, minute and second fields of the given {@link LocalDateTime} packed in a single
+   * {@code long}, see {@link #packFields(int, int, int, int, int, int)}.
+   *
+   * @param dateTime the date-time to get the fields from, expected not be null.
+   * @return the packed fields of the given date-time.
+   */
+  public static long packFields(LocalDateTime dateTime) {
+    return packFields(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                      dateTime.getMinute(), dateTime.getSecond());
+  }
+
+  /**
+   * Returns the year, month, day, hour, minute and second fields of the given {@link ZonedDateTime} in its own
+   * {@link ZoneId} packed in a single {@code long}, see {@link #packFields(int, int, int, int, int, int)}.
+   *
+   * @param dateTime the date-time to get the fields from, expected not be null.
+   * @return the packed fields of the given date-time.
+   */
+  public static long packFields(ZonedDateTime dateTime) {
+    return packFields(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                      dateTime.getMinute(), dateTime.getSecond());
+  }
+
+  /**
+   * Returns the packed fields of the given {@link ZonedDateTime} once moved to the given {@link ZoneId}, that is the
+   * packed fields of {@code dateTime.withZoneSameInstant(zone)}.
+   *
+   * @param dateTime the date-time to get the fields from, expected not be null.
+   * @param zone the zone in which the fields are considered, expected not be null.
+   * @return the packed fields of the given date-time in the given zone.
+   */
+  public static long packFields(ZonedDateTime dateTime, ZoneId zone) {
+    if (zone.equals(dateTime.getZone())) {
+      return packFields(dateTime);
+    }
+    return packFieldsOfLocalEpochSecond(localEpochSecond(dateTime, zone));
+  }
+
+  /**
+   * Returns the fields of the local date-time represented by the given local epoch second packed in a single
+   * {@code long}, see {@link #packFields(int, int, int, int, int, int)}.
+   *
+   * @param localEpochSecond the local epoch second to get the fields from.
+   * @return the packed fields of the given local epoch second.
+   */
+  public static long packFieldsOfLocalEpochSecond(long localEpochSecond) {
+    long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+    int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+    // same algorithm as LocalDate.ofEpochDay, years are counted from March to have leap days at the end of the year
+    long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+    long adjust = 0;
+    if (zeroDay < 0) {
+      long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+      adjust = adjustCycles * 400;
+      zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+    }
+    long yearEstimate = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+    long dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    if (dayOfYearEstimate < 0) {
+      yearEstimate--;
+      dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    }
+    int marchDayOfYear = (int) dayOfYearEstimate;
+    int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+    int month = (marchMonth + 2) % 12 + 1;
+    int dayOfMonth = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+    long year = yearEstimate + adjust + marchMonth / 10;
+    return packFields((int) year, month, dayOfMonth, secondOfDay / SECONDS_PER_HOUR,
+                      (secondOfDay / SECONDS_PER_MINUTE) % 60, secondOfDay % SECONDS_PER_MINUTE);
+  }
+
+  /**
+   * Packs the given fields in a single {@code long} as: year (signed) | month (4 bits) | day (5 bits) | hour (5 bits) |
+   * minute (6 bits) | second (6 bits).
+   * <p>
+   * Packed fields are ordered like the date-times they come from, two date-times truncated to a given unit (down to
+   * the second) are equal if their packed fields are equal once masked with {@link #fieldsMask(ChronoUnit)}.
+   *
+   * @param year the year.
+   * @param month the month of year, from 1 to 12.
+   * @param dayOfMonth the day of month, from 1 to 31.
+   * @param hour the hour of day, from 0 to 23.
+   * @param minute the minute of hour, from 0 to 59.
+   * @param second the second of minute, from 0 to 59.
+   * @return the packed fields.
+   */
+  public static long packFields(int year, int month, int dayOfMonth, int hour, int minute, int second) {
+    return ((long) year << YEAR_SHIFT) | (month << MONTH_SHIFT) | (dayOfMonth << DAY_SHIFT) | (hour << HOUR_SHIFT)
+           | (minute << MINUTE_SHIFT) | second;
+  }
+
+  /**
+   * Returns true if both date-times, given as packed fields and nano of second, are equal once truncated to the given
+   * unit, e.g. truncated to {@link ChronoUnit#MINUTES} they are equal if they have same year, month, day, hour and
+   * minute fields.
+   *
+   * @param fields the packed fields of a date-time.
+   * @param nano the nano of second of the date-time.
+   * @param otherFields the packed fields of the other date-time.
+   * @param otherNano the nano of second of the other date-time.
+   * @param unit the unit to truncate the date-times to, expected to be a supported unit as checked by
+   *          {@link #checkIsSupportedTruncationUnit(ChronoUnit)}.
+   * @return true if both date-times are equal once truncated to the given unit, false otherwise.
+   */
+  public static boolean areEqualTruncatedTo(long fields, int nano, long otherFields, int otherNano, ChronoUnit unit) {
+    long mask = FIELDS_MASKS[unit.ordinal()];
+    int nanoDivisor = NANO_DIVISORS[unit.ordinal()];
+    return (fields & mask) == (otherFields & mask) && nano / nanoDivisor == otherNano / nanoDivisor;
+  }
+
+  /**
+   * Returns the mask to apply on packed fields to truncate them to the given unit, units smaller than the second keep
+   * all fields.
+   *
+   * @param unit the unit to truncate to, expected to be a supported unit.
+   * @return the mask to apply on packed fields.
+   */
+  public static long fieldsMask(ChronoUnit unit) {
+    return FIELDS_MASKS[unit.ordinal()];
+  }
+
+  /**
+   * Checks that the given unit can be used to truncate date-times, supported units are {@code NANOS}, {@code MICROS},
+   * {@code MILLIS}, {@code SECONDS}, {@code MINUTES}, {@code HOURS}, {@code DAYS}, {@code MONTHS} and {@code YEARS}.
+   *
+   * @param unit the unit to check.
+   * @throws IllegalArgumentException if the given unit is null or not supported.
+   */
+  public static void checkIsSupportedTruncationUnit(ChronoUnit unit) {
+    if (unit == null) {
+      throw new IllegalArgumentException("The unit to truncate date-times to should not be null");
+    }
+    if (NANO_DIVISORS[unit.ordinal()] == 0) {
+      throw new IllegalArgumentException("Unsupported unit to truncate date-times to: " + unit);
+    }
+  }
+
+  /**
+   * Returns true if the distance between both instants, given as epoch second and nano of second, is less than or equal
+   * to the given tolerance, whatever their order.
+   * <p>
+   * The distance is computed in seconds and nanoseconds, not in a single count of nanoseconds, so that it does not
+   * overflow for date-times centuries apart: the epoch seconds of {@link java.time.Instant}, {@link LocalDateTime} and
+   * {@link ZonedDateTime} being bounded by 2<sup>55</sup>, their difference always fits in a {@code long}.
+   *
+   * @param epochSecond the epoch second of a date-time.
+   * @param nano the nano of second of the date-time.
+   * @param otherEpochSecond the epoch second of the other date-time.
+   * @param otherNano the nano of second of the other date-time.
+   * @param tolerance the maximum distance, expected to be valid as checked by {@link #checkIsValidTolerance(Duration)}.
+   * @return true if both instants are within the given tolerance of each other, false otherwise.
+   */
+  public static boolean areWithin(long epochSecond, int nano, long otherEpochSecond, int otherNano,
+                                  Duration tolerance) {
+    long seconds = epochSecond - otherEpochSecond;
+    int nanos = nano - otherNano;
+    if (nanos < 0) {
+      seconds--;
+      nanos += NANOS_PER_SECOND;
+    }
+    if (seconds < 0) {
+      // distance of a negative difference: -(seconds + nanos) = (-seconds - 1) + (NANOS_PER_SECOND - nanos)
+      if (nanos == 0) {
+        seconds = -seconds;
+      } else {
+        seconds = -seconds - 1;
+        nanos = NANOS_PER_SECOND - nanos;
+      }
+    }
+    long toleranceSeconds = tolerance.getSeconds();
+    return seconds < toleranceSeconds || seconds == toleranceSeconds && nanos <= tolerance.getNano();
+  }
+
+  /**
+   * Returns true if the given instant, as epoch second and nano of second, is in the interval defined by the given
+   * bounds, each of them being included or not.
+   *
+   * @param epochSecond the epoch second of the date-time to check.
+   * @param nano the nano of second of the date-time to check.
+   * @param startEpochSecond the epoch second of the start of the interval.
+   * @param startNano the nano of second of the start of the interval.
+   * @param includesStart whether the start of the interval is in the interval.
+   * @param endEpochSecond the epoch second of the end of the interval.
+   * @param endNano the nano of second of the end of the interval.
+   * @param includesEnd whether the end of the interval is in the interval.
+   * @return true if the given instant is in the interval, false otherwise.
+   */
+  public static boolean isInInterval(long epochSecond, int nano, long startEpochSecond, int startNano,
+                                     boolean includesStart, long endEpochSecond, int endNano, boolean includesEnd) {
+    int startComparison = compare(epochSecond, nano, startEpochSecond, startNano);
+    if (startComparison < 0 || startComparison == 0 && !includesStart) {
+      return false;
+    }
+    int endComparison = compare(epochSecond, nano, endEpochSecond, endNano);
+    return endComparison < 0 || endComparison == 0 && includesEnd;
+  }
+
+  /**
+   * Checks that the given bounds, as epoch second and nano of second, define an interval, i.e. that the end is not
+   * before the start.
+   *
+   * @param startEpochSecond the epoch second of the start of the interval.
+   * @param startNano the nano of second of the start of the interval.
+   * @param endEpochSecond the epoch second of the end of the interval.
+   * @param endNano the nano of second of the end of the interval.
+   * @throws IllegalArgumentException if the end is before the start.
+   */
+  public static void checkIsValidInterval(long startEpochSecond, int startNano, long endEpochSecond, int endNano) {
+    if (compare(endEpochSecond, endNano, startEpochSecond, startNano) < 0) {
+      throw new IllegalArgumentException("The end of the interval should not be before its start");
+    }
+  }
+
+  private static int compare(long epochSecond, int nano, long otherEpochSecond, int otherNano) {
+    int comparison = Long.compare(epochSecond, otherEpochSecond);
+    return comparison != 0 ? comparison : Integer.compare(nano, otherNano);
+  }
+
+  /**
+   * Checks that the given {@link Duration} can be used as the tolerance of a comparison between date-times.
+   *
+   * @param tolerance the tolerance to check.
+   * @throws IllegalArgumentException if the given tolerance is null or negative.
+   */
+  public static void checkIsValidTolerance(Duration tolerance) {
+    if (tolerance == null) {
+      throw new IllegalArgumentException("The tolerance should not be null");
+    }
+    if (tolerance.isNegative()) {
+      throw new IllegalArgumentException("The tolerance should not be negative");
+    }
+  }
+
+  private DateTimes() {
+    // utility class
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates the {@link AssertionError}s of failed assertions like {@link org.assertj.core.internal.Failures} does, except
+ * that the error message is only formatted when it is read (i.e. on {@link AssertionError#getMessage()}).
+ * <p>
+ * Formatting the message (<code>String.format</code> and the representation of actual and expected values) is most of
+ * the cost of a failure, this cost is not paid when failures are caught and counted or aggregated but never printed,
+ * as in bulk or soft validations.
+ * <p>
+ * Filling in the stack trace of the error is the other main cost, the assertions run by
+ * {@link #runWithoutStackTraces(Runnable)} create errors without stack trace.
+ */
+public class Failures {
+
+  private static final Failures INSTANCE = new Failures();
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+  private final ThreadLocal<Boolean> stackTracesDisabled = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static Failures instance() {
+    return INSTANCE;
+  }
+
+  Failures() {}
+
+  /**
+   * Creates a <code>{@link AssertionError}</code> following this pattern:
+   * <ol>
+   * <li>creates a <code>{@link AssertionError}</code> using <code>{@link AssertionInfo#overridingErrorMessage()}</code>
+   * as the error message if such value is not {@code null}, or</li>
+   * <li>creates a <code>{@link AssertionError}</code> whose message is built by the given
+   * <code>{@link ErrorMessageFactory}</code> the first time it is read.</li>
+   * </ol>
+   * The created error has no stack trace when called from {@link #runWithoutStackTraces(Runnable)}.
+   *
+   * @param info contains information about the failed assertion.
+   * @param messageFactory knows how to create detail messages for {@code AssertionError}s.
+   * @return the created <code>{@link AssertionError}</code>.
+   */
+  public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
+    AssertionMetrics.instance().recordFailure(messageFactory);
+    AssertionEvaluation.failed();
+    Object event = AssertionEvents.beginFailure();
+    boolean withoutStackTrace = stackTracesDisabled.get();
+    AssertionError error = createFailure(info, messageFactory, withoutStackTrace);
+    AssertionEvents.endFailure(event, messageFactory, withoutStackTrace);
+    return error;
+  }
+
+  private static AssertionError createFailure(AssertionInfo info, ErrorMessageFactory messageFactory,
+                                              boolean withoutStackTrace) {
+    if (info.overridingErrorMessage() != null) {
+      AssertionError error = org.assertj.core.internal.Failures.instance().failure(info, messageFactory);
+      if (withoutStackTrace) {
+        error.setStackTrace(NO_STACK_TRACE);
+      }
+      return error;
+    }
+    if (withoutStackTrace) {
+      return LazyMessageAssertionError.withoutStackTrace(messageFactory, info);
+    }
+    AssertionError error = new LazyMessageAssertionError(messageFactory, info);
+    org.assertj.core.internal.Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(error);
+    return error;
+  }
+
+  /**
+   * Runs the given assertions in the current thread, the failures they create have no stack trace: filling it in is
+   * skipped, which is most of the cost of a failure whose message is never read, e.g. in negative-path validations
+   * over many inputs.
+   * <p>
+   * Only the failures created by this class are concerned, the ones created by assertj-core (e.g. when actual is
+   * {@code null}) keep their stack trace.
+   *
+   * @param assertions the assertions to run.
+   */
+  public void runWithoutStackTraces(Runnable assertions) {
+    Boolean previous = stackTracesDisabled.get();
+    stackTracesDisabled.set(Boolean.TRUE);
+    try {
+      assertions.run();
+    } finally {
+      stackTracesDisabled.set(previous);
+    }
+  }
+
+}
@@ -0,0 +1,216 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Parses ISO-8601 date-time Strings, the fixed-width forms commonly used in tests are parsed by hand while anything
+ * else falls back to {@link java.time.format.DateTimeFormatter}, results and errors are the same as
+ * {@link LocalDateTime#parse(CharSequence)} and {@link ZonedDateTime#parse(CharSequence, java.time.format.DateTimeFormatter)}
+ * with {@link java.time.format.DateTimeFormatter#ISO_DATE_TIME}.
+ * <p>
+ * The fast path handles local date-times like {@code 2000-01-01T23:59}, {@code 2000-01-01T23:59:59} or
+ * {@code 2000-01-01T23:59:59.123} (1 to 9 fraction digits), followed for zoned date-times by a {@code Z},
+ * {@code +01:00} or {@code +01:00:30} offset and an optional {@code [Europe/Paris]} zone id.
+ */
+public final class IsoDateTimeParser {
+
+  // yyyy-MM-ddTHH:mm
+  private static final int MINUTES_END = 16;
+  // yyyy-MM-ddTHH:mm:ss
+  private static final int SECONDS_END = 19;
+  private static final int MAX_FRACTION_DIGITS = 9;
+  private static final int[] NANO_MULTIPLIERS = { 0, 100_000_000, 10_000_000, 1000_000, 100_000, 10_000, 1000, 100, 10,
+      1 };
+
+  private IsoDateTimeParser() {}
+
+  /**
+   * Parses the given ISO local date-time String like {@link LocalDateTime#parse(CharSequence)} does.
+   *
+   * @param text the text to parse, expected not be null.
+   * @return the parsed {@link LocalDateTime}.
+   * @throws java.time.format.DateTimeParseException if the text cannot be parsed.
+   */
+  public static LocalDateTime parseLocalDateTime(CharSequence text) {
+    LocalDateTime dateTime = fastParseLocalDateTime(text, text.length());
+    return dateTime != null ? dateTime : LocalDateTime.parse(text);
+  }
+
+  /**
+   * Parses the given ISO date-time String like {@link ZonedDateTime#parse(CharSequence, java.time.format.DateTimeFormatter)}
+   * does with {@link java.time.format.DateTimeFormatter#ISO_DATE_TIME}.
+   *
+   * @param text the text to parse, expected not be null.
+   * @return the parsed {@link ZonedDateTime}.
+   * @throws java.time.format.DateTimeParseException if the text cannot be parsed.
+   */
+  public static ZonedDateTime parseZonedDateTime(CharSequence text) {
+    ZonedDateTime dateTime = fastParseZonedDateTime(text, null);
+    return dateTime != null ? dateTime : ZonedDateTime.parse(text, ISO_DATE_TIME);
+  }
+
+  /**
+   * Parses the given ISO date-time String and moves it to the given {@link ZoneId}, it is equivalent to
+   * {@code parseZonedDateTime(text).withZoneSameInstant(zone)} without building the intermediate {@link ZonedDateTime}.
+   *
+   * @param text the text to parse, expected not be null.
+   * @param zone the zone of the returned {@link ZonedDateTime}, expected not be null.
+   * @return the parsed {@link ZonedDateTime} moved to the given zone.
+   * @throws java.time.format.DateTimeParseException if the text cannot be parsed.
+   */
+  public static ZonedDateTime parseZonedDateTime(CharSequence text, ZoneId zone) {
+    ZonedDateTime dateTime = fastParseZonedDateTime(text, zone);
+    return dateTime != null ? dateTime : ZonedDateTime.parse(text, ISO_DATE_TIME).withZoneSameInstant(zone);
+  }
+
+  /**
+   * @return the parsed date-time in the given target zone (or in the parsed zone if null), null if the text is not in a
+   *         form handled by the fast path.
+   */
+  private static ZonedDateTime fastParseZonedDateTime(CharSequence text, ZoneId targetZone) {
+    int length = text.length();
+    int localEnd = MINUTES_END;
+    while (localEnd < length && !isOffsetStart(text.charAt(localEnd))) {
+      localEnd++;
+    }
+    if (localEnd >= length) {
+      return null;
+    }
+    LocalDateTime localDateTime = fastParseLocalDateTime(text, localEnd);
+    if (localDateTime == null) {
+      return null;
+    }
+    // offset: Z, +HH:MM or +HH:MM:SS
+    ZoneOffset offset;
+    int offsetEnd;
+    char sign = text.charAt(localEnd);
+    if (sign == 'Z') {
+      offset = ZoneOffset.UTC;
+      offsetEnd = localEnd + 1;
+    } else if (sign == '+' || sign == '-') {
+      if (localEnd + 6 > length || text.charAt(localEnd + 3) != ':') {
+        return null;
+      }
+      int hours = twoDigits(text, localEnd + 1);
+      int minutes = twoDigits(text, localEnd + 4);
+      int seconds = 0;
+      offsetEnd = localEnd + 6;
+      if (offsetEnd < length && text.charAt(offsetEnd) == ':') {
+        if (offsetEnd + 3 > length) {
+          return null;
+        }
+        seconds = twoDigits(text, offsetEnd + 1);
+        offsetEnd += 3;
+      }
+      if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+        return null;
+      }
+      int totalSeconds = hours * DateTimes.SECONDS_PER_HOUR + minutes * DateTimes.SECONDS_PER_MINUTE + seconds;
+      if (totalSeconds > 18 * DateTimes.SECONDS_PER_HOUR) {
+        return null;
+      }
+      offset = ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+    } else {
+      // no offset, leave it to DateTimeFormatter
+      return null;
+    }
+    // optional [zone id]
+    ZoneId zone = offset;
+    if (offsetEnd < length) {
+      if (text.charAt(offsetEnd) != '[' || text.charAt(length - 1) != ']' || offsetEnd + 2 >= length) {
+        return null;
+      }
+      try {
+        zone = ZoneId.of(text.subSequence(offsetEnd + 1, length - 1).toString());
+      } catch (DateTimeException e) {
+        return null;
+      }
+    }
+    return DateTimes.atSameInstant(localDateTime, offset, targetZone != null ? targetZone : zone);
+  }
+
+  private static boolean isOffsetStart(char c) {
+    return c == 'Z' || c == '+' || c == '-' || c == '[';
+  }
+
+  /**
+   * @return the local date-time in text[0, end[, null if it is not in a form handled by the fast path.
+   */
+  private static LocalDateTime fastParseLocalDateTime(CharSequence text, int end) {
+    if (end != MINUTES_END && end != SECONDS_END && (end < SECONDS_END + 2 || end > SECONDS_END + 1 + MAX_FRACTION_DIGITS)) {
+      return null;
+    }
+    if (text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+      return null;
+    }
+    int century = twoDigits(text, 0);
+    int yearOfCentury = twoDigits(text, 2);
+    int month = twoDigits(text, 5);
+    int day = twoDigits(text, 8);
+    int hour = twoDigits(text, 11);
+    int minute = twoDigits(text, 14);
+    int second = 0;
+    int nano = 0;
+    if (end > MINUTES_END) {
+      if (text.charAt(MINUTES_END) != ':') {
+        return null;
+      }
+      second = twoDigits(text, MINUTES_END + 1);
+      if (end > SECONDS_END) {
+        if (text.charAt(SECONDS_END) != '.') {
+          return null;
+        }
+        for (int i = SECONDS_END + 1; i < end; i++) {
+          int digit = text.charAt(i) - '0';
+          if (digit < 0 || digit > 9) {
+            return null;
+          }
+          nano = nano * 10 + digit;
+        }
+        nano *= NANO_MULTIPLIERS[end - SECONDS_END - 1];
+      }
+    }
+    if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+        || second < 0 || second > 59) {
+      return null;
+    }
+    int year = century * 100 + yearOfCentury;
+    if (day > 28 && day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+      return null;
+    }
+    return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+  }
+
+  /**
+   * @return the value of the two digits at the given index, a negative value if any of them is not a digit.
+   */
+  private static int twoDigits(CharSequence text, int index) {
+    int tens = text.charAt(index) - '0';
+    int units = text.charAt(index + 1) - '0';
+    if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+      return -1000;
+    }
+    return tens * 10 + units;
+  }
+
+}
@@ -0,0 +1,182 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder events emitted by {@link AssertionEvents}, only loaded when the JVM has a Flight Recorder.
+ * <p>
+ * Whether an event type is enabled is checked on a prototype instance, JFR instruments {@link Event#isEnabled()} to
+ * read a static field of the event class.
+ */
+final class JfrAssertionEvents {
+
+  private static final AssertionEvaluated ASSERTION_EVALUATED = new AssertionEvaluated();
+  private static final FailureCreated FAILURE_CREATED = new FailureCreated();
+  private static final DateTimeParsed DATE_TIME_PARSED = new DateTimeParsed();
+  private static final ZoneConverted ZONE_CONVERTED = new ZoneConverted();
+
+  private JfrAssertionEvents() {}
+
+  static boolean isEvaluationEnabled() {
+    return ASSERTION_EVALUATED.isEnabled();
+  }
+
+  static Object beginEvaluation() {
+    if (!ASSERTION_EVALUATED.isEnabled()) {
+      return null;
+    }
+    AssertionEvaluated event = new AssertionEvaluated();
+    event.begin();
+    return event;
+  }
+
+  static void endEvaluation(Object event, Object assertion, String method, boolean failed) {
+    AssertionEvaluated assertionEvaluated = (AssertionEvaluated) event;
+    assertionEvaluated.end();
+    if (assertionEvaluated.shouldCommit()) {
+      assertionEvaluated.assertionType = assertion.getClass().getName();
+      assertionEvaluated.method = method;
+      assertionEvaluated.failed = failed;
+      assertionEvaluated.commit();
+    }
+  }
+
+  static Object beginFailure() {
+    if (!FAILURE_CREATED.isEnabled()) {
+      return null;
+    }
+    FailureCreated event = new FailureCreated();
+    event.begin();
+    return event;
+  }
+
+  static void endFailure(Object event, Object messageFactory, boolean withoutStackTrace) {
+    FailureCreated failureCreated = (FailureCreated) event;
+    failureCreated.end();
+    if (failureCreated.shouldCommit()) {
+      failureCreated.errorType = messageFactory.getClass().getName();
+      failureCreated.withoutStackTrace = withoutStackTrace;
+      failureCreated.commit();
+    }
+  }
+
+  static Object beginParse() {
+    if (!DATE_TIME_PARSED.isEnabled()) {
+      return null;
+    }
+    DateTimeParsed event = new DateTimeParsed();
+    event.begin();
+    return event;
+  }
+
+  static void endParse(Object event, String text, boolean cacheEnabled) {
+    DateTimeParsed dateTimeParsed = (DateTimeParsed) event;
+    dateTimeParsed.end();
+    if (dateTimeParsed.shouldCommit()) {
+      dateTimeParsed.text = text;
+      dateTimeParsed.cacheEnabled = cacheEnabled;
+      dateTimeParsed.commit();
+    }
+  }
+
+  static Object beginZoneConversion() {
+    if (!ZONE_CONVERTED.isEnabled()) {
+      return null;
+    }
+    ZoneConverted event = new ZoneConverted();
+    event.begin();
+    return event;
+  }
+
+  static void endZoneConversion(Object event, Object zone, int count) {
+    ZoneConverted zoneConverted = (ZoneConverted) event;
+    zoneConverted.end();
+    if (zoneConverted.shouldCommit()) {
+      zoneConverted.zone = String.valueOf(zone);
+      zoneConverted.count = count;
+      zoneConverted.commit();
+    }
+  }
+
+  @Name("org.assertj.core8.AssertionEvaluated")
+  @Label("Assertion Evaluated")
+  @Description("An assertion method of AssertJ Java 8 is evaluated")
+  @Category("AssertJ")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class AssertionEvaluated extends Event {
+
+    @Label("Assertion Type")
+    String assertionType;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+  }
+
+  @Name("org.assertj.core8.FailureCreated")
+  @Label("Assertion Failure Created")
+  @Description("The error of a failed assertion is created, including the filtering of its stack trace")
+  @Category("AssertJ")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class FailureCreated extends Event {
+
+    @Label("Error Type")
+    String errorType;
+
+    @Label("Without Stack Trace")
+    boolean withoutStackTrace;
+  }
+
+  @Name("org.assertj.core8.DateTimeParsed")
+  @Label("Date-Time Parsed")
+  @Description("A date-time given as a String to an assertion is parsed")
+  @Category("AssertJ")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class DateTimeParsed extends Event {
+
+    @Label("Text")
+    String text;
+
+    @Label("Cache Enabled")
+    boolean cacheEnabled;
+  }
+
+  @Name("org.assertj.core8.ZoneConverted")
+  @Label("Zone Converted")
+  @Description("Date-times are moved to the zone of the actual date-time of an assertion")
+  @Category("AssertJ")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ZoneConverted extends Event {
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Count")
+    int count;
+  }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * {@link AssertionError} whose message is created by an {@link ErrorMessageFactory} the first time it is read.
+ */
+class LazyMessageAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+  private transient ErrorMessageFactory messageFactory;
+  private transient Description description;
+  private transient Representation representation;
+  private volatile String message;
+
+  LazyMessageAssertionError(ErrorMessageFactory messageFactory, AssertionInfo info) {
+    this.messageFactory = messageFactory;
+    // description and representation are captured now as the assertion info may change afterwards
+    this.description = info.description();
+    this.representation = info.representation();
+  }
+
+  /**
+   * Creates a {@link LazyMessageAssertionError} without stack trace, the stack is never walked.
+   */
+  static LazyMessageAssertionError withoutStackTrace(ErrorMessageFactory messageFactory, AssertionInfo info) {
+    return new WithoutStackTrace(messageFactory, info);
+  }
+
+  @Override
+  public String getMessage() {
+    String message = this.message;
+    if (message == null) {
+      synchronized (this) {
+        message = this.message;
+        if (message == null) {
+          message = messageFactory.create(description, representation);
+          this.message = message;
+          // no longer needed, let the compared values be garbage collected
+          messageFactory = null;
+          description = null;
+          representation = null;
+        }
+      }
+    }
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    // reported (e.g. in stack traces) as the plain AssertionError it replaces
+    return AssertionError.class.getName() + ": " + getLocalizedMessage();
+  }
+
+  private Object writeReplace() {
+    // serialized as a plain AssertionError, the message factory may not be serializable
+    AssertionError error = new AssertionError(getMessage());
+    error.setStackTrace(getStackTrace());
+    return error;
+  }
+
+  private static final class WithoutStackTrace extends LazyMessageAssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    WithoutStackTrace(ErrorMessageFactory messageFactory, AssertionInfo info) {
+      super(messageFactory, info);
+      setStackTrace(NO_STACK_TRACE);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+      // called by the Throwable constructor, skipping it is what makes these errors cheap
+      return this;
+    }
+  }
+
+}
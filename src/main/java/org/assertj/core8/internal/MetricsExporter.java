@@ -0,0 +1,59 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exports the {@link AssertionMetrics}, e.g. when the JVM exits with
+ * {@link AssertionMetrics#exportAtExit(MetricsExporter)}.
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+
+  /**
+   * Exports the given metrics.
+   *
+   * @param metrics the metrics to export.
+   * @throws IOException if the metrics cannot be written.
+   */
+  void export(MetricsSnapshot metrics) throws IOException;
+
+  /**
+   * Returns an exporter printing a human readable summary of the metrics to the given stream.
+   *
+   * @param out the stream to print the summary to.
+   * @return the created exporter.
+   */
+  static MetricsExporter textSummary(PrintStream out) {
+    return metrics -> {
+      out.print(metrics.toTextSummary());
+      out.flush();
+    };
+  }
+
+  /**
+   * Returns an exporter writing the metrics as JSON to the given file, replacing it if it exists.
+   *
+   * @param file the file to write the metrics to.
+   * @return the created exporter.
+   */
+  static MetricsExporter jsonFile(Path file) {
+    return metrics -> Files.write(file, metrics.toJson().getBytes(UTF_8));
+  }
+}
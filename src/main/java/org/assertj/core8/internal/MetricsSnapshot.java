@@ -0,0 +1,225 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the {@link AssertionMetrics}, see {@link AssertionMetrics#snapshot()}.
+ */
+public final class MetricsSnapshot {
+
+  private final Map<String, Latency> methodLatencies;
+  private final Map<String, Long> createdAssertionCounts;
+  private final Map<String, Long> failureCounts;
+  private final Map<String, Latency> latencies;
+
+  MetricsSnapshot(Map<String, Latency> methodLatencies, Map<String, Long> createdAssertionCounts,
+                  Map<String, Long> failureCounts, Map<String, Latency> latencies) {
+    this.methodLatencies = unmodifiableMap(methodLatencies);
+    this.createdAssertionCounts = unmodifiableMap(createdAssertionCounts);
+    this.failureCounts = unmodifiableMap(failureCounts);
+    this.latencies = unmodifiableMap(latencies);
+  }
+
+  /**
+   * @return the invocations, failures and latency of the assertion methods by name (e.g.
+   *         {@code ZonedDateTimeAssert.isBefore}), the overloads of a method are measured together.
+   */
+  public Map<String, Latency> methodLatencies() {
+    return methodLatencies;
+  }
+
+  /**
+   * @return the number of created assertion objects by assertion type (e.g. {@code ZonedDateTimeAssert}), not the
+   *         number of assertions called on them.
+   */
+  public Map<String, Long> createdAssertionCounts() {
+    return createdAssertionCounts;
+  }
+
+  /**
+   * @return the number of failures by error type (e.g. {@code ShouldBeAfter}).
+   */
+  public Map<String, Long> failureCounts() {
+    return failureCounts;
+  }
+
+  /**
+   * @return the latency of the timed assertions by name.
+   */
+  public Map<String, Latency> latencies() {
+    return latencies;
+  }
+
+  /**
+   * Returns a human readable summary of the metrics, one line per metric.
+   *
+   * @return a human readable summary of the metrics.
+   */
+  public String toTextSummary() {
+    StringBuilder summary = new StringBuilder("Assertion metrics").append(System.lineSeparator());
+    appendSummaryLatencies(summary, "method", methodLatencies);
+    appendSummaryCounts(summary, "created", createdAssertionCounts);
+    appendSummaryCounts(summary, "failures", failureCounts);
+    appendSummaryLatencies(summary, "latency", latencies);
+    return summary.toString();
+  }
+
+  /**
+   * Returns the metrics as a JSON object with {@code methods}, {@code createdAssertions}, {@code failures} and
+   * {@code latencies} members.
+   *
+   * @return the metrics as JSON.
+   */
+  public String toJson() {
+    StringBuilder json = new StringBuilder("{\"methods\":");
+    appendLatencies(json, methodLatencies);
+    json.append(",\"createdAssertions\":");
+    appendCounts(json, createdAssertionCounts);
+    json.append(",\"failures\":");
+    appendCounts(json, failureCounts);
+    json.append(",\"latencies\":");
+    appendLatencies(json, latencies);
+    return json.append('}').toString();
+  }
+
+  private static void appendSummaryCounts(StringBuilder summary, String metric, Map<String, Long> counts) {
+    counts.forEach((name, count) -> summary.append(String.format("  %-8s %-40s %12d%n", metric, name, count)));
+  }
+
+  private static void appendSummaryLatencies(StringBuilder summary, String metric, Map<String, Latency> latencies) {
+    latencies.forEach((name, latency) -> summary.append(String.format("  %-8s %-40s %s%n", metric, name, latency)));
+  }
+
+  private static void appendLatencies(StringBuilder json, Map<String, Latency> latencies) {
+    json.append('{');
+    String separator = "";
+    for (Map.Entry<String, Latency> entry : latencies.entrySet()) {
+      Latency latency = entry.getValue();
+      json.append(separator);
+      appendString(json, entry.getKey());
+      json.append(":{\"count\":").append(latency.count)
+          .append(",\"failureCount\":").append(latency.failureCount)
+          .append(",\"totalNanos\":").append(latency.totalNanos)
+          .append(",\"p50Nanos\":").append(latency.p50Nanos)
+          .append(",\"p90Nanos\":").append(latency.p90Nanos)
+          .append(",\"p99Nanos\":").append(latency.p99Nanos)
+          .append(",\"maxNanos\":").append(latency.maxNanos).append('}');
+      separator = ",";
+    }
+    json.append('}');
+  }
+
+  private static void appendCounts(StringBuilder json, Map<String, Long> counts) {
+    json.append('{');
+    String separator = "";
+    for (Map.Entry<String, Long> entry : counts.entrySet()) {
+      json.append(separator);
+      appendString(json, entry.getKey());
+      json.append(':').append(entry.getValue());
+      separator = ",";
+    }
+    json.append('}');
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format("\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+    json.append('"');
+  }
+
+  @Override
+  public String toString() {
+    return toTextSummary();
+  }
+
+  /**
+   * The latency of assertion methods or timed assertions, percentiles are the upper bound of the power of two range of
+   * nanoseconds they fall into, i.e. within a factor of two of the exact value.
+   */
+  public static final class Latency {
+
+    private final long count;
+    private final long failureCount;
+    private final long totalNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    Latency(long count, long failureCount, long totalNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+            long maxNanos) {
+      this.count = count;
+      this.failureCount = failureCount;
+      this.totalNanos = totalNanos;
+      this.p50Nanos = p50Nanos;
+      this.p90Nanos = p90Nanos;
+      this.p99Nanos = p99Nanos;
+      this.maxNanos = maxNanos;
+    }
+
+    /** @return the number of timed runs, i.e. the number of invocations of an assertion method. */
+    public long count() {
+      return count;
+    }
+
+    /** @return the number of timed runs that threw an error. */
+    public long failureCount() {
+      return failureCount;
+    }
+
+    /** @return the cumulated latency of the timed runs in nanoseconds. */
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    /** @return the median latency in nanoseconds. */
+    public long p50Nanos() {
+      return p50Nanos;
+    }
+
+    /** @return the 90th percentile of the latency in nanoseconds. */
+    public long p90Nanos() {
+      return p90Nanos;
+    }
+
+    /** @return the 99th percentile of the latency in nanoseconds. */
+    public long p99Nanos() {
+      return p99Nanos;
+    }
+
+    /** @return the maximum latency in nanoseconds. */
+    public long maxNanos() {
+      return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("count=%d failures=%d total=%dns p50=%dns p90=%dns p99=%dns max=%dns", count, failureCount,
+                           totalNanos, p50Nanos, p90Nanos, p99Nanos, maxNanos);
+    }
+  }
+
+}
@@ -0,0 +1,148 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects the errors of soft assertions without locking, so that several threads can feed the same collector.
+ * <p>
+ * Each error gets the next slot by incrementing a counter, only the first {@code maxRetainedErrors} ones are retained,
+ * the following ones are only counted. The stack trace of the errors after the first {@code maxStackTraces} ones is
+ * dropped to keep the retained errors small.
+ * <p>
+ * Slots are allocated lazily in chunks doubling in size, so that a large maximum, e.g. {@link Integer#MAX_VALUE} to
+ * keep every error, only costs the memory of the errors actually collected.
+ */
+public final class SoftErrorCollector {
+
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+  // chunk k holds the slots from FIRST_CHUNK_SIZE * (2^k - 1) to FIRST_CHUNK_SIZE * (2^(k+1) - 1) excluded
+  private static final int FIRST_CHUNK_SIZE = 16;
+
+  private final AtomicReferenceArray<AtomicReferenceArray<AssertionError>> chunks =
+      new AtomicReferenceArray<>(Integer.SIZE);
+  private final int maxRetainedErrors;
+  private final int maxStackTraces;
+  private final AtomicLong errorCount = new AtomicLong();
+
+  /**
+   * Creates a new <code>{@link SoftErrorCollector}</code>.
+   *
+   * @param maxRetainedErrors the maximum number of retained errors, greater than 0.
+   * @param maxStackTraces the number of first errors keeping their stack trace, not negative.
+   * @throws IllegalArgumentException if {@code maxRetainedErrors} is not greater than 0 or {@code maxStackTraces} is
+   *           negative.
+   */
+  public SoftErrorCollector(int maxRetainedErrors, int maxStackTraces) {
+    if (maxRetainedErrors <= 0) {
+      throw new IllegalArgumentException("The maximum number of retained errors should be greater than 0 but was: "
+                                         + maxRetainedErrors);
+    }
+    if (maxStackTraces < 0) {
+      throw new IllegalArgumentException("The number of errors keeping their stack trace should not be negative"
+                                         + " but was: " + maxStackTraces);
+    }
+    this.maxRetainedErrors = maxRetainedErrors;
+    this.maxStackTraces = maxStackTraces;
+  }
+
+  /**
+   * Collects the given error, retaining it if less than the maximum number of errors have been retained.
+   *
+   * @param error the error to collect.
+   */
+  public void collect(AssertionError error) {
+    long index = errorCount.getAndIncrement();
+    if (index >= maxRetainedErrors) {
+      return;
+    }
+    if (index >= maxStackTraces) {
+      error.setStackTrace(NO_STACK_TRACE);
+    }
+    int chunkIndex = chunkIndex(index);
+    long chunkStart = chunkStart(chunkIndex);
+    AtomicReferenceArray<AssertionError> chunk = chunks.get(chunkIndex);
+    if (chunk == null) {
+      // the last chunk is cut to the maximum number of retained errors
+      int chunkSize = (int) Math.min((long) FIRST_CHUNK_SIZE << chunkIndex, maxRetainedErrors - chunkStart);
+      chunks.compareAndSet(chunkIndex, null, new AtomicReferenceArray<>(chunkSize));
+      chunk = chunks.get(chunkIndex);
+    }
+    chunk.set((int) (index - chunkStart), error);
+  }
+
+  /**
+   * Returns whether the next collected error will keep its stack trace, so that it is not filled in when it would be
+   * dropped.
+   *
+   * @return whether the next collected error will keep its stack trace.
+   */
+  public boolean keepsStackTraces() {
+    return errorCount.get() < maxStackTraces;
+  }
+
+  /**
+   * Returns the number of collected errors, retained or not.
+   *
+   * @return the number of collected errors.
+   */
+  public long errorCount() {
+    return errorCount.get();
+  }
+
+  /**
+   * Returns the number of collected errors that were not retained because the maximum number of retained errors was
+   * reached.
+   *
+   * @return the number of dropped errors.
+   */
+  public long droppedErrorCount() {
+    return Math.max(0, errorCount.get() - maxRetainedErrors);
+  }
+
+  /**
+   * Returns the retained errors in the order they were collected.
+   * <p>
+   * An error collected concurrently with this call may not be returned yet.
+   *
+   * @return the retained errors.
+   */
+  public List<AssertionError> retainedErrors() {
+    long count = Math.min(errorCount.get(), maxRetainedErrors);
+    List<AssertionError> errors = new ArrayList<>((int) count);
+    for (int chunkIndex = 0; chunkStart(chunkIndex) < count; chunkIndex++) {
+      AtomicReferenceArray<AssertionError> chunk = chunks.get(chunkIndex);
+      int chunkCount = chunk == null ? 0 : (int) Math.min(chunk.length(), count - chunkStart(chunkIndex));
+      for (int i = 0; i < chunkCount; i++) {
+        AssertionError error = chunk.get(i);
+        if (error != null) {
+          errors.add(error);
+        }
+      }
+    }
+    return errors;
+  }
+
+  private static int chunkIndex(long index) {
+    return Long.SIZE - 1 - Long.numberOfLeadingZeros(index / FIRST_CHUNK_SIZE + 1);
+  }
+
+  private static long chunkStart(int chunkIndex) {
+    return FIRST_CHUNK_SIZE * ((1L << chunkIndex) - 1);
+  }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes, for each {@link ZoneId}, the period between two offset transitions that contains the last instant whose
+ * offset was looked up, so that looking up the offset of an instant of the same period only takes a map lookup and two
+ * comparisons instead of searching the transitions of the {@link ZoneRules}.
+ * <p>
+ * A period is replaced when an instant outside of it is looked up. Periods are immutable, so a zone looked up by several
+ * threads at once may be recomputed but is never inconsistent.
+ */
+public final class ZoneOffsetCache {
+
+  private static final long MAX_EPOCH_SECOND = Instant.MAX.getEpochSecond();
+  private static final Map<ZoneId, OffsetPeriod> PERIODS = new ConcurrentHashMap<>();
+
+  // the period last looked up, saves the map lookup when the same zone is looked up repeatedly
+  private static volatile OffsetPeriod lastPeriod;
+
+  private ZoneOffsetCache() {}
+
+  /**
+   * Returns the total offset in seconds from UTC of the given {@link ZoneId} at the given instant, like
+   * {@code zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds()}.
+   *
+   * @param zone the zone to get the offset of, expected not be null.
+   * @param epochSecond the instant at which the offset is evaluated.
+   * @return the total offset in seconds of the zone at the given instant.
+   * @throws java.time.DateTimeException if the instant exceeds the supported range of {@link Instant}.
+   */
+  public static int offsetSecondsAt(ZoneId zone, long epochSecond) {
+    OffsetPeriod period = lastPeriod;
+    // ZoneId.of and parsing create a new ZoneId for each call, compare by id rather than identity
+    if (period != null && period.contains(epochSecond) && period.zone.equals(zone)) {
+      return period.offsetSeconds;
+    }
+    period = PERIODS.get(zone);
+    if (period == null || !period.contains(epochSecond)) {
+      if (epochSecond >= MAX_EPOCH_SECOND) {
+        // no period can start after the last supported instant
+        return zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+      }
+      period = OffsetPeriod.of(zone, epochSecond);
+      PERIODS.put(zone, period);
+    }
+    // only write the shared slot when it changes, concurrent lookups of the same period then only read it
+    if (lastPeriod != period) {
+      lastPeriod = period;
+    }
+    return period.offsetSeconds;
+  }
+
+  private static final class OffsetPeriod {
+
+    private final ZoneId zone;
+    // inclusive
+    private final long start;
+    // exclusive
+    private final long end;
+    private final int offsetSeconds;
+
+    private OffsetPeriod(ZoneId zone, long start, long end, int offsetSeconds) {
+      this.zone = zone;
+      this.start = start;
+      this.end = end;
+      this.offsetSeconds = offsetSeconds;
+    }
+
+    static OffsetPeriod of(ZoneId zone, long epochSecond) {
+      ZoneRules rules = zone.getRules();
+      Instant instant = Instant.ofEpochSecond(epochSecond);
+      // the last transition at or before the instant and the first one after it
+      ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+      ZoneOffsetTransition next = rules.nextTransition(instant);
+      return new OffsetPeriod(zone, previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                              next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+                              rules.getOffset(instant).getTotalSeconds());
+    }
+
+    boolean contains(long epochSecond) {
+      return start <= epochSecond && epochSecond < end;
+    }
+  }
+
+}
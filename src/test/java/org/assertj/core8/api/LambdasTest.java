@@ -42,4 +42,15 @@ public class LambdasTest implements WithAssertions {
 
   }
 
+  /**
+   * Test method for {@link org.assertj.core8.api.Lambdas#toCondition(java.util.function.LongPredicate)}.
+   */
+  @Test
+  public void Lambdas_toCondition_long_Test() {
+	LongCondition condition = Lambdas.toCondition((final long value) -> value > Integer.MAX_VALUE);
+	assertThat(condition.matches(Long.MAX_VALUE)).isTrue();
+	assertThat(condition.matches(0L)).isFalse();
+	assertThat(condition.matches((Long) null)).isFalse();
+  }
+
 }
@@ -0,0 +1,70 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link LongAssert#is(java.util.function.LongPredicate)}</code> and
+ * <code>{@link LongAssert#is(LongCondition)}</code>.
+ */
+public class LongAssert_is_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_actual_matches_predicate() {
+    Assertions.assertThat(5L).is(x -> x > 0);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_match_predicate() {
+    try {
+      Assertions.assertThat(5L).is(x -> x > Integer.MAX_VALUE);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessageContaining("to be <>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_evaluate_primitive_condition_on_primitive_value() {
+    LongCondition condition = new LongCondition("valid", x -> x > 0) {
+      @Override
+      public boolean matches(Long value) {
+        throw new AssertionError("should not be evaluated on boxed value");
+      }
+    };
+    Assertions.assertThat(5L).is(condition);
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_satisfy_primitive_condition() {
+    try {
+      Assertions.assertThat(5L).is(new LongCondition("valid", x -> x > 10));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessageContaining("to be <valid>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_evaluate_primitive_condition_on_boxed_values() {
+    LongCondition condition = new LongCondition("valid", x -> x > 0);
+    assertThat(Long.valueOf(5)).is(condition);
+    assertThat(condition.matches(null)).isFalse();
+  }
+
+}
@@ -15,16 +15,25 @@ package org.assertj.core8.api;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.math.BigDecimal;
+import java.nio.LongBuffer;
 import java.text.DateFormat;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertDelegateTarget;
 import org.assertj.core.api.Condition;
@@ -652,4 +661,57 @@ public class WithAssertions_delegation_Test implements WithAssertions {
   }
 
 
+  /**
+   * Test that the delegate methods are called.
+   */
+  @Test
+  public void WithAssertions_enableDateTimeParseCache_Test() {
+	this.enableDateTimeParseCache(10);
+	this.assertThat(LocalDateTime.now()).isAfter("2000-12-03T10:15:30");
+	this.disableDateTimeParseCache();
+  }
+
+
+  /**
+   * Test that the delegate methods are called.
+   */
+  @Test
+  public void WithAssertions_assertThatEpochTimestamps_Test() {
+	this.assertThatEpochMillis(0, 1).isStrictlyIncreasing();
+	this.assertThatEpochNanos(LongBuffer.wrap(new long[] { 0, 1 })).isStrictlyIncreasing();
+  }
+
+  @Test
+  public void WithAssertions_assertThatDateTimeSequence_Test() {
+	this.assertThatZonedDateTimeSequence(Stream.of(ZonedDateTime.now())).isInChronologicalOrder();
+	this.assertThatLocalDateTimeSequence(Collections.singletonList(LocalDateTime.now()).iterator())
+	    .isInStrictChronologicalOrder();
+  }
+
+  @Test
+  public void WithAssertions_assertThat_primitive_streams_Test() {
+	this.assertThat(IntStream.of(1, 2)).isSorted();
+	this.assertThat(LongStream.of(1, 2)).hasMax(2);
+	this.assertThat(DoubleStream.of(1, 2)).allMatch(d -> d > 0);
+  }
+
+  @Test
+  public void WithAssertions_assertThat_stream_Test() {
+	this.assertThat(Stream.of("a", "b")).startsWith("a");
+  }
+
+  @Test
+  public void WithAssertions_assertThat_primitive_optionals_Test() {
+	this.assertThat(OptionalInt.of(1)).hasValue(1);
+	this.assertThat(OptionalLong.empty()).isEmpty();
+	this.assertThat(OptionalDouble.of(1.0)).isPresent();
+  }
+
+  @Test
+  public void WithAssertions_assertThatOptionals_Test() {
+	this.assertThatOptionals(Collections.singletonList(Optional.of("a"))).areAllPresent();
+	this.assertThatOptionals(Stream.of(Optional.empty())).areAllEmpty();
+  }
+
+
 }
@@ -0,0 +1,88 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.epochtimestamps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatEpochMillis;
+import static org.assertj.core8.api.Assertions.assertThatEpochNanos;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.Instant;
+
+public class EpochTimestampsAssert_areAllBetween_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_all_timestamps_are_in_range_bounds_included() {
+    assertThatEpochMillis(1000, 1500, 2000).areAllBetween(Instant.ofEpochSecond(1), Instant.ofEpochSecond(2));
+    assertThatEpochMillis(Long.MIN_VALUE, Long.MAX_VALUE).areAllBetween(Instant.MIN, Instant.MAX);
+  }
+
+  @Test
+  public void should_report_all_timestamps_out_of_range() {
+    try {
+      assertThatEpochNanos(999_999, 1_000_000, 2_000_000, 2_000_001).areAllBetween(Instant.ofEpochMilli(1),
+                                                                                    Instant.ofEpochMilli(2));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> elements to be in range:\n"
+                               + "  [<1970-01-01T00:00:00.001Z>, <1970-01-01T00:00:00.002Z>]\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=1970-01-01T00:00:00.000999999Z, 3=1970-01-01T00:00:00.002000001Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_not_round_start_down_to_timestamp_unit() {
+    try {
+      assertThatEpochMillis(0).areAllBetween(Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(1));
+    } catch (AssertionError e) {
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_not_round_up_start_saturated_to_first_timestamp() {
+    assertThatEpochMillis(Long.MIN_VALUE, Long.MAX_VALUE).areAllBetween(Instant.MIN.plusNanos(1), Instant.MAX);
+  }
+
+  @Test
+  public void should_fail_if_start_is_after_last_timestamp() {
+    try {
+      assertThatEpochMillis(Long.MAX_VALUE).areAllBetween(Instant.MAX.minusNanos(1), Instant.MAX);
+    } catch (AssertionError e) {
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_end_is_before_first_timestamp() {
+    try {
+      assertThatEpochMillis(Long.MIN_VALUE).areAllBetween(Instant.MIN, Instant.MIN.plusNanos(1));
+    } catch (AssertionError e) {
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_bounds_are_null() {
+    expectIllegalArgumentException("The bounds of the range should not be null");
+    assertThatEpochMillis(0).areAllBetween(null, Instant.EPOCH);
+  }
+
+}
@@ -0,0 +1,65 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.epochtimestamps;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatEpochMillis;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+
+public class EpochTimestampsAssert_areAllEqualToTruncatedTo_Test extends DateTimeBaseTest {
+
+  // 2000-01-01T00:00:00Z and 2000-01-01T23:59:59Z
+  private final long[] firstDayOf2000InUtc = { 946684800000L, 946771199000L };
+
+  @Test
+  public void should_pass_if_all_timestamps_are_equal_to_given_datetime_truncated_in_its_zone() {
+    assertThatEpochMillis(firstDayOf2000InUtc).areAllEqualToTruncatedTo(ZonedDateTime.parse("2000-01-01T12:00Z"), DAYS);
+    assertThatEpochMillis(-1L).areAllEqualToTruncatedTo(ZonedDateTime.parse("1969-12-31T23:59:59.999Z"), MILLIS);
+  }
+
+  @Test
+  public void should_report_timestamps_as_datetimes_in_given_datetime_zone() {
+    try {
+      assertThatEpochMillis(firstDayOf2000InUtc)
+          .areAllEqualToTruncatedTo(ZonedDateTime.parse("2000-01-01T12:00:00+01:00[Europe/Paris]"), DAYS);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <2> elements to have same year, month and day as:\n"
+                               + "  <2000-01-01T12:00+01:00[Europe/Paris]>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{1=2000-01-02T00:59:59+01:00[Europe/Paris]}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatEpochMillis(firstDayOf2000InUtc).areAllEqualToTruncatedTo(null, DAYS);
+  }
+
+  @Test
+  public void should_throw_error_if_given_unit_is_not_supported() {
+    expectIllegalArgumentException("Unsupported unit to truncate date-times to: Weeks");
+    assertThatEpochMillis(firstDayOf2000InUtc).areAllEqualToTruncatedTo(ZonedDateTime.parse("2000-01-01T12:00Z"), WEEKS);
+  }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.epochtimestamps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatEpochMillis;
+import static org.assertj.core8.api.Assertions.assertThatEpochNanos;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.Duration;
+
+public class EpochTimestampsAssert_hasNoGapGreaterThan_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_no_gap_is_greater_than_given_one() {
+    assertThatEpochMillis(0, 1000, 3000, 2000, 4000).hasNoGapGreaterThan(Duration.ofSeconds(2));
+    // 1.5ms max gap is 1ms in milliseconds
+    assertThatEpochNanos(0, 1_500_000).hasNoGapGreaterThan(Duration.ofNanos(1_500_000));
+  }
+
+  @Test
+  public void should_report_all_timestamps_too_far_from_their_predecessor() {
+    try {
+      assertThatEpochMillis(0, 2001, 2000, 5000).hasNoGapGreaterThan(Duration.ofSeconds(2));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> elements to follow their predecessor by at most:\n  <PT2S>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{1=1970-01-01T00:00:02.001Z, 3=1970-01-01T00:00:05Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_detect_gaps_overflowing_long_values() {
+    try {
+      assertThatEpochMillis(Long.MIN_VALUE, Long.MAX_VALUE).hasNoGapGreaterThan(Duration.ofDays(1));
+    } catch (AssertionError e) {
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_given_gap_is_negative() {
+    expectIllegalArgumentException("The maximum gap between timestamps should not be null or negative");
+    assertThatEpochMillis(0).hasNoGapGreaterThan(Duration.ofSeconds(-1));
+  }
+
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.epochtimestamps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatEpochMillis;
+import static org.assertj.core8.api.Assertions.assertThatEpochNanos;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.nio.LongBuffer;
+
+public class EpochTimestampsAssert_isStrictlyIncreasing_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_timestamps_are_strictly_increasing() {
+    assertThatEpochMillis(-1, 0, 1000).isStrictlyIncreasing().isMonotonicallyIncreasing();
+    assertThatEpochNanos().isStrictlyIncreasing();
+  }
+
+  @Test
+  public void should_only_check_remaining_timestamps_of_buffer_and_keep_its_position() {
+    LongBuffer timestamps = LongBuffer.wrap(new long[] { 5, 1, 2, 3 });
+    timestamps.position(1);
+    assertThatEpochMillis(timestamps).isStrictlyIncreasing();
+    assertThat(timestamps.position()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_report_all_timestamps_not_greater_than_their_predecessor() {
+    try {
+      assertThatEpochMillis(0, 1000, 1000, 500, 4000).isStrictlyIncreasing();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <5> elements to be strictly greater than their predecessor\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{2=1970-01-01T00:00:01Z, 3=1970-01-01T00:00:00.500Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_accept_equal_timestamps_when_monotonically_increasing() {
+    try {
+      assertThatEpochMillis(0, 1000, 1000, 500, 4000).isMonotonicallyIncreasing();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <5> elements to be greater than or equal to their predecessor\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{3=1970-01-01T00:00:00.500Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatEpochMillis((long[]) null).isStrictlyIncreasing();
+  }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.data.LocalDateTimeInterval;
+
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+
+public class LocalDateTimeAssert_isBetween_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private final LocalDateTime end = LocalDateTime.of(2000, 1, 2, 0, 0);
+
+  @Test
+  public void should_pass_if_actual_is_between_bounds() {
+    assertThat(start).isBetween(start, end)
+                     .isBetween(LocalDateTimeInterval.halfOpen(start, end));
+    assertThat(end.minusNanos(1)).isStrictlyBetween(start, end)
+                                 .isBetween(LocalDateTimeInterval.open(start, end))
+                                 .isStrictlyBetween(LocalDateTimeInterval.closed(start, end));
+    assertThat(LocalDateTime.MIN).isBetween(LocalDateTime.MIN, LocalDateTime.MAX);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_before_start() {
+    try {
+      assertThat(start.minusNanos(1)).isBetween(start, end);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).isEqualTo("\nExpecting:\n  <1999-12-31T23:59:59.999999999>\n"
+                                           + "to be in interval:\n  [2000-01-01T00:00, 2000-01-02T00:00]\n"
+                                           + "but was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_excluded_bound_of_interval() {
+    try {
+      assertThat(start).isBetween(LocalDateTimeInterval.open(start, end));
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).isEqualTo("\nExpecting:\n  <2000-01-01T00:00>\n"
+                                           + "to be in interval:\n  ]2000-01-01T00:00, 2000-01-02T00:00[\n"
+                                           + "but was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isBetween(LocalDateTimeInterval.closed(start, end));
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException("The end of the interval should not be null");
+    assertThat(start).isStrictlyBetween(start, null);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_before_start() {
+    expectIllegalArgumentException("The end of the interval should not be before its start");
+    assertThat(start).isBetween(end, start);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null_whatever_the_interval() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isBetween((LocalDateTimeInterval) null);
+  }
+
+  @Test
+  public void should_throw_error_if_interval_is_null() {
+    expectIllegalArgumentException("The given LocalDateTimeInterval should not be null");
+    assertThat(start).isStrictlyBetween((LocalDateTimeInterval) null);
+  }
+
+}
@@ -0,0 +1,89 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+
+public class LocalDateTimeAssert_isCloseTo_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private final Duration fiftyMillis = Duration.ofMillis(50);
+
+  @Test
+  public void should_pass_if_actual_is_within_tolerance_of_other_before_or_after_it() {
+    assertThat(refLocalDateTime).isCloseTo(refLocalDateTime, Duration.ZERO)
+                                .isCloseTo(refLocalDateTime.plusNanos(50_000_000), fiftyMillis)
+                                .isCloseTo(refLocalDateTime.minusNanos(50_000_000), fiftyMillis)
+                                .isCloseTo(refLocalDateTime.plusYears(500), Duration.ofDays(500 * 366));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_within_tolerance_of_other() {
+    try {
+      assertThat(refLocalDateTime).isCloseTo(refLocalDateTime.minusNanos(50_000_001), fiftyMillis);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).isEqualTo("\nExpecting:\n  <2000-01-01T00:00>\n"
+                                           + "to be close to:\n  <1999-12-31T23:59:59.949999999>\n"
+                                           + "within <PT0.05S> but difference was <PT0.050000001S>.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_date_times_are_too_far_apart_to_count_their_difference_in_nanos() {
+    try {
+      assertThat(LocalDateTime.MIN).isCloseTo(LocalDateTime.MAX, Duration.ofDays(1));
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).endsWith("within <PT24H> but difference was <PT17531639991215H59M59.999999999S>.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isCloseTo(refLocalDateTime, fiftyMillis);
+  }
+
+  @Test
+  public void should_throw_error_if_given_localdatetime_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(refLocalDateTime).isCloseTo(null, fiftyMillis);
+  }
+
+  @Test
+  public void should_throw_error_if_given_tolerance_is_null() {
+    expectIllegalArgumentException("The tolerance should not be null");
+    assertThat(refLocalDateTime).isCloseTo(refLocalDateTime, null);
+  }
+
+  @Test
+  public void should_throw_error_if_given_tolerance_is_negative() {
+    expectIllegalArgumentException("The tolerance should not be negative");
+    assertThat(refLocalDateTime).isCloseTo(refLocalDateTime, Duration.ofNanos(-1));
+  }
+
+}
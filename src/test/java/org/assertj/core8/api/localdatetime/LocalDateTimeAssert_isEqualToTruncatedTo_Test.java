@@ -0,0 +1,99 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetime;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+
+public class LocalDateTimeAssert_isEqualToTruncatedTo_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = LocalDateTime.of(2000, 2, 10, 23, 50, 1, 123_456_789);
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_other_once_both_truncated_to_given_unit() {
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime, NANOS)
+                                .isEqualToTruncatedTo(refLocalDateTime.withNano(123_456_000), MICROS)
+                                .isEqualToTruncatedTo(refLocalDateTime.withNano(123_999_999), MILLIS)
+                                .isEqualToTruncatedTo(refLocalDateTime.withHour(0).withMinute(0), DAYS)
+                                .isEqualToTruncatedTo(refLocalDateTime.withDayOfMonth(29), MONTHS)
+                                .isEqualToTruncatedTo(refLocalDateTime.withMonth(12).withDayOfMonth(31), YEARS);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_equal_to_given_localdatetime_truncated_to_millis() {
+    try {
+      assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime.withNano(124_000_000), MILLIS);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage())
+          .isEqualTo(
+              "\nExpecting:\n  <2000-02-10T23:50:01.123456789>\nto have same year, month, day, hour, minute, second and millisecond as:\n  <2000-02-10T23:50:01.124>\nbut had not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_as_month_fields_are_different_even_if_time_difference_is_less_than_a_second() {
+    LocalDateTime endOfJanuary = LocalDateTime.of(2000, 1, 31, 23, 59, 59, 999_999_999);
+    try {
+      assertThat(endOfJanuary).isEqualToTruncatedTo(endOfJanuary.plusNanos(1), MONTHS);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage())
+          .isEqualTo(
+              "\nExpecting:\n  <2000-01-31T23:59:59.999999999>\nto have same year and month as:\n  <2000-02-01T00:00>\nbut had not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isEqualToTruncatedTo(LocalDateTime.now(), DAYS);
+  }
+
+  @Test
+  public void should_throw_error_if_given_localdatetime_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(null, DAYS);
+  }
+
+  @Test
+  public void should_throw_error_if_given_unit_is_null() {
+    expectIllegalArgumentException("The unit to truncate date-times to should not be null");
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime, null);
+  }
+
+  @Test
+  public void should_throw_error_if_given_unit_is_not_supported() {
+    expectIllegalArgumentException("Unsupported unit to truncate date-times to: Weeks");
+    assertThat(refLocalDateTime).isEqualToTruncatedTo(refLocalDateTime, WEEKS);
+  }
+
+}
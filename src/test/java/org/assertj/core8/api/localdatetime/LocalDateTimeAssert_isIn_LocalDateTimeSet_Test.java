@@ -0,0 +1,95 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.data.LocalDateTimeSet;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link org.assertj.core8.api.LocalDateTimeAssert#isIn(LocalDateTimeSet)} and
+ * {@link org.assertj.core8.api.LocalDateTimeAssert#isNotIn(LocalDateTimeSet)}.
+ */
+public class LocalDateTimeAssert_isIn_LocalDateTimeSet_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime refLocalDateTime = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private final LocalDateTimeSet expected = LocalDateTimeSet.of(refLocalDateTime, refLocalDateTime.plusDays(1));
+
+  @Test
+  public void should_pass_if_actual_is_in_set() {
+    assertThat(refLocalDateTime).isIn(expected);
+    assertThat(refLocalDateTime.plusNanos(1)).isNotIn(expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_set() {
+    try {
+      assertThat(refLocalDateTime.plusHours(1)).isIn(expected);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2000-01-01T01:00>\nto be in:\n <[2000-01-01T00:00, 2000-01-02T00:00]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_set() {
+    try {
+      assertThat(refLocalDateTime).isNotIn(expected);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2000-01-01T00:00>\nnot to be in:\n <[2000-01-01T00:00, 2000-01-02T00:00]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_only_describe_first_values_of_large_set() {
+    List<LocalDateTime> dateTimes = new ArrayList<>();
+    for (int i = 1; i <= 100; i++) {
+      dateTimes.add(refLocalDateTime.plusDays(i));
+    }
+    try {
+      assertThat(refLocalDateTime).isIn(LocalDateTimeSet.of(dateTimes));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2000-01-01T00:00>\nto be in:\n"
+                               + " <[2000-01-02T00:00, 2000-01-03T00:00, 2000-01-04T00:00, 2000-01-05T00:00, "
+                               + "2000-01-06T00:00, 2000-01-07T00:00, 2000-01-08T00:00, 2000-01-09T00:00, "
+                               + "2000-01-10T00:00, 2000-01-11T00:00, ...] (100 values)>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    LocalDateTime actual = null;
+    assertThat(actual).isNotIn(expected);
+  }
+
+  @Test
+  public void should_fail_if_set_parameter_is_null() {
+    expectException(IllegalArgumentException.class, "The given LocalDateTimeSet should not be null");
+    assertThat(refLocalDateTime).isIn((LocalDateTimeSet) null);
+  }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetimes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatLocalDateTimes;
+import static org.assertj.core8.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+public class LocalDateTimesAssert_areAllBefore_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime reference = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_before_given_localdatetime() {
+    assertThatLocalDateTimes(reference.minusDays(1), reference.minusNanos(1)).areAllBefore(reference);
+    assertThatLocalDateTimes(Arrays.asList(reference.minusDays(1), reference.minusNanos(1))).areAllBefore(reference);
+  }
+
+  @Test
+  public void should_report_all_elements_not_before_given_localdatetime() {
+    try {
+      assertThatLocalDateTimes(reference, reference.minusDays(1), reference.plusDays(1)).areAllBefore(reference);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <3> elements to be strictly before:\n  <2000-01-01T00:00>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=2000-01-01T00:00, 2=2000-01-02T00:00}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatLocalDateTimes((LocalDateTime[]) null).areAllBefore(reference);
+  }
+
+  @Test
+  public void should_throw_error_if_given_localdatetime_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatLocalDateTimes(reference).areAllBefore(null);
+  }
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetimes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatLocalDateTimes;
+import static org.assertj.core8.api.LocalDateTimeAssert.NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+public class LocalDateTimesAssert_areAllEqualToIgnoringSeconds_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime reference = LocalDateTime.of(2000, 1, 1, 23, 50);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_equal_to_given_localdatetime_ignoring_seconds() {
+    assertThatLocalDateTimes(Arrays.asList(reference, reference.plusSeconds(59), reference.plusNanos(1)))
+        .areAllEqualToIgnoringSeconds(reference.plusSeconds(10));
+  }
+
+  @Test
+  public void should_report_all_elements_not_equal_to_given_localdatetime_ignoring_seconds() {
+    try {
+      assertThatLocalDateTimes(reference.minusNanos(1), null, reference).areAllEqualToIgnoringSeconds(reference);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <3> elements to have same year, month, day, hour and minute as:\n"
+                               + "  <2000-01-01T23:50>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=2000-01-01T23:49:59.999999999, 1=null}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_given_localdatetime_is_null() {
+    expectIllegalArgumentException(NULL_LOCAL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatLocalDateTimes(reference).areAllEqualToIgnoringSeconds(null);
+  }
+
+}
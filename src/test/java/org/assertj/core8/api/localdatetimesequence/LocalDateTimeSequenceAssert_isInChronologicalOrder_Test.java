@@ -0,0 +1,69 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.localdatetimesequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatLocalDateTimeSequence;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public class LocalDateTimeSequenceAssert_isInChronologicalOrder_Test extends DateTimeBaseTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+  @Test
+  public void should_pass_if_date_times_are_in_chronological_order() {
+    assertThatLocalDateTimeSequence(Arrays.asList(LocalDateTime.MIN, START, START, LocalDateTime.MAX).iterator())
+        .isInChronologicalOrder();
+    assertThatLocalDateTimeSequence(Stream.of(START, START.plusMinutes(1)))
+        .isInStrictChronologicalOrder(Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void should_fail_on_first_element_before_its_predecessor() {
+    try {
+      assertThatLocalDateTimeSequence(Stream.of(START, START.minusNanos(1))).isInChronologicalOrder();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting date-times to be in chronological order\n"
+                               + "but element at index <1>:\n  <1999-12-31T23:59:59.999999999>\n"
+                               + "was before previous element:\n  <2000-01-01T00:00>\n"
+                               + "neighbourhood (index=element):\n"
+                               + "  <{0=2000-01-01T00:00, 1=1999-12-31T23:59:59.999999999}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_gap_is_greater_than_given_one() {
+    try {
+      assertThatLocalDateTimeSequence(Stream.of(START, START.plusMinutes(1), START.plusMinutes(3), START))
+          .isInStrictChronologicalOrder(Duration.ofMinutes(1));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting consecutive date-times to be at most <PT1M> apart\n"
+                               + "but element at index <2>:\n  <2000-01-01T00:03>\n"
+                               + "was <PT2M> after previous element:\n  <2000-01-01T00:01>\n"
+                               + "neighbourhood (index=element):\n"
+                               + "  <{1=2000-01-01T00:01, 2=2000-01-01T00:03, 3=2000-01-01T00:00}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
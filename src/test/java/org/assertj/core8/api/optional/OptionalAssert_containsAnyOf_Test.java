@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainAnyOf;
+
+public class OptionalAssert_containsAnyOf_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private final Set<String> expectedValues = new HashSet<>(Arrays.asList("something", "anything"));
+
+  @Test
+  public void should_fail_when_optional_is_null() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(actualIsNull());
+
+    assertThat((Optional<String>) null).containsAnyOf(expectedValues);
+  }
+
+  @Test
+  public void should_fail_if_expected_values_are_null() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The expected contained values should not be <null> or empty.");
+
+    assertThat(Optional.of("something")).containsAnyOf(null);
+  }
+
+  @Test
+  public void should_fail_if_expected_values_are_empty() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The expected contained values should not be <null> or empty.");
+
+    assertThat(Optional.of("something")).containsAnyOf(Collections.emptySet());
+  }
+
+  @Test
+  public void should_pass_if_optional_contains_one_of_expected_values() throws Exception {
+    assertThat(Optional.of("anything")).containsAnyOf(expectedValues);
+  }
+
+  @Test
+  public void should_fail_if_optional_contains_none_of_expected_values() throws Exception {
+    Optional<String> actual = Optional.of("nothing");
+
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContainAnyOf(actual, expectedValues).create());
+
+    assertThat(actual).containsAnyOf(expectedValues);
+  }
+
+  @Test
+  public void should_fail_if_optional_is_empty() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldBePresent().create());
+
+    assertThat(Optional.<String> empty()).containsAnyOf(expectedValues);
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Optional;
+
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainValueWithKey;
+
+public class OptionalAssert_containsValueWithKey_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void should_fail_when_optional_is_null() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(actualIsNull());
+
+    assertThat((Optional<String>) null).containsValueWithKey(String::length, 9);
+  }
+
+  @Test
+  public void should_fail_if_key_extractor_is_null() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The key extractor should not be <null>.");
+
+    assertThat(Optional.of("something")).containsValueWithKey(null, 9);
+  }
+
+  @Test
+  public void should_pass_if_optional_contains_value_with_expected_key() throws Exception {
+    assertThat(Optional.of("something")).containsValueWithKey(String::length, 9);
+  }
+
+  @Test
+  public void should_fail_if_optional_contains_value_with_other_key() throws Exception {
+    Optional<String> actual = Optional.of("something");
+
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContainValueWithKey(actual, 3, 9).create());
+
+    assertThat(actual).containsValueWithKey(String::length, 3);
+  }
+
+  @Test
+  public void should_fail_if_optional_is_empty() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldBePresent().create());
+
+    assertThat(Optional.<String> empty()).containsValueWithKey(String::length, 9);
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.OptionalDouble;
+
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldBePresent.shouldBePresent;
+import static org.assertj.core8.error.OptionalShouldContainValueMatching.shouldContainValueMatching;
+
+public class OptionalDoubleAssert_hasValueMatching_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void should_fail_when_optional_is_null() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(actualIsNull());
+
+    assertThat((OptionalDouble) null).hasValueMatching(value -> value > 0);
+  }
+
+  @Test
+  public void should_fail_if_predicate_is_null() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The predicate to evaluate should not be null");
+
+    assertThat(OptionalDouble.of(1.0)).hasValueMatching(null);
+  }
+
+  @Test
+  public void should_pass_if_optional_value_matches_predicate() throws Exception {
+    assertThat(OptionalDouble.of(1.0)).hasValueMatching(value -> value > 0);
+  }
+
+  @Test
+  public void should_fail_if_optional_value_does_not_match_predicate() throws Exception {
+    OptionalDouble actual = OptionalDouble.of(1.0);
+
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContainValueMatching(actual).create());
+
+    assertThat(actual).hasValueMatching(value -> value < 0);
+  }
+
+  @Test
+  public void should_fail_if_optional_is_empty() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldBePresent().create());
+
+    assertThat(OptionalDouble.empty()).hasValueMatching(value -> value > 0);
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.data.Offset.offset;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContainCloseTo.shouldContainCloseTo;
+
+public class OptionalLongAssert_hasValueCloseTo_Test {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void should_fail_when_optional_is_null() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(actualIsNull());
+
+    assertThat((OptionalLong) null).hasValueCloseTo(10L, offset(1L));
+  }
+
+  @Test
+  public void should_fail_if_offset_is_null() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The offset should not be null");
+
+    assertThat(OptionalLong.of(10L)).hasValueCloseTo(10L, null);
+  }
+
+  @Test
+  public void should_pass_if_optional_contains_value_within_offset() throws Exception {
+    assertThat(OptionalLong.of(10L)).hasValueCloseTo(10L, offset(0L))
+                                    .hasValueCloseTo(11L, offset(1L))
+                                    .hasValueCloseTo(9L, offset(1L));
+    assertThat(OptionalLong.of(Long.MAX_VALUE)).hasValueCloseTo(Long.MAX_VALUE - 1, offset(1L));
+  }
+
+  @Test
+  public void should_fail_if_optional_contains_value_outside_offset() throws Exception {
+    OptionalLong actual = OptionalLong.of(10L);
+
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContainCloseTo(actual, 12L, 1L).create());
+
+    assertThat(actual).hasValueCloseTo(12L, offset(1L));
+  }
+
+  @Test
+  public void should_fail_without_overflowing_if_values_are_at_opposite_ends_of_long_range() throws Exception {
+    OptionalLong actual = OptionalLong.of(Long.MAX_VALUE);
+
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContainCloseTo(actual, Long.MIN_VALUE, 1L).create());
+
+    assertThat(actual).hasValueCloseTo(Long.MIN_VALUE, offset(1L));
+  }
+
+  @Test
+  public void should_fail_if_optional_is_empty() throws Exception {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage(shouldContain(10L).create());
+
+    assertThat(OptionalLong.empty()).hasValueCloseTo(10L, offset(1L));
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optionals;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatOptionals;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class OptionalsAssert_allContain_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_all_optionals_contain_expected_value() {
+    assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.of("a"))).allContain("a");
+    assertThatOptionals(Stream.of(Optional.of(1), Optional.of(1))).allContain(1);
+  }
+
+  @Test
+  public void should_report_all_optionals_not_containing_expected_value() {
+    try {
+      assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.empty(), null, Optional.of("b"))).allContain("a");
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> Optionals to contain:\n  <\"a\">\n"
+                               + "but <2> were present, these Optionals did not contain it (index=Optional):\n"
+                               + "  <{1=Optional.empty, 2=null, 3=Optional[b]}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatOptionals((List<Optional<String>>) null).allContain("a");
+  }
+
+  @Test
+  public void should_throw_error_if_expected_value_is_null() {
+    expectIllegalArgumentException("The expected contained value should not be <null>.");
+    assertThatOptionals(Arrays.asList(Optional.of("a"))).allContain(null);
+  }
+
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optionals;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatOptionals;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class OptionalsAssert_areAllEmpty_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_all_optionals_are_empty() {
+    assertThatOptionals(Arrays.asList(Optional.empty(), Optional.empty())).areAllEmpty();
+    assertThatOptionals(Stream.of(Optional.empty())).areAllEmpty();
+  }
+
+  @Test
+  public void should_report_all_present_optionals() {
+    try {
+      assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.empty(), null, Optional.of("b"))).areAllEmpty();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> Optionals to be empty\n"
+                               + "but <2> were present, these Optionals were not empty (index=Optional):\n"
+                               + "  <{0=Optional[a], 2=null, 3=Optional[b]}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatOptionals((List<Optional<String>>) null).areAllEmpty();
+  }
+
+}
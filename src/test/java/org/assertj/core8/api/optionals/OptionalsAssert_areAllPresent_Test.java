@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.optionals;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatOptionals;
+import static org.assertj.core8.internal.BulkChecks.PARALLEL_THRESHOLD;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class OptionalsAssert_areAllPresent_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_all_optionals_are_present() {
+    assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.of("b"))).areAllPresent();
+    assertThatOptionals(Stream.of(Optional.of("a"), Optional.of("b"))).areAllPresent();
+    assertThatOptionals(Collections.<Optional<String>> emptyList()).areAllPresent();
+  }
+
+  @Test
+  public void should_report_all_empty_optionals_indices() {
+    try {
+      assertThatOptionals(Arrays.asList(Optional.of("a"), Optional.empty(), null, Optional.of("b"))).areAllPresent();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> Optionals to contain a value\n"
+                               + "but <2> were present and these <2> were not, at indices:\n"
+                               + "  <[1, 2]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_report_same_indices_in_parallel() {
+    List<Optional<Integer>> optionals = IntStream.range(0, PARALLEL_THRESHOLD * 4)
+                                                 .mapToObj(i -> i % PARALLEL_THRESHOLD == 7 ? Optional.<Integer> empty()
+                                                     : Optional.of(i))
+                                                 .collect(Collectors.toList());
+    try {
+      assertThatOptionals(optionals).inParallel().areAllPresent();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <" + optionals.size() + "> Optionals to contain a value\n"
+                               + "but <" + (optionals.size() - 4) + "> were present and these <4> were not,"
+                               + " at indices:\n  <[7, " + (PARALLEL_THRESHOLD + 7) + ", "
+                               + (2 * PARALLEL_THRESHOLD + 7) + ", " + (3 * PARALLEL_THRESHOLD + 7) + "]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatOptionals((List<Optional<String>>) null).areAllPresent();
+  }
+
+}
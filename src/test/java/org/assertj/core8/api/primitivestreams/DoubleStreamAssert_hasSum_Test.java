@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.primitivestreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.DoubleStream;
+
+public class DoubleStreamAssert_hasSum_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_sum_is_close_to_expected_one() {
+    Assertions.assertThat(DoubleStream.of(0.1, 0.2, 0.3)).hasSum(0.6, offset(1e-9));
+    Assertions.assertThat(DoubleStream.of(1.0, Double.POSITIVE_INFINITY)).hasSum(Double.POSITIVE_INFINITY, offset(0.0));
+  }
+
+  @Test
+  public void should_fail_if_sum_is_not_close_to_expected_one() {
+    try {
+      Assertions.assertThat(DoubleStream.of(0.5, 0.5)).hasSum(1.5, offset(0.1));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream sum to be:\n  <1.5>\nbut was:\n  <1.0>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_offset_is_null() {
+    expectIllegalArgumentException("The offset should not be null");
+    Assertions.assertThat(DoubleStream.of(1.0)).hasSum(1.0, null);
+  }
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.primitivestreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+public class IntStreamAssert_allMatch_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_predicate_matches_as_expected() {
+    Assertions.assertThat(IntStream.range(0, 10)).allMatch(i -> i < 10);
+    Assertions.assertThat(IntStream.range(0, 10)).noneMatch(i -> i < 0);
+    Assertions.assertThat(IntStream.iterate(0, i -> i + 1)).anyMatch(i -> i == 1000);
+  }
+
+  @Test
+  public void should_stop_at_first_element_not_matching_predicate() {
+    try {
+      Assertions.assertThat(IntStream.iterate(0, i -> i + 1)).allMatch(i -> i < 1000);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all stream elements to match given predicate but element at index <1000>:\n"
+                               + "  <1000>\ndid not");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_no_element_matches_predicate() {
+    try {
+      Assertions.assertThat(IntStream.range(0, 3)).anyMatch(i -> i == 5);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting any of the <3> stream elements to match given predicate but none did");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.primitivestreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+public class IntStreamAssert_contains_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_stop_consuming_stream_once_all_values_are_found() {
+    Assertions.assertThat(IntStream.iterate(0, i -> i + 1)).contains(100, 3, 3);
+  }
+
+  @Test
+  public void should_report_values_not_found() {
+    try {
+      Assertions.assertThat(IntStream.range(0, 10)).contains(5, 30, 20);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to contain:\n  <[5, 30, 20]>\nbut could not find:\n  <[20, 30]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_stream_does_not_contain_given_values() {
+    try {
+      Assertions.assertThat(IntStream.of(4, 5)).doesNotContain(1, 5);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream not to contain:\n  <[1, 5]>\nbut found element at index <1>:\n"
+                               + "  <5>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_values_are_empty() {
+    expectIllegalArgumentException("The values to look for should not be null or empty");
+    Assertions.assertThat(IntStream.of(1)).contains();
+  }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.primitivestreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.api.IntStreamAssert;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+public class IntStreamAssert_isSorted_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_is_sorted() {
+    Assertions.assertThat(IntStream.of(1, 1, 2)).isSorted();
+    Assertions.assertThat(IntStream.empty()).isSorted();
+  }
+
+  @Test
+  public void should_report_first_element_less_than_its_predecessor() {
+    try {
+      Assertions.assertThat(IntStream.of(1, 3, 2, 0)).isSorted();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream elements to be sorted but element at index <2>:\n  <2>\n"
+                               + "was less than previous element:\n  <3>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_stream_has_already_been_consumed() {
+    IntStreamAssert assertion = Assertions.assertThat(IntStream.of(1));
+    assertion.hasCount(1);
+    expectException(IllegalStateException.class, "The stream can only be checked once, it has already been consumed");
+    assertion.isSorted();
+  }
+
+}
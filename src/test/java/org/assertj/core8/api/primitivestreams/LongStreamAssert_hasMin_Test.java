@@ -0,0 +1,61 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.primitivestreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+public class LongStreamAssert_hasMin_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_statistics_are_as_expected() {
+    Assertions.assertThat(LongStream.of(5, 1, 9)).hasMin(1);
+    Assertions.assertThat(LongStream.of(5, 1, 9)).hasMax(9);
+    Assertions.assertThat(LongStream.of(5, 1, 9)).hasSum(15);
+    Assertions.assertThat(LongStream.of(5, 1, 9)).hasCount(3);
+  }
+
+  @Test
+  public void should_sum_int_stream_without_overflow() {
+    Assertions.assertThat(IntStream.of(Integer.MAX_VALUE, 1)).hasSum(Integer.MAX_VALUE + 1L);
+  }
+
+  @Test
+  public void should_fail_if_min_is_not_the_expected_one() {
+    try {
+      Assertions.assertThat(LongStream.of(5, 1, 9)).hasMin(5);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream min to be:\n  <5L>\nbut was:\n  <1L>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_stream_is_empty() {
+    try {
+      Assertions.assertThat(LongStream.empty()).hasMin(5);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream min to be:\n  <5L>\nbut stream was empty");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
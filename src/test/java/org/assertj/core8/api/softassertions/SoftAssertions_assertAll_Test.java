@@ -0,0 +1,81 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.softassertions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.api.SoftAssertions;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public class SoftAssertions_assertAll_Test extends DateTimeBaseTest {
+
+  private final LocalDateTime localDateTime = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private final ZonedDateTime zonedDateTime = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+
+  @Test
+  public void should_pass_if_all_assertions_pass() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(zonedDateTime, dateTime -> dateTime.isBefore(zonedDateTime.plusDays(1)))
+          .assertThat(localDateTime, dateTime -> dateTime.isAfter(localDateTime.minusDays(1)))
+          .assertThat(Optional.of("something"), optional -> optional.contains("something"))
+          .assertAll();
+
+    assertThat(softly.failureCount()).isZero();
+  }
+
+  @Test
+  public void should_report_all_failures() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(Optional.empty(), optional -> optional.isPresent())
+          .assertThat(Optional.of("something"), optional -> optional.isPresent())
+          .check(() -> { throw new AssertionError("failure"); });
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage(String.format("%nThe following 2 assertions failed:%n"
+                                             + "1) Expecting Optional to contain a value but was empty.%n"
+                                             + "2) failure"));
+      assertThat(e.getSuppressed()).hasSize(2);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_report_number_of_failures_not_retained() {
+    SoftAssertions softly = new SoftAssertions(1, 0);
+    for (int i = 0; i < 3; i++) {
+      softly.assertThat(Optional.empty(), optional -> optional.isPresent());
+    }
+
+    assertThat(softly.errorsCollected().get(0).getStackTrace()).isEmpty();
+    assertThat(softly.failureCount()).isEqualTo(3);
+    assertThat(softly.droppedErrorCount()).isEqualTo(2);
+    assertThat(softly.errorsCollected()).hasSize(1);
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage(String.format("%nThe following 3 assertions failed:%n"
+                                             + "1) Expecting Optional to contain a value but was empty.%n"
+                                             + "... and 2 more, not retained"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.api.StreamAssert;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_asList_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_buffer_stream_elements_into_a_list() {
+    Assertions.assertThat(Stream.of("a", "b", "a")).asList().containsExactly("a", "b", "a");
+  }
+
+  @Test
+  public void should_throw_error_if_stream_has_more_elements_than_buffer_size() {
+    expectException(IllegalStateException.class,
+                    "The stream has more than the 100 elements that can be buffered, see withMaxBufferedElements(int)");
+    Assertions.assertThat(Stream.iterate(0, i -> i + 1)).withMaxBufferedElements(100).asList();
+  }
+
+  @Test
+  public void should_throw_error_if_stream_has_already_been_consumed() {
+    StreamAssert<Integer> assertion = Assertions.assertThat(Stream.of(1));
+    assertion.hasSize(1);
+    expectException(IllegalStateException.class, "The stream can only be checked once, it has already been consumed");
+    assertion.asList();
+  }
+
+  @Test
+  public void should_throw_error_if_max_buffered_elements_is_not_positive() {
+    expectIllegalArgumentException("The maximum number of buffered elements should be greater than 0 but was: 0");
+    Assertions.assertThat(Stream.of(1)).withMaxBufferedElements(0);
+  }
+
+}
@@ -0,0 +1,53 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_contains_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_contains_given_values_in_any_order() {
+    Assertions.assertThat(Stream.of(1, 2, 3)).contains(3, 1);
+    Assertions.assertThat(Stream.of(1, null)).contains(null, null);
+  }
+
+  @Test
+  public void should_stop_reading_infinite_stream_once_all_values_are_found() {
+    Assertions.assertThat(Stream.iterate(0, i -> i + 1)).contains(5, 2, 8);
+  }
+
+  @Test
+  public void should_fail_reporting_values_not_found() {
+    try {
+      Assertions.assertThat(Stream.of(1, 2, 3)).contains(2, 4, 5, 4);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to contain:\n  <[2, 4, 5, 4]>\nbut could not find:\n  <[4, 5]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_values_are_null() {
+    expectIllegalArgumentException("The values to look for should not be null or empty");
+    Assertions.assertThat(Stream.of(1)).contains((Integer[]) null);
+  }
+
+}
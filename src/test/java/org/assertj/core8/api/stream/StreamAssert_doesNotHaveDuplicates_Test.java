@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_doesNotHaveDuplicates_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_does_not_have_duplicates() {
+    Assertions.assertThat(Stream.of(1, 2, 3, null)).doesNotHaveDuplicates();
+    Assertions.assertThat(Stream.empty()).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_stop_reading_infinite_stream_at_first_duplicate() {
+    try {
+      Assertions.assertThat(Stream.iterate(0, i -> i + 1).map(i -> i % 3)).doesNotHaveDuplicates();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream not to have duplicates but element at index <3>:\n  <0>\n"
+                               + "was already found");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_stream_has_as_many_elements_as_can_be_buffered() {
+    Assertions.assertThat(Stream.of(1, 2, 3)).withMaxBufferedElements(3).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void should_throw_error_if_stream_has_more_elements_than_can_be_buffered() {
+    expectException(IllegalStateException.class,
+                    "The stream has more than the 3 elements that can be buffered, see withMaxBufferedElements(int)");
+    Assertions.assertThat(Stream.iterate(0, i -> i + 1)).withMaxBufferedElements(3).doesNotHaveDuplicates();
+  }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_endsWith_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_ends_with_given_values() {
+    Assertions.assertThat(Stream.of(1, 2, 3, 4, 5)).endsWith(4, 5);
+    Assertions.assertThat(Stream.of(1, 2, null)).endsWith(2, null);
+  }
+
+  @Test
+  public void should_pass_if_stream_has_exactly_given_values() {
+    Assertions.assertThat(Stream.of(1, 2, 3)).endsWith(1, 2, 3);
+  }
+
+  @Test
+  public void should_keep_last_elements_in_order_when_buffer_wraps_around() {
+    // 7 elements in a buffer of 3: the last element read is stored at index 0
+    Assertions.assertThat(Stream.of(1, 2, 3, 4, 5, 6, 7)).endsWith(5, 6, 7);
+  }
+
+  @Test
+  public void should_report_last_elements_if_stream_does_not_end_with_given_values() {
+    try {
+      Assertions.assertThat(Stream.of(1, 2, 3, 4, 5)).endsWith(3, 5);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to end with:\n  <[3, 5]>\nbut its last elements were:\n  <[4, 5]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_report_last_elements_in_order_when_buffer_wraps_around() {
+    try {
+      Assertions.assertThat(Stream.of(1, 2, 3, 4, 5, 6, 7)).endsWith(5, 7, 6);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to end with:\n  <[5, 7, 6]>\n"
+                               + "but its last elements were:\n  <[5, 6, 7]>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_stream_is_shorter_than_expected_values() {
+    try {
+      Assertions.assertThat(Stream.of(2)).endsWith(1, 2);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to end with:\n  <[1, 2]>\nbut stream only had <1> elements");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_values_are_empty() {
+    expectIllegalArgumentException("The values to look for should not be null or empty");
+    Assertions.assertThat(Stream.of(1)).endsWith();
+  }
+
+}
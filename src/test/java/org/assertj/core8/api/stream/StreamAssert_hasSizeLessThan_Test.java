@@ -0,0 +1,42 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_hasSizeLessThan_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_has_less_elements_than_boundary() {
+    Assertions.assertThat(Stream.of(1, 2)).hasSizeLessThan(3);
+    Assertions.assertThat(Stream.empty()).hasSizeLessThan(1);
+  }
+
+  @Test
+  public void should_stop_reading_infinite_stream_at_boundary() {
+    try {
+      Assertions.assertThat(Stream.iterate(0, i -> i + 1)).hasSizeLessThan(10);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to have less than <10> elements but it had at least <10>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
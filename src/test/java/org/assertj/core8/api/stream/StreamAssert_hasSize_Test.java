@@ -0,0 +1,78 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_hasSize_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_has_expected_size() {
+    Assertions.assertThat(Stream.of(1, 2, 3)).hasSize(3);
+    Assertions.assertThat(Stream.empty()).hasSize(0);
+  }
+
+  @Test
+  public void should_fail_if_stream_has_less_elements_than_expected() {
+    try {
+      Assertions.assertThat(Stream.of(1, 2)).hasSize(3);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream count to be:\n  <3L>\nbut was:\n  <2L>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_stop_reading_infinite_stream_after_expected_size() {
+    try {
+      Assertions.assertThat(Stream.iterate(0, i -> i + 1)).hasSize(10);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream count to be:\n  <10L>\nbut stream had more elements");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_expected_size_is_negative() {
+    expectIllegalArgumentException("The expected number of elements should not be negative but was: -1");
+    Assertions.assertThat(Stream.of(1, 2)).hasSize(-1);
+  }
+
+  @Test
+  public void should_close_stream_once_checked() {
+    boolean[] closed = { false };
+    Assertions.assertThat(Stream.of(1, 2).onClose(() -> closed[0] = true)).hasSize(2);
+    assertThat(closed[0]).isTrue();
+  }
+
+  @Test
+  public void should_close_stream_when_check_fails() {
+    boolean[] closed = { false };
+    try {
+      Assertions.assertThat(Stream.of(1, 2).onClose(() -> closed[0] = true)).hasSize(3);
+    } catch (AssertionError e) {
+      assertThat(closed[0]).isTrue();
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,48 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_isEmpty_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_stream_is_empty() {
+    Assertions.assertThat(Stream.empty()).isEmpty();
+  }
+
+  @Test
+  public void should_only_read_first_element_of_infinite_stream() {
+    try {
+      Assertions.assertThat(Stream.iterate("a", s -> s + "a")).isEmpty();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to be empty but its first element was:\n  <\"a\">");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    Assertions.assertThat((Stream<Object>) null).isEmpty();
+  }
+
+}
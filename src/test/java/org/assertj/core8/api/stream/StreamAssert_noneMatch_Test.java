@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_noneMatch_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_pass_if_no_element_matches_predicate() {
+    Assertions.assertThat(Stream.of(1, 3, 5)).noneMatch(i -> i % 2 == 0);
+    Assertions.assertThat(Stream.<Integer> empty()).noneMatch(i -> true);
+  }
+
+  @Test
+  public void should_stop_reading_infinite_stream_at_first_element_matching() {
+    try {
+      Assertions.assertThat(Stream.iterate(0, i -> i + 1)).noneMatch(i -> i > 3);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting no stream element to match given predicate but element at index <4>:\n"
+                               + "  <4>\ndid");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_predicate_is_null() {
+    expectIllegalArgumentException("The predicate to evaluate should not be null");
+    Assertions.assertThat(Stream.of(1)).noneMatch(null);
+  }
+
+}
@@ -0,0 +1,53 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.Assertions;
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+public class StreamAssert_startsWith_Test extends DateTimeBaseTest {
+
+  @Test
+  public void should_only_read_first_elements_of_infinite_stream() {
+    Assertions.assertThat(Stream.iterate(0, i -> i + 1)).startsWith(0, 1, 2);
+  }
+
+  @Test
+  public void should_fail_on_first_element_not_equal_to_expected_one() {
+    try {
+      Assertions.assertThat(Stream.iterate(0, i -> i + 1)).startsWith(0, 2);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to start with:\n  <[0, 2]>\nbut element at index <1> was:\n  <1>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_stream_is_shorter_than_expected_values() {
+    try {
+      Assertions.assertThat(Stream.of("a")).startsWith("a", "b");
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting stream to start with:\n  <[\"a\", \"b\"]>\n"
+                               + "but stream only had <1> elements");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
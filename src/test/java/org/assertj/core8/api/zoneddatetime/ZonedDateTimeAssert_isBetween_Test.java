@@ -0,0 +1,127 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import org.assertj.core8.data.ZonedDateTimeInterval;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for {@link org.assertj.core8.api.ZonedDateTimeAssert#isBetween(ZonedDateTime, ZonedDateTime)},
+ * {@link org.assertj.core8.api.ZonedDateTimeAssert#isStrictlyBetween(ZonedDateTime, ZonedDateTime)} and their
+ * {@link ZonedDateTimeInterval} variants.
+ */
+public class ZonedDateTimeAssert_isBetween_Test extends ZonedDateTimeAssertBaseTest {
+
+  private final ZonedDateTime start = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+  private final ZonedDateTime end = start.plusDays(1);
+
+  @Test
+  public void should_pass_if_actual_is_between_bounds_whatever_their_zone() {
+    ZonedDateTime startInBerlin = start.withZoneSameInstant(ZoneId.of("Europe/Berlin"));
+    assertThat(start).isBetween(startInBerlin, end)
+                     .isBetween(ZonedDateTimeInterval.halfOpen(startInBerlin, end));
+    assertThat(end).isBetween(start, end)
+                   .isBetween(ZonedDateTimeInterval.closed(start, end));
+    assertThat(start.plusNanos(1)).isStrictlyBetween(startInBerlin, end)
+                                  .isStrictlyBetween(ZonedDateTimeInterval.closed(start, end));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_after_end() {
+    try {
+      assertThat(end.plusNanos(1)).isBetween(start, end);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n  <2013-06-11T00:00:00.000000001Z>\n"
+                               + "to be in interval:\n  [2013-06-10T00:00Z, 2013-06-11T00:00Z]\nbut was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_start_and_bounds_are_excluded() {
+    try {
+      assertThat(start).isStrictlyBetween(start, end);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n  <2013-06-10T00:00Z>\n"
+                               + "to be in interval:\n  ]2013-06-10T00:00Z, 2013-06-11T00:00Z[\nbut was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_excluded_end_of_interval() {
+    try {
+      assertThat(end).isBetween(ZonedDateTimeInterval.halfOpen(start, end));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n  <2013-06-11T00:00Z>\n"
+                               + "to be in interval:\n  [2013-06-10T00:00Z, 2013-06-11T00:00Z[\nbut was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_bound_of_interval_when_strictly_between_is_expected() {
+    try {
+      assertThat(end).isStrictlyBetween(ZonedDateTimeInterval.closed(start, end));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n  <2013-06-11T00:00Z>\n"
+                               + "to be in interval:\n  ]2013-06-10T00:00Z, 2013-06-11T00:00Z[\nbut was not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    ZonedDateTime actual = null;
+    assertThat(actual).isBetween(start, end);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_before_start() {
+    expectIllegalArgumentException("The end of the interval should not be before its start");
+    assertThat(start).isStrictlyBetween(end, start);
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException("The start of the interval should not be null");
+    assertThat(start).isBetween(null, end);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null_whatever_the_interval() {
+    expectException(AssertionError.class, actualIsNull());
+    ZonedDateTime actual = null;
+    assertThat(actual).isBetween((ZonedDateTimeInterval) null);
+  }
+
+  @Test
+  public void should_throw_error_if_interval_is_null() {
+    expectIllegalArgumentException("The given ZonedDateTimeInterval should not be null");
+    assertThat(start).isBetween((ZonedDateTimeInterval) null);
+  }
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for {@link org.assertj.core8.api.ZonedDateTimeAssert#isCloseTo(ZonedDateTime, Duration)}.
+ */
+public class ZonedDateTimeAssert_isCloseTo_Test extends ZonedDateTimeAssertBaseTest {
+
+  private final ZonedDateTime utcDateTime = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+  private final Duration fiftyMillis = Duration.ofMillis(50);
+
+  @Test
+  public void should_pass_if_actual_is_within_tolerance_of_other_whatever_their_zone() {
+    ZonedDateTime berlinDateTime = utcDateTime.withZoneSameInstant(ZoneId.of("Europe/Berlin"));
+    assertThat(utcDateTime).isCloseTo(berlinDateTime, Duration.ZERO)
+                           .isCloseTo(berlinDateTime.plusNanos(50_000_000), fiftyMillis)
+                           .isCloseTo(berlinDateTime.minusNanos(50_000_000), fiftyMillis);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_within_tolerance_of_other() {
+    try {
+      assertThat(utcDateTime).isCloseTo(utcDateTime.plusNanos(50_000_001), fiftyMillis);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).isEqualTo("\nExpecting:\n  <2013-06-10T00:00Z>\n"
+                                           + "to be close to:\n  <2013-06-10T00:00:00.050000001Z>\n"
+                                           + "within <PT0.05S> but difference was <PT0.050000001S>.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    ZonedDateTime actual = null;
+    assertThat(actual).isCloseTo(utcDateTime, fiftyMillis);
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(utcDateTime).isCloseTo(null, fiftyMillis);
+  }
+
+  @Test
+  public void should_throw_error_if_given_tolerance_is_negative() {
+    expectIllegalArgumentException("The tolerance should not be negative");
+    assertThat(utcDateTime).isCloseTo(utcDateTime, Duration.ofNanos(-1));
+  }
+
+}
@@ -21,11 +21,14 @@ import static java.time.ZoneOffset.UTC;
 import org.assertj.core8.api.DateTimeBaseTest;
 import org.junit.Test;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 
 public class ZonedDateTimeAssert_isEqualToIgnoringSeconds_Test extends DateTimeBaseTest {
 
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
   private final ZonedDateTime refDatetime = ZonedDateTime.of(2000, 1, 1, 23, 51, 0, 0, UTC);
 
   @Test
@@ -33,6 +36,20 @@ public class ZonedDateTimeAssert_isEqualToIgnoringSeconds_Test extends DateTimeB
     assertThat(refDatetime).isEqualToIgnoringSeconds(refDatetime.plusSeconds(1));
   }
 
+  @Test
+  public void should_compare_datetimes_in_actual_timezone_around_dst_transition() {
+    // 2013-10-27T03:00 CEST -> 02:00 CET in Paris: 00:30Z and 01:30Z are both 02:30 in Paris
+    ZonedDateTime parisDateTime = ZonedDateTime.of(2013, 10, 27, 0, 30, 0, 0, UTC).withZoneSameInstant(PARIS);
+    assertThat(parisDateTime).isEqualToIgnoringSeconds(ZonedDateTime.of(2013, 10, 27, 0, 30, 59, 0, UTC))
+                             .isEqualToIgnoringSeconds(ZonedDateTime.of(2013, 10, 27, 1, 30, 59, 0, UTC));
+    try {
+      assertThat(parisDateTime).isEqualToIgnoringSeconds(ZonedDateTime.of(2013, 10, 27, 1, 31, 0, 0, UTC));
+    } catch (AssertionError e) {
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   @Test
   public void should_fail_if_actual_is_not_equal_to_given_datetime_with_second_ignored() {
     try {
@@ -0,0 +1,72 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetime;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+
+public class ZonedDateTimeAssert_isEqualToTruncatedTo_Test extends DateTimeBaseTest {
+
+  private final ZonedDateTime refDatetime = ZonedDateTime.of(2000, 1, 1, 0, 30, 0, 123_456_789, UTC);
+
+  @Test
+  public void should_pass_if_actual_is_equal_to_other_once_both_truncated_to_given_unit() {
+    assertThat(refDatetime).isEqualToTruncatedTo(refDatetime.withNano(123_456_000), MICROS)
+                           .isEqualToTruncatedTo(refDatetime.withDayOfMonth(31), MONTHS)
+                           .isEqualToTruncatedTo(refDatetime.withMonth(12), YEARS);
+  }
+
+  @Test
+  public void should_compare_fields_in_actual_timezone() {
+    // 2000-01-01T00:30Z is 1999-12-31T19:30 in New York
+    ZonedDateTime newYorkDateTime = refDatetime.withZoneSameInstant(ZoneId.of("America/New_York"));
+    assertThat(refDatetime).isEqualToTruncatedTo(newYorkDateTime, YEARS);
+    try {
+      assertThat(newYorkDateTime).isEqualToTruncatedTo(ZonedDateTime.of(2000, 1, 1, 5, 0, 0, 0, UTC), YEARS);
+    } catch (AssertionError e) {
+      assertThat(e.getMessage())
+          .isEqualTo(
+              "\nExpecting:\n  <1999-12-31T19:30:00.123456789-05:00[America/New_York]>\nto have same year as:\n  <2000-01-01T05:00Z>\nbut had not.");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    ZonedDateTime actual = null;
+    assertThat(actual).isEqualToTruncatedTo(ZonedDateTime.now(), DAYS);
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThat(refDatetime).isEqualToTruncatedTo(null, DAYS);
+  }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import org.assertj.core8.data.ZonedDateTimeSet;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for {@link org.assertj.core8.api.ZonedDateTimeAssert#isIn(ZonedDateTimeSet)} and
+ * {@link org.assertj.core8.api.ZonedDateTimeAssert#isNotIn(ZonedDateTimeSet)}.
+ */
+public class ZonedDateTimeAssert_isIn_ZonedDateTimeSet_Test extends ZonedDateTimeAssertBaseTest {
+
+  private final ZonedDateTime utcDateTime = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+  private final ZonedDateTimeSet expected = ZonedDateTimeSet.of(ZonedDateTime.of(2013, 6, 10, 2, 0, 0, 0,
+                                                                                 ZoneId.of("Europe/Berlin")),
+                                                                utcDateTime.plusDays(1));
+
+  @Test
+  public void should_compare_datetimes_in_actual_timezone() {
+    // 2013-06-10T02:00+02:00[Europe/Berlin] and utcDateTime are equal in same timezone
+    assertThat(utcDateTime).isIn(expected);
+    assertThat(utcDateTime.plusNanos(1)).isNotIn(expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_set() {
+    try {
+      assertThat(utcDateTime.plusHours(1)).isIn(expected);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T01:00Z>\n"
+                               + "to be in:\n <[2013-06-10T02:00+02:00[Europe/Berlin], 2013-06-11T00:00Z]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_set() {
+    try {
+      assertThat(utcDateTime).isNotIn(expected);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "not to be in:\n <[2013-06-10T02:00+02:00[Europe/Berlin], 2013-06-11T00:00Z]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    ZonedDateTime actual = null;
+    assertThat(actual).isIn(expected);
+  }
+
+  @Test
+  public void should_fail_if_set_parameter_is_null() {
+    expectException(IllegalArgumentException.class, "The given ZonedDateTimeSet should not be null");
+    assertThat(utcDateTime).isNotIn((ZonedDateTimeSet) null);
+  }
+
+  @Test
+  public void should_fail_if_set_parameter_is_empty() {
+    expectException(IllegalArgumentException.class, "The given ZonedDateTimeSet should not be empty");
+    assertThat(utcDateTime).isIn(ZonedDateTimeSet.of());
+  }
+
+}
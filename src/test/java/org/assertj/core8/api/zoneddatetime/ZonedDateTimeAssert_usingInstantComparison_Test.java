@@ -0,0 +1,114 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for {@link org.assertj.core8.api.ZonedDateTimeAssert#usingInstantComparison()}.
+ */
+public class ZonedDateTimeAssert_usingInstantComparison_Test extends ZonedDateTimeAssertBaseTest {
+
+  private final ZonedDateTime utcDateTime = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+  // same instant as utcDateTime
+  private final ZonedDateTime berlinDateTime = ZonedDateTime.of(2013, 6, 10, 2, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+
+  @Test
+  public void should_compare_datetimes_by_instant() {
+    assertThat(utcDateTime).usingInstantComparison().isEqualTo(berlinDateTime)
+                           .isNotEqualTo(berlinDateTime.plusNanos(1))
+                           .isIn(berlinDateTime.minusNanos(1), null, berlinDateTime)
+                           .isNotIn(berlinDateTime.minusNanos(1), berlinDateTime.plusNanos(1));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_equal_to_expected_and_report_expected_in_actual_timezone() {
+    try {
+      assertThat(ZonedDateTime.of(2000, 1, 5, 3, 0, 5, 0, UTC)).usingInstantComparison()
+                                                                .isEqualTo(ZonedDateTime.of(2012, 1, 1, 4, 3, 3, 0,
+                                                                                            ZoneId.of("Europe/Paris")));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("expected:<20[12-01-01T03:03:03]Z> but was:<20[00-01-05T03:00:05]Z>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_equal_to_expected() {
+    try {
+      assertThat(utcDateTime).usingInstantComparison().isNotEqualTo(berlinDateTime);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "not to be equal to:\n <2013-06-10T02:00+02:00[Europe/Berlin]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_in_expected_values() {
+    try {
+      assertThat(utcDateTime).usingInstantComparison().isIn(berlinDateTime.plusNanos(1));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "to be in:\n <[2013-06-10T00:00:00.000000001Z]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_report_null_expected_values_as_is() {
+    try {
+      assertThat(utcDateTime).usingInstantComparison().isIn(berlinDateTime.plusNanos(1), null);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "to be in:\n <[2013-06-10T00:00:00.000000001Z, null]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_in_expected_values() {
+    try {
+      assertThat(utcDateTime).usingInstantComparison().isNotIn(utcDateTime.plusDays(1), berlinDateTime);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "not to be in:\n <[2013-06-11T00:00Z, 2013-06-10T00:00Z]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_compare_datetimes_in_actual_timezone_again_after_usingDefaultComparator() {
+    try {
+      assertThat(utcDateTime).usingInstantComparison().usingDefaultComparator().isNotIn(berlinDateTime);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting:\n <2013-06-10T00:00Z>\n"
+                               + "not to be in:\n <[2013-06-10T00:00Z]>\n");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimes;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimes;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+public class ZonedDateTimesAssert_areAllAfter_Test extends DateTimeBaseTest {
+
+  private final ZonedDateTime reference = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_after_given_datetime() {
+    assertThatZonedDateTimes(reference.plusDays(1), reference.plusNanos(1)).areAllAfter(reference);
+    assertThatZonedDateTimes(Arrays.asList(reference.plusDays(1), reference.plusNanos(1))).areAllAfter(reference);
+  }
+
+  @Test
+  public void should_report_all_elements_not_after_given_datetime() {
+    try {
+      assertThatZonedDateTimes(reference.plusDays(1), reference, reference.minusDays(1)).areAllAfter(reference);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <3> elements to be strictly after:\n  <2000-01-01T00:00Z>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{1=2000-01-01T00:00Z, 2=1999-12-31T00:00Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatZonedDateTimes((Iterable<ZonedDateTime>) null).areAllAfter(reference);
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatZonedDateTimes(reference).areAllAfter(null);
+  }
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimes;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimes;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+public class ZonedDateTimesAssert_areAllBefore_Test extends DateTimeBaseTest {
+
+  private final ZonedDateTime reference = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_before_given_datetime() {
+    assertThatZonedDateTimes(reference.minusDays(1), reference.minusNanos(1)).areAllBefore(reference);
+    assertThatZonedDateTimes(Arrays.asList(reference.minusDays(1), reference.minusNanos(1))).areAllBefore(reference);
+    assertThatZonedDateTimes().areAllBefore(reference);
+  }
+
+  @Test
+  public void should_report_all_elements_not_before_given_datetime() {
+    try {
+      assertThatZonedDateTimes(reference, reference.minusDays(1), null, reference.plusDays(1)).areAllBefore(reference);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <4> elements to be strictly before:\n  <2000-01-01T00:00Z>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=2000-01-01T00:00Z, 2=null, 3=2000-01-02T00:00Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    expectException(AssertionError.class, actualIsNull());
+    assertThatZonedDateTimes((ZonedDateTime[]) null).areAllBefore(reference);
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatZonedDateTimes(reference).areAllBefore(null);
+  }
+
+}
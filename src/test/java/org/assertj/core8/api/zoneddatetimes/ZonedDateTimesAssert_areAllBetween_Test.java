@@ -0,0 +1,61 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimes;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimes;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+
+public class ZonedDateTimesAssert_areAllBetween_Test extends DateTimeBaseTest {
+
+  private final ZonedDateTime start = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, UTC);
+  private final ZonedDateTime end = start.plusHours(1);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_in_range_bounds_included() {
+    assertThatZonedDateTimes(start, start.plusMinutes(30), end).areAllBetween(start, end);
+  }
+
+  @Test
+  public void should_report_all_elements_out_of_range() {
+    try {
+      assertThatZonedDateTimes(start.minusNanos(1), start, end.plusNanos(1)).areAllBetween(start, end);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <3> elements to be in range:\n"
+                               + "  [<2000-01-01T00:00Z>, <2000-01-01T01:00Z>]\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=1999-12-31T23:59:59.999999999Z, 2=2000-01-01T01:00:00.000000001Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_start_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatZonedDateTimes(start).areAllBetween(null, end);
+  }
+
+  @Test
+  public void should_throw_error_if_end_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatZonedDateTimes(start).areAllBetween(start, null);
+  }
+
+}
@@ -0,0 +1,65 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimes;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimes;
+import static org.assertj.core8.api.ZonedDateTimeAssert.NULL_DATE_TIME_PARAMETER_MESSAGE;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+public class ZonedDateTimesAssert_areAllEqualToIgnoringSeconds_Test extends DateTimeBaseTest {
+
+  private final ZonedDateTime reference = ZonedDateTime.of(2000, 1, 1, 23, 50, 0, 0, UTC);
+
+  @Test
+  public void should_pass_if_all_actual_elements_are_equal_to_given_datetime_ignoring_seconds() {
+    assertThatZonedDateTimes(reference, reference.plusSeconds(59), reference.plusNanos(1))
+        .areAllEqualToIgnoringSeconds(reference.plusSeconds(10));
+  }
+
+  @Test
+  public void should_compare_given_datetime_in_each_element_timezone() {
+    ZonedDateTime inTokyo = reference.withZoneSameInstant(ZoneId.of("Asia/Tokyo"));
+    ZonedDateTime inKolkata = reference.withZoneSameInstant(ZoneId.of("Asia/Kolkata"));
+    assertThatZonedDateTimes(Arrays.asList(inTokyo, reference, inKolkata, inTokyo)).areAllEqualToIgnoringSeconds(reference);
+  }
+
+  @Test
+  public void should_report_all_elements_not_equal_to_given_datetime_ignoring_seconds() {
+    try {
+      assertThatZonedDateTimes(reference.minusNanos(1), reference, reference.plusMinutes(1))
+          .areAllEqualToIgnoringSeconds(reference);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting all of the <3> elements to have same year, month, day, hour and minute as:\n"
+                               + "  <2000-01-01T23:50Z>\n"
+                               + "but these elements were not (index=element):\n"
+                               + "  <{0=2000-01-01T23:49:59.999999999Z, 2=2000-01-01T23:51Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_given_datetime_is_null() {
+    expectIllegalArgumentException(NULL_DATE_TIME_PARAMETER_MESSAGE);
+    assertThatZonedDateTimes(reference).areAllEqualToIgnoringSeconds(null);
+  }
+
+}
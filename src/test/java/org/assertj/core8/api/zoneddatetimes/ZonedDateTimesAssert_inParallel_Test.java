@@ -0,0 +1,67 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimes;
+import static org.assertj.core8.internal.BulkChecks.PARALLEL_THRESHOLD;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+public class ZonedDateTimesAssert_inParallel_Test extends DateTimeBaseTest {
+
+  private static final ZonedDateTime START = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+
+  @Test
+  public void should_pass_if_all_date_times_satisfy_assertion() {
+    ZonedDateTime[] dateTimes = dateTimes(PARALLEL_THRESHOLD * 4);
+    ZonedDateTime startInTokyo = START.withZoneSameInstant(ZoneId.of("Asia/Tokyo"));
+    assertThatZonedDateTimes(dateTimes).inParallel()
+                                       .areAllBetween(START, START.plusSeconds(59))
+                                       .areAllEqualToIgnoringSeconds(startInTokyo);
+  }
+
+  @Test
+  public void should_report_same_offenders_as_sequential_check() {
+    ZonedDateTime[] dateTimes = dateTimes(PARALLEL_THRESHOLD * 4);
+    dateTimes[3] = null;
+    dateTimes[dateTimes.length - 1] = START.plusMinutes(1);
+    String sequentialMessage = null;
+    try {
+      assertThatZonedDateTimes(dateTimes).areAllEqualToIgnoringSeconds(START);
+    } catch (AssertionError e) {
+      sequentialMessage = e.getMessage();
+    }
+    try {
+      assertThatZonedDateTimes(dateTimes).inParallel().areAllEqualToIgnoringSeconds(START);
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage(sequentialMessage);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static ZonedDateTime[] dateTimes(int size) {
+    ZoneId[] zones = { ZoneId.of("UTC"), ZoneId.of("Europe/Paris"), ZoneId.of("America/New_York") };
+    ZonedDateTime[] dateTimes = new ZonedDateTime[size];
+    for (int i = 0; i < size; i++) {
+      dateTimes[i] = START.plusSeconds(i % 60).withZoneSameInstant(zones[i % zones.length]);
+    }
+    return dateTimes;
+  }
+
+}
@@ -0,0 +1,127 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.api.zoneddatetimesequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.api.Assertions.assertThatZonedDateTimeSequence;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.assertj.core8.api.ZonedDateTimeSequenceAssert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public class ZonedDateTimeSequenceAssert_isInChronologicalOrder_Test extends DateTimeBaseTest {
+
+  private static final ZonedDateTime START = ZonedDateTime.parse("2000-01-01T00:00Z");
+
+  @Test
+  public void should_pass_if_date_times_are_in_chronological_order() {
+    assertThatZonedDateTimeSequence(Stream.of(START, START, START.plusNanos(1))).isInChronologicalOrder();
+    assertThatZonedDateTimeSequence(Stream.<ZonedDateTime> empty()).isInStrictChronologicalOrder();
+  }
+
+  @Test
+  public void should_compare_date_times_as_instants() {
+    ZonedDateTime inParis = START.withZoneSameInstant(ZoneId.of("Europe/Paris"));
+    assertThatZonedDateTimeSequence(Stream.of(START, inParis.plusNanos(1))).isInStrictChronologicalOrder();
+  }
+
+  @Test
+  public void should_pass_on_a_long_sequence_without_keeping_it_in_memory() {
+    assertThatZonedDateTimeSequence(Stream.iterate(START, dateTime -> dateTime.plusSeconds(1)).limit(1_000_000))
+        .isInStrictChronologicalOrder(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void should_fail_on_first_element_before_its_predecessor_and_report_its_neighbourhood() {
+    Iterator<ZonedDateTime> dateTimes = Arrays.asList(START, START.plusHours(1), START.minusSeconds(1),
+                                                      START.plusDays(1), START, START).iterator();
+    try {
+      assertThatZonedDateTimeSequence(dateTimes).isInChronologicalOrder();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting date-times to be in chronological order\n"
+                               + "but element at index <2>:\n  <1999-12-31T23:59:59Z>\n"
+                               + "was before previous element:\n  <2000-01-01T01:00Z>\n"
+                               + "neighbourhood (index=element):\n"
+                               + "  <{1=2000-01-01T01:00Z, 2=1999-12-31T23:59:59Z, 3=2000-01-02T00:00Z}>");
+      assertThat(dateTimes.next()).isEqualTo(START);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_on_duplicates_in_strict_mode() {
+    try {
+      assertThatZonedDateTimeSequence(Stream.of(START, START)).isInStrictChronologicalOrder();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting date-times to be in strict chronological order\n"
+                               + "but element at index <1>:\n  <2000-01-01T00:00Z>\n"
+                               + "was not after previous element:\n  <2000-01-01T00:00Z>\n"
+                               + "neighbourhood (index=element):\n  <{0=2000-01-01T00:00Z, 1=2000-01-01T00:00Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_gap_is_greater_than_given_one() {
+    try {
+      assertThatZonedDateTimeSequence(Stream.of(START, START.plusNanos(1_500_000_001)))
+          .isInChronologicalOrder(Duration.ofMillis(1500));
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting consecutive date-times to be at most <PT1.5S> apart\n"
+                               + "but element at index <1>:\n  <2000-01-01T00:00:01.500000001Z>\n"
+                               + "was <PT1.500000001S> after previous element:\n  <2000-01-01T00:00Z>\n"
+                               + "neighbourhood (index=element):\n"
+                               + "  <{0=2000-01-01T00:00Z, 1=2000-01-01T00:00:01.500000001Z}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_an_element_is_null() {
+    try {
+      assertThatZonedDateTimeSequence(Stream.of(START, null)).isInChronologicalOrder();
+    } catch (AssertionError e) {
+      assertThat(e).hasMessage("\nExpecting date-times to be in chronological order\n"
+                               + "but element at index <1> was null\n"
+                               + "neighbourhood (index=element):\n  <{0=2000-01-01T00:00Z, 1=null}>");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_sequence_has_already_been_consumed() {
+    ZonedDateTimeSequenceAssert assertion = assertThatZonedDateTimeSequence(Stream.of(START));
+    assertion.isInChronologicalOrder();
+    expectException(IllegalStateException.class,
+                    "The date-time sequence can only be checked once, it has already been consumed");
+    assertion.isInChronologicalOrder();
+  }
+
+  @Test
+  public void should_throw_error_if_max_gap_is_negative() {
+    expectIllegalArgumentException("The maximum gap between date-times should not be null or negative");
+    assertThatZonedDateTimeSequence(Stream.of(START)).isInChronologicalOrder(Duration.ofSeconds(-1));
+  }
+
+}
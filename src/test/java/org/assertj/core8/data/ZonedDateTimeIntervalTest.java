@@ -0,0 +1,94 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Tests for <code>{@link ZonedDateTimeInterval}</code>.
+ */
+public class ZonedDateTimeIntervalTest extends DateTimeBaseTest {
+
+  private final ZonedDateTime start = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+  private final ZonedDateTime end = start.plusDays(1);
+
+  @Test
+  public void should_contain_datetimes_between_bounds_whatever_their_zone() {
+    ZonedDateTimeInterval interval = ZonedDateTimeInterval.closed(start, end);
+    assertThat(interval.contains(start.withZoneSameInstant(ZoneId.of("Asia/Tokyo")))).isTrue();
+    assertThat(interval.contains(start.withZoneSameLocal(ZoneId.of("Asia/Tokyo")))).isFalse();
+    assertThat(interval.contains(end)).isTrue();
+    assertThat(interval.contains(start.minusNanos(1))).isFalse();
+    assertThat(interval.contains(end.plusNanos(1))).isFalse();
+    assertThat(interval.contains(null)).isFalse();
+  }
+
+  @Test
+  public void should_include_bounds_depending_on_interval_type() {
+    ZonedDateTimeInterval halfOpen = ZonedDateTimeInterval.halfOpen(start, end);
+    assertThat(halfOpen.contains(start)).isTrue();
+    assertThat(halfOpen.contains(end.minusNanos(1))).isTrue();
+    assertThat(halfOpen.contains(end)).isFalse();
+    ZonedDateTimeInterval open = ZonedDateTimeInterval.open(start, end);
+    assertThat(open.contains(start)).isFalse();
+    assertThat(open.contains(start.plusNanos(1))).isTrue();
+    assertThat(open.contains(end)).isFalse();
+  }
+
+  @Test
+  public void should_exclude_both_bounds_when_checking_datetimes_are_strictly_in_interval() {
+    ZonedDateTimeInterval interval = ZonedDateTimeInterval.closed(start, end);
+    assertThat(interval.containsStrictly(start)).isFalse();
+    assertThat(interval.containsStrictly(end)).isFalse();
+    assertThat(interval.containsStrictly(end.minusNanos(1))).isTrue();
+  }
+
+  @Test
+  public void should_allow_empty_interval() {
+    assertThat(ZonedDateTimeInterval.closed(start, start).contains(start)).isTrue();
+    assertThat(ZonedDateTimeInterval.halfOpen(start, start).contains(start)).isFalse();
+  }
+
+  @Test
+  public void should_show_included_and_excluded_bounds() {
+    assertThat(ZonedDateTimeInterval.closed(start, end)).hasToString("[2013-06-10T00:00Z, 2013-06-11T00:00Z]");
+    assertThat(ZonedDateTimeInterval.halfOpen(start, end)).hasToString("[2013-06-10T00:00Z, 2013-06-11T00:00Z[");
+    assertThat(ZonedDateTimeInterval.open(start, end)).hasToString("]2013-06-10T00:00Z, 2013-06-11T00:00Z[");
+  }
+
+  @Test
+  public void should_fail_if_end_is_before_start() {
+    expectIllegalArgumentException("The end of the interval should not be before its start");
+    ZonedDateTimeInterval.closed(end, start);
+  }
+
+  @Test
+  public void should_fail_if_start_is_null() {
+    expectIllegalArgumentException("The start of the interval should not be null");
+    ZonedDateTimeInterval.halfOpen(null, end);
+  }
+
+  @Test
+  public void should_fail_if_end_is_null() {
+    expectIllegalArgumentException("The end of the interval should not be null");
+    ZonedDateTimeInterval.open(start, null);
+  }
+
+}
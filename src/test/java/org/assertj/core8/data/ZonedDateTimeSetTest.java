@@ -0,0 +1,88 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.data;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for <code>{@link ZonedDateTimeSet}</code>.
+ */
+public class ZonedDateTimeSetTest extends DateTimeBaseTest {
+
+  private final ZonedDateTime utcDateTime = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC);
+
+  @Test
+  public void should_contain_datetimes_representing_same_instant_whatever_their_zone() {
+    ZonedDateTimeSet set = ZonedDateTimeSet.of(utcDateTime);
+    assertThat(set.contains(utcDateTime.withZoneSameInstant(ZoneId.of("Asia/Tokyo")))).isTrue();
+    assertThat(set.contains(utcDateTime.withZoneSameLocal(ZoneId.of("Asia/Tokyo")))).isFalse();
+    assertThat(set.contains(utcDateTime.plusNanos(1))).isFalse();
+    assertThat(set.contains(null)).isFalse();
+  }
+
+  @Test
+  public void should_keep_first_of_datetimes_representing_same_instant() {
+    ZonedDateTime parisDateTime = utcDateTime.withZoneSameInstant(ZoneId.of("Europe/Paris"));
+    ZonedDateTimeSet set = ZonedDateTimeSet.of(asList(utcDateTime, utcDateTime.plusDays(1), parisDateTime));
+    assertThat(set.size()).isEqualTo(2);
+    assertThat(set.values()).containsExactly(utcDateTime, utcDateTime.plusDays(1));
+  }
+
+  @Test
+  public void should_index_large_number_of_datetimes() {
+    List<ZonedDateTime> dateTimes = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      dateTimes.add(utcDateTime.plusSeconds(2 * i));
+    }
+    ZonedDateTimeSet set = ZonedDateTimeSet.of(dateTimes);
+    assertThat(set.size()).isEqualTo(100_000);
+    for (int i = 0; i < 200_000; i++) {
+      assertThat(set.contains(utcDateTime.plusSeconds(i))).isEqualTo(i % 2 == 0);
+    }
+  }
+
+  @Test
+  public void should_describe_all_values_of_small_set() {
+    assertThat(ZonedDateTimeSet.of(utcDateTime, utcDateTime.plusDays(1)).toString())
+        .isEqualTo("[2013-06-10T00:00Z, 2013-06-11T00:00Z]");
+  }
+
+  @Test
+  public void should_describe_first_values_and_size_of_large_set() {
+    List<ZonedDateTime> dateTimes = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      dateTimes.add(utcDateTime.plusMinutes(i));
+    }
+    assertThat(ZonedDateTimeSet.of(dateTimes).toString())
+        .isEqualTo("[2013-06-10T00:00Z, 2013-06-10T00:01Z, 2013-06-10T00:02Z, 2013-06-10T00:03Z, 2013-06-10T00:04Z, "
+                   + "2013-06-10T00:05Z, 2013-06-10T00:06Z, 2013-06-10T00:07Z, 2013-06-10T00:08Z, 2013-06-10T00:09Z, "
+                   + "...] (1000 values)");
+  }
+
+  @Test
+  public void should_fail_if_datetimes_contain_null() {
+    expectIllegalArgumentException("A ZonedDateTimeSet should not contain null elements");
+    ZonedDateTimeSet.of(utcDateTime, null);
+  }
+
+}
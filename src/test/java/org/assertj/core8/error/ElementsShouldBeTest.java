@@ -0,0 +1,39 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.ElementsShouldBe.elementsShouldBeBetween;
+
+public class ElementsShouldBeTest {
+
+  @Test
+  public void should_create_error_message_reporting_offending_elements_by_index() throws Exception {
+    LocalDateTime start = LocalDateTime.of(2000, 1, 1, 0, 0);
+    LocalDateTime end = LocalDateTime.of(2000, 1, 2, 0, 0);
+    Map<Integer, LocalDateTime> offenders = new LinkedHashMap<>();
+    offenders.put(3, end.plusDays(1));
+    offenders.put(7, null);
+
+    assertThat(elementsShouldBeBetween(10, start, end, offenders))
+        .buildErrorMessageEqualsTo("%nExpecting all of the <10> elements to be in range:%n  [<%s>, <%s>]%n"
+                                   + "but these elements were not (index=element):%n  <{3=2000-01-03T00:00, 7=null}>",
+                                   start, end);
+  }
+}
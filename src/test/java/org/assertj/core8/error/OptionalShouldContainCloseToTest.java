@@ -0,0 +1,32 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.util.OptionalDouble;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldContainCloseTo.shouldContainCloseTo;
+
+public class OptionalShouldContainCloseToTest {
+
+  @Test
+  public void should_create_error_message() throws Exception {
+    OptionalDouble actual = OptionalDouble.of(1.0);
+
+    assertThat(shouldContainCloseTo(actual, 1.5, 0.1))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contain a value close to:%n  <1.5>%nwithin offset:%n  <0.1>%nbut was not.",
+                                   actual);
+  }
+}
@@ -14,10 +14,15 @@ package org.assertj.core8.error;
 
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static org.assertj.core8.AssertJAssertions.assertThat;
 import static org.assertj.core8.error.OptionalShouldContain.shouldContain;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainAnyOf;
+import static org.assertj.core8.error.OptionalShouldContain.shouldContainValueWithKey;
 
 public class OptionalShouldContainTest {
 
@@ -34,4 +39,34 @@ public class OptionalShouldContainTest {
     assertThat(shouldContain(actual, 10))
         .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contains:%n  <10>%nbut was not.", actual);
   }
+
+  @Test
+  public void should_create_error_message_with_key() throws Exception {
+    Optional<String> actual = Optional.of("something");
+
+    assertThat(shouldContainValueWithKey(actual, 3, 9))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contain a value with key:%n  <3>%nbut key was:%n  <9>.",
+                                   actual);
+  }
+
+  @Test
+  public void should_create_error_message_with_expected_values() throws Exception {
+    Optional<Integer> actual = Optional.of(20);
+
+    assertThat(shouldContainAnyOf(actual, Collections.singleton(10)))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contain any of:%n  <[10]>%nbut did not.", actual);
+  }
+
+  @Test
+  public void should_create_error_message_with_size_and_first_values_of_large_set() throws Exception {
+    Optional<Integer> actual = Optional.of(-1);
+    Set<Integer> expectedValues = new TreeSet<>();
+    for (int i = 0; i < 1000; i++) {
+      expectedValues.add(i);
+    }
+
+    assertThat(shouldContainAnyOf(actual, expectedValues))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contain any of <1000> values including:%n"
+                                   + "  <[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]>%nbut did not.", actual);
+  }
 }
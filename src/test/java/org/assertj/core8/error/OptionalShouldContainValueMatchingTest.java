@@ -0,0 +1,32 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.util.OptionalInt;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.OptionalShouldContainValueMatching.shouldContainValueMatching;
+
+public class OptionalShouldContainValueMatchingTest {
+
+  @Test
+  public void should_create_error_message() throws Exception {
+    OptionalInt actual = OptionalInt.of(10);
+
+    assertThat(shouldContainValueMatching(actual))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto contain a value matching given predicate but it did not.",
+                                   actual);
+  }
+}
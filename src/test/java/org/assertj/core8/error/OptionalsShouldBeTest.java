@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.OptionalsShouldBe.optionalsShouldBePresent;
+import static org.assertj.core8.error.OptionalsShouldBe.optionalsShouldContain;
+
+public class OptionalsShouldBeTest {
+
+  @Test
+  public void should_create_error_message_reporting_empty_optionals_indices() throws Exception {
+    Map<Integer, Optional<String>> offenders = new LinkedHashMap<>();
+    offenders.put(3, Optional.empty());
+    offenders.put(7, null);
+
+    assertThat(optionalsShouldBePresent(10, 8, offenders))
+        .buildErrorMessageEqualsTo("%nExpecting all of the <10> Optionals to contain a value%n"
+                                   + "but <8> were present and these <2> were not, at indices:%n  <[3, 7]>");
+  }
+
+  @Test
+  public void should_create_error_message_reporting_offending_optionals_by_index() throws Exception {
+    Map<Integer, Optional<Integer>> offenders = new LinkedHashMap<>();
+    offenders.put(3, Optional.of(2));
+    offenders.put(7, Optional.empty());
+
+    assertThat(optionalsShouldContain(10, 1, 9, offenders))
+        .buildErrorMessageEqualsTo("%nExpecting all of the <10> Optionals to contain:%n  <1>%n"
+                                   + "but <9> were present, these Optionals did not contain it (index=Optional):%n"
+                                   + "  <{3=Optional[2], 7=Optional.empty}>");
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.ShouldBeBetween.shouldBeBetween;
+
+public class ShouldBeBetweenTest {
+
+  private final LocalDateTime actual = LocalDateTime.of(2000, 1, 3, 12, 0);
+  private final LocalDateTime start = LocalDateTime.of(2000, 1, 1, 12, 0);
+  private final LocalDateTime end = LocalDateTime.of(2000, 1, 2, 12, 0);
+
+  @Test
+  public void should_create_error_message_with_closed_interval() throws Exception {
+    assertThat(shouldBeBetween(actual, start, end, true, true))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto be in interval:%n  [%s, %s]%nbut was not.",
+                                   actual, start, end);
+  }
+
+  @Test
+  public void should_create_error_message_with_excluded_bounds() throws Exception {
+    assertThat(shouldBeBetween(actual, start, end, true, false))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto be in interval:%n  [%s, %s[%nbut was not.",
+                                   actual, start, end);
+    assertThat(shouldBeBetween(actual, start, end, false, false))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto be in interval:%n  ]%s, %s[%nbut was not.",
+                                   actual, start, end);
+  }
+}
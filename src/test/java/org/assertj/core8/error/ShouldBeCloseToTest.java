@@ -0,0 +1,33 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.ShouldBeCloseTo.shouldBeCloseTo;
+
+public class ShouldBeCloseToTest {
+
+  @Test
+  public void should_create_error_message_with_tolerance_and_difference() throws Exception {
+    LocalDateTime actual = LocalDateTime.of(2000, 1, 1, 12, 0, 0, 51_000_000);
+    LocalDateTime other = LocalDateTime.of(2000, 1, 1, 12, 0);
+    assertThat(shouldBeCloseTo(actual, other, Duration.ofMillis(50), Duration.ofMillis(51)))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto be close to:%n  <%s>%nwithin <%s> but difference was <%s>.",
+                                   actual, other, Duration.ofMillis(50), Duration.ofMillis(51));
+  }
+}
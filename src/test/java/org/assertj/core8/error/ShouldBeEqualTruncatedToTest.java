@@ -0,0 +1,42 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.ShouldBeEqualTruncatedTo.shouldBeEqualTruncatedTo;
+
+public class ShouldBeEqualTruncatedToTest {
+
+  private final LocalDateTime actual = LocalDateTime.of(2000, 1, 1, 12, 0);
+  private final LocalDateTime other = LocalDateTime.of(2000, 1, 2, 12, 0);
+
+  @Test
+  public void should_create_error_message_listing_fields_compared_up_to_unit() throws Exception {
+    assertThat(shouldBeEqualTruncatedTo(actual, other, DAYS))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto have same year, month and day as:%n  <%s>%nbut had not.",
+                                   actual, other);
+  }
+
+  @Test
+  public void should_create_error_message_comparing_all_fields_when_unit_is_nanos() throws Exception {
+    assertThat(shouldBeEqualTruncatedTo(actual, other, NANOS))
+        .buildErrorMessageEqualsTo("%nExpecting:%n  <%s>%nto have same year, month, day, hour, minute, second and nanosecond as:%n  <%s>%nbut had not.",
+                                   actual, other);
+  }
+}
@@ -0,0 +1,42 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.ShouldBeInChronologicalOrder.shouldNotHaveGapGreaterThan;
+
+public class ShouldBeInChronologicalOrderTest {
+
+  @Test
+  public void should_create_error_message_reporting_offending_element_and_its_neighbourhood() throws Exception {
+    LocalDateTime previous = LocalDateTime.of(2000, 1, 1, 0, 0);
+    LocalDateTime element = previous.plusHours(2);
+    Map<Long, LocalDateTime> neighbourhood = new LinkedHashMap<>();
+    neighbourhood.put(4L, previous);
+    neighbourhood.put(5L, element);
+
+    assertThat(shouldNotHaveGapGreaterThan(5, element, previous, Duration.ofHours(2), Duration.ofHours(1),
+                                           neighbourhood))
+        .buildErrorMessageEqualsTo("%nExpecting consecutive date-times to be at most <PT1H> apart%n"
+                                   + "but element at index <5>:%n  <2000-01-01T02:00>%n"
+                                   + "was <PT2H> after previous element:%n  <2000-01-01T00:00>%n"
+                                   + "neighbourhood (index=element):%n  <{4=2000-01-01T00:00, 5=2000-01-01T02:00}>");
+  }
+}
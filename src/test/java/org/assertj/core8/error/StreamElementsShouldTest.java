@@ -0,0 +1,35 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.error;
+
+import org.junit.Test;
+
+import static org.assertj.core8.AssertJAssertions.assertThat;
+import static org.assertj.core8.error.StreamElementsShould.shouldAllMatch;
+import static org.assertj.core8.error.StreamElementsShould.shouldHave;
+
+public class StreamElementsShouldTest {
+
+  @Test
+  public void should_create_error_message_reporting_statistic() throws Exception {
+    assertThat(shouldHave("count", 3L, 2L)).buildErrorMessageEqualsTo("%nExpecting stream count to be:%n  <3L>%n"
+                                                                      + "but was:%n  <2L>");
+  }
+
+  @Test
+  public void should_create_error_message_reporting_index_as_plain_number() throws Exception {
+    assertThat(shouldAllMatch(3L, "a")).buildErrorMessageEqualsTo("%nExpecting all stream elements to match given "
+                                                                  + "predicate but element at index <3>:%n  <\"a\">%n"
+                                                                  + "did not");
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AssertionEvents}</code>.
+ */
+public class AssertionEventsTest {
+
+  private final ZonedDateTime dateTime = ZonedDateTime.parse("2000-01-01T00:00:00+01:00");
+
+  @Test
+  public void should_emit_enabled_events_only() throws Exception {
+    List<RecordedEvent> events = record(() -> {
+      org.assertj.core8.api.Assertions.assertThat(dateTime).isEqualTo(dateTime.withZoneSameInstant(ZoneOffset.UTC))
+                                                           .isAfter("1999-12-31T00:00:00Z");
+      try {
+        org.assertj.core8.api.Assertions.assertThat(dateTime).isBefore(dateTime);
+      } catch (AssertionError e) {
+        // expected
+      }
+    }, "org.assertj.core8.FailureCreated", "org.assertj.core8.DateTimeParsed", "org.assertj.core8.ZoneConverted");
+
+    List<String> eventNames = new ArrayList<>();
+    for (RecordedEvent event : events) {
+      eventNames.add(event.getEventType().getName());
+    }
+    assertThat(eventNames).containsOnly("org.assertj.core8.ZoneConverted", "org.assertj.core8.DateTimeParsed",
+                                        "org.assertj.core8.FailureCreated");
+    for (RecordedEvent event : events) {
+      if (event.getEventType().getName().equals("org.assertj.core8.FailureCreated")) {
+        assertThat(event.getString("errorType")).isEqualTo("org.assertj.core8.error.ShouldBeBefore");
+      }
+      if (event.getEventType().getName().equals("org.assertj.core8.DateTimeParsed")) {
+        assertThat(event.getString("text")).isEqualTo("1999-12-31T00:00:00Z");
+      }
+    }
+  }
+
+  @Test
+  public void should_emit_one_evaluation_event_per_outermost_assertion_method() throws Exception {
+    List<RecordedEvent> events = record(() -> {
+      // the String overload delegates to isAfter(ZonedDateTime), only the outermost call is recorded
+      org.assertj.core8.api.Assertions.assertThat(dateTime).isAfter("1999-12-31T00:00:00Z");
+      try {
+        org.assertj.core8.api.Assertions.assertThat(dateTime).isBefore(dateTime);
+      } catch (AssertionError e) {
+        // expected
+      }
+    }, "org.assertj.core8.AssertionEvaluated");
+
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0).getString("assertionType")).isEqualTo("org.assertj.core8.api.ZonedDateTimeAssert");
+    assertThat(events.get(0).getString("method")).isEqualTo("isAfter");
+    assertThat(events.get(0).getBoolean("failed")).isFalse();
+    assertThat(events.get(1).getString("method")).isEqualTo("isBefore");
+    assertThat(events.get(1).getBoolean("failed")).isTrue();
+  }
+
+  private static List<RecordedEvent> record(Runnable assertions, String... eventNames) throws Exception {
+    Path file = Files.createTempFile("assertion-events", ".jfr");
+    try (Recording recording = new Recording()) {
+      for (String eventName : eventNames) {
+        recording.enable(eventName).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+      assertions.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core8.api.Assertions.disableAssertionMetrics;
+import static org.assertj.core8.api.Assertions.enableAssertionMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link AssertionMetrics}</code>.
+ */
+public class AssertionMetricsTest extends DateTimeBaseTest {
+
+  private final ZonedDateTime now = ZonedDateTime.parse("2000-01-01T00:00:00Z");
+
+  @After
+  public void disableMetrics() {
+    disableAssertionMetrics();
+  }
+
+  @Test
+  public void should_count_created_assertions_and_failures_when_enabled() {
+    enableAssertionMetrics();
+    org.assertj.core8.api.Assertions.assertThat(now).isBefore(now.plusDays(1));
+    org.assertj.core8.api.Assertions.assertThat(now).isAfter(now.minusDays(1));
+    try {
+      org.assertj.core8.api.Assertions.assertThat(Optional.empty()).isPresent();
+    } catch (AssertionError e) {
+      // expected
+    }
+    MetricsSnapshot metrics = AssertionMetrics.instance().snapshot();
+
+    assertThat(metrics.createdAssertionCounts()).containsOnly(entry("ZonedDateTimeAssert", 2L),
+                                                              entry("OptionalAssert", 1L));
+    assertThat(metrics.failureCounts()).containsOnly(entry("OptionalShouldBePresent", 1L));
+  }
+
+  @Test
+  public void should_record_invocations_failures_and_latency_per_assertion_method() {
+    enableAssertionMetrics();
+    org.assertj.core8.api.Assertions.assertThat(now).isBefore(now.plusDays(1));
+    // the String overload delegates to isBefore(ZonedDateTime), the invocation is counted once
+    org.assertj.core8.api.Assertions.assertThat(now).isBefore("2000-01-02T00:00:00Z");
+    try {
+      org.assertj.core8.api.Assertions.assertThat(now).isBefore(now);
+    } catch (AssertionError e) {
+      // expected
+    }
+    org.assertj.core8.api.Assertions.assertThat(Optional.of(1)).isPresent();
+
+    MetricsSnapshot metrics = AssertionMetrics.instance().snapshot();
+    assertThat(metrics.methodLatencies()).containsOnlyKeys("ZonedDateTimeAssert.isBefore", "OptionalAssert.isPresent");
+    MetricsSnapshot.Latency isBefore = metrics.methodLatencies().get("ZonedDateTimeAssert.isBefore");
+    assertThat(isBefore.count()).isEqualTo(3);
+    assertThat(isBefore.failureCount()).isEqualTo(1);
+    assertThat(isBefore.totalNanos()).isGreaterThanOrEqualTo(isBefore.maxNanos());
+    MetricsSnapshot.Latency isPresent = metrics.methodLatencies().get("OptionalAssert.isPresent");
+    assertThat(isPresent.count()).isEqualTo(1);
+    assertThat(isPresent.failureCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_not_record_anything_when_disabled() {
+    enableAssertionMetrics();
+    disableAssertionMetrics();
+    org.assertj.core8.api.Assertions.assertThat(now).isBefore(now.plusDays(1));
+    AssertionMetrics.instance().time("disabled", () -> {});
+
+    MetricsSnapshot metrics = AssertionMetrics.instance().snapshot();
+    assertThat(metrics.methodLatencies()).isEmpty();
+    assertThat(metrics.createdAssertionCounts()).isEmpty();
+    assertThat(metrics.latencies()).isEmpty();
+  }
+
+  @Test
+  public void should_record_latency_of_timed_assertions() {
+    enableAssertionMetrics();
+    for (int i = 0; i < 10; i++) {
+      AssertionMetrics.instance().time("batch", () -> org.assertj.core8.api.Assertions.assertThat(now).isEqualTo(now));
+    }
+    try {
+      AssertionMetrics.instance().time("batch", () -> org.assertj.core8.api.Assertions.assertThat(now).isAfter(now));
+    } catch (AssertionError e) {
+      // expected
+    }
+
+    MetricsSnapshot.Latency latency = AssertionMetrics.instance().snapshot().latencies().get("batch");
+    assertThat(latency.count()).isEqualTo(11);
+    assertThat(latency.failureCount()).isEqualTo(1);
+    assertThat(latency.p50Nanos()).isLessThanOrEqualTo(latency.p99Nanos());
+    assertThat(latency.p99Nanos()).isLessThanOrEqualTo(latency.maxNanos());
+    assertThat(latency.totalNanos()).isGreaterThanOrEqualTo(latency.maxNanos());
+  }
+
+  @Test
+  public void should_export_metrics_as_json() {
+    enableAssertionMetrics();
+    org.assertj.core8.api.Assertions.assertThat(now).isBefore(now.plusDays(1));
+
+    String json = AssertionMetrics.instance().snapshot().toJson();
+    assertThat(json).startsWith("{\"methods\":{\"ZonedDateTimeAssert.isBefore\":{\"count\":1,\"failureCount\":0,"
+                                + "\"totalNanos\":");
+    assertThat(json).endsWith("},\"createdAssertions\":{\"ZonedDateTimeAssert\":1},\"failures\":{},\"latencies\":{}}");
+  }
+
+  @Test
+  public void should_export_once_with_each_exporter_registered_for_exit() {
+    AssertionMetrics metrics = new AssertionMetrics();
+    List<MetricsSnapshot> exported = new ArrayList<>();
+    MetricsExporter exporter = exported::add;
+    metrics.exportAtExit(exporter);
+    metrics.exportAtExit(exporter);
+    metrics.exportAtExit(exported::add);
+
+    metrics.exportWithExitExporters();
+
+    assertThat(exported).hasSize(2);
+    assertThat(exported.get(0)).isSameAs(exported.get(1));
+  }
+
+  @Test
+  public void should_run_every_exit_exporter_even_if_one_fails() {
+    AssertionMetrics metrics = new AssertionMetrics();
+    List<MetricsSnapshot> exported = new ArrayList<>();
+    boolean[] failed = { false };
+    // only fails once, not to fail again in the shutdown hook of the test JVM
+    metrics.exportAtExit(snapshot -> {
+      if (!failed[0]) {
+        failed[0] = true;
+        throw new IOException("disk full");
+      }
+    });
+    metrics.exportAtExit(exported::add);
+    try {
+      metrics.exportWithExitExporters();
+    } catch (UncheckedIOException e) {
+      assertThat(e).hasMessage("Unable to export assertion metrics");
+      assertThat(exported).hasSize(1);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.internal.BulkChecks.PARALLEL_THRESHOLD;
+import static org.assertj.core8.internal.BulkChecks.offenders;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link BulkChecks}</code>.
+ */
+public class BulkChecksTest {
+
+  @Test
+  public void should_return_null_if_there_are_no_offenders() {
+    assertThat(offenders(10, false, i -> false, i -> i)).isNull();
+    assertThat(offenders(PARALLEL_THRESHOLD * 4, true, i -> false, i -> i)).isNull();
+  }
+
+  @Test
+  public void should_report_offenders_in_index_order_when_checking_in_parallel() {
+    int size = PARALLEL_THRESHOLD * 10 + 7;
+    Map<Integer, String> sequentialOffenders = offenders(size, false, i -> i % 1001 == 0, i -> "element" + i);
+    Map<Integer, String> parallelOffenders = offenders(size, true, i -> i % 1001 == 0, i -> "element" + i);
+
+    assertThat(parallelOffenders).hasSize(size / 1001 + 1).isEqualTo(sequentialOffenders);
+    assertThat(new ArrayList<>(parallelOffenders.keySet())).isSorted();
+  }
+
+  @Test
+  public void should_check_ranges_covering_all_indices_once() {
+    int size = PARALLEL_THRESHOLD * 3;
+    Map<Integer, Integer> offenders = offenders(size, true, (from, to, offending) -> {
+      for (int i = from; i < to; i++) {
+        offending.accept(i);
+      }
+    }, i -> i);
+
+    assertThat(offenders).hasSize(size);
+    assertThat(new ArrayList<>(offenders.keySet())).isSorted();
+  }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link DateTimeParseCache}</code>.
+ */
+public class DateTimeParseCacheTest extends DateTimeBaseTest {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  private final DateTimeParseCache cache = new DateTimeParseCache();
+
+  @Test
+  public void should_parse_without_caching_when_disabled() {
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.parseLocalDateTime("2000-01-01T00:00")).isEqualTo(LocalDateTime.of(2000, 1, 1, 0, 0));
+    assertThat(cache.size()).isZero();
+    assertThat(cache.hitCount()).isZero();
+    assertThat(cache.missCount()).isZero();
+  }
+
+  @Test
+  public void should_cache_parsed_date_times_by_string_and_zone() {
+    cache.enable(10);
+    ZonedDateTime inUtc = cache.parseZonedDateTime("2000-01-01T00:00Z", UTC);
+    assertThat(cache.parseZonedDateTime("2000-01-01T00:00Z", UTC)).isSameAs(inUtc);
+    ZonedDateTime inParis = cache.parseZonedDateTime("2000-01-01T00:00Z", PARIS);
+    assertThat(inParis).isEqualTo(inUtc.withZoneSameInstant(PARIS));
+    assertThat(cache.parseLocalDateTime("2000-01-01T00:00")).isEqualTo(LocalDateTime.of(2000, 1, 1, 0, 0));
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_evict_least_recently_used_entries() {
+    cache.enable(2);
+    LocalDateTime first = cache.parseLocalDateTime("2000-01-01T00:00");
+    cache.parseLocalDateTime("2000-01-02T00:00");
+    // makes 2000-01-02 the least recently used entry
+    cache.parseLocalDateTime("2000-01-01T00:00");
+    cache.parseLocalDateTime("2000-01-03T00:00");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.parseLocalDateTime("2000-01-01T00:00")).isSameAs(first);
+    assertThat(cache.hitCount()).isEqualTo(2);
+    cache.parseLocalDateTime("2000-01-02T00:00");
+    assertThat(cache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_discard_entries_and_reset_counters_when_enabled_again() {
+    cache.enable(2);
+    cache.parseLocalDateTime("2000-01-01T00:00");
+    cache.parseLocalDateTime("2000-01-01T00:00");
+    cache.enable(5);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.hitCount()).isZero();
+    assertThat(cache.missCount()).isZero();
+    cache.disable();
+    assertThat(cache.isEnabled()).isFalse();
+  }
+
+  @Test
+  public void should_not_cache_parsing_failures() {
+    cache.enable(2);
+    try {
+      cache.parseLocalDateTime("not a date-time");
+    } catch (DateTimeParseException e) {
+      assertThat(cache.size()).isZero();
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_max_size_is_not_positive() {
+    expectIllegalArgumentException("The maximum size of the date-time parse cache should be greater than 0 but was: 0");
+    cache.enable(0);
+  }
+
+}
@@ -0,0 +1,177 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.HALF_DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core8.internal.DateTimes.areWithin;
+import static org.assertj.core8.internal.DateTimes.atSameInstant;
+import static org.assertj.core8.internal.DateTimes.checkIsSupportedTruncationUnit;
+import static org.assertj.core8.internal.DateTimes.localEpochSecond;
+import static org.assertj.core8.internal.DateTimes.offsetSecondsAt;
+import static org.assertj.core8.internal.DateTimes.packFields;
+import static org.assertj.core8.internal.DateTimes.packFieldsOfLocalEpochSecond;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link DateTimes}</code>.
+ */
+public class DateTimesTest {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  @Test
+  public void should_return_local_epoch_second_in_own_zone() {
+    ZonedDateTime dateTime = ZonedDateTime.of(2013, 6, 10, 2, 0, 0, 0, PARIS);
+    assertThat(localEpochSecond(dateTime)).isEqualTo(LocalDateTime.of(2013, 6, 10, 2, 0).toEpochSecond(UTC));
+  }
+
+  @Test
+  public void should_return_local_epoch_second_as_seen_in_given_zone() {
+    ZonedDateTime summerInParis = ZonedDateTime.of(2013, 6, 10, 2, 0, 0, 0, PARIS);
+    ZonedDateTime winterInParis = ZonedDateTime.of(2013, 12, 10, 2, 0, 0, 0, PARIS);
+    assertThat(localEpochSecond(summerInParis, UTC)).isEqualTo(LocalDateTime.of(2013, 6, 10, 0, 0).toEpochSecond(UTC));
+    assertThat(localEpochSecond(winterInParis, UTC)).isEqualTo(LocalDateTime.of(2013, 12, 10, 1, 0).toEpochSecond(UTC));
+    assertThat(localEpochSecond(winterInParis.withZoneSameInstant(UTC), PARIS)).isEqualTo(localEpochSecond(winterInParis));
+  }
+
+  @Test
+  public void should_return_same_local_epoch_second_as_withZoneSameInstant_around_dst_transition() {
+    // 2013-10-27T03:00 CEST -> 02:00 CET in Paris
+    ZonedDateTime utcDateTime = ZonedDateTime.of(2013, 10, 27, 0, 0, 0, 0, UTC);
+    for (int minutes = 0; minutes < 4 * 60; minutes += 15) {
+      ZonedDateTime dateTime = utcDateTime.plusMinutes(minutes);
+      long expected = dateTime.withZoneSameInstant(PARIS).toLocalDateTime().toEpochSecond(UTC);
+      assertThat(localEpochSecond(dateTime, PARIS)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void should_return_offset_of_zone_at_given_instant() {
+    long summer = ZonedDateTime.of(2013, 6, 10, 0, 0, 0, 0, UTC).toEpochSecond();
+    long winter = ZonedDateTime.of(2013, 12, 10, 0, 0, 0, 0, UTC).toEpochSecond();
+    assertThat(offsetSecondsAt(PARIS, summer)).isEqualTo(7200);
+    assertThat(offsetSecondsAt(PARIS, winter)).isEqualTo(3600);
+    assertThat(offsetSecondsAt(ZoneOffset.ofHours(-5), summer)).isEqualTo(-5 * 3600);
+    assertThat(offsetSecondsAt(ZoneId.of("UTC"), summer)).isEqualTo(0);
+  }
+
+  @Test
+  public void should_return_date_time_at_same_instant_in_given_zone() {
+    LocalDateTime summer = LocalDateTime.of(2013, 6, 10, 2, 0);
+    ZoneOffset minusFive = ZoneOffset.ofHours(-5);
+    assertThat(atSameInstant(summer, minusFive, PARIS)).isEqualTo(ZonedDateTime.ofInstant(summer, minusFive, PARIS));
+    assertThat(atSameInstant(summer, ZoneOffset.ofHours(2), PARIS)).isEqualTo(ZonedDateTime.of(summer, PARIS));
+    // instants of the overlap when leaving summer time in Paris
+    LocalDateTime beforeOverlap = LocalDateTime.of(2013, 10, 27, 0, 30);
+    assertThat(atSameInstant(beforeOverlap, UTC, PARIS).getOffset()).isEqualTo(ZoneOffset.ofHours(2));
+    LocalDateTime inOverlap = beforeOverlap.plusHours(1);
+    assertThat(atSameInstant(inOverlap, UTC, PARIS)).isEqualTo(ZonedDateTime.ofInstant(inOverlap, UTC, PARIS))
+                                                    .hasFieldOrPropertyWithValue("offset", ZoneOffset.ofHours(1));
+  }
+
+  @Test
+  public void should_tell_whether_instants_are_within_tolerance_whatever_their_order() {
+    Duration tolerance = Duration.ofSeconds(1, 500);
+    assertThat(areWithin(10, 0, 11, 500, tolerance)).isTrue();
+    assertThat(areWithin(11, 500, 10, 0, tolerance)).isTrue();
+    assertThat(areWithin(10, 0, 11, 501, tolerance)).isFalse();
+    assertThat(areWithin(11, 501, 10, 0, tolerance)).isFalse();
+    assertThat(areWithin(10, 999_999_999, 9, 999_999_500, tolerance)).isTrue();
+    assertThat(areWithin(9, 999_999_498, 10, 999_999_999, tolerance)).isFalse();
+    assertThat(areWithin(0, 0, 0, 0, Duration.ZERO)).isTrue();
+    assertThat(areWithin(0, 1, 0, 0, Duration.ZERO)).isFalse();
+    // difference not representable as a long count of nanoseconds
+    long min = LocalDateTime.MIN.toEpochSecond(UTC);
+    long max = LocalDateTime.MAX.toEpochSecond(UTC);
+    assertThat(areWithin(min, 0, max, 999_999_999, Duration.ofSeconds(max - min, 999_999_999))).isTrue();
+    assertThat(areWithin(max, 999_999_999, min, 0, Duration.ofSeconds(max - min, 999_999_998))).isFalse();
+  }
+
+  @Test
+  public void should_pack_fields_in_date_time_order() {
+    long fields = packFields(LocalDateTime.of(2000, 1, 31, 23, 59, 59));
+    assertThat(fields).isEqualTo(packFields(2000, 1, 31, 23, 59, 59))
+                      .isLessThan(packFields(LocalDateTime.of(2000, 2, 1, 0, 0)))
+                      .isGreaterThan(packFields(LocalDateTime.of(-2000, 12, 31, 23, 59, 59)));
+  }
+
+  @Test
+  public void should_pack_fields_of_local_epoch_second_as_LocalDateTime() {
+    for (LocalDateTime dateTime : asList(LocalDateTime.of(2000, 2, 29, 12, 30, 15), LocalDateTime.of(1969, 12, 31, 23, 59, 59),
+                                         LocalDateTime.of(1600, 3, 1, 0, 0), LocalDateTime.of(-400, 2, 29, 1, 2, 3))) {
+      assertThat(packFieldsOfLocalEpochSecond(dateTime.toEpochSecond(UTC))).isEqualTo(packFields(dateTime));
+    }
+  }
+
+  @Test
+  public void should_pack_fields_as_seen_in_given_zone() {
+    ZonedDateTime utcDateTime = ZonedDateTime.of(2000, 1, 1, 0, 30, 0, 0, UTC);
+    ZoneId newYork = ZoneId.of("America/New_York");
+    assertThat(packFields(utcDateTime, newYork)).isEqualTo(packFields(1999, 12, 31, 19, 30, 0));
+    assertThat(packFields(utcDateTime, UTC)).isEqualTo(packFields(utcDateTime));
+  }
+
+  @Test
+  public void should_compare_date_times_truncated_to_unit() {
+    LocalDateTime reference = LocalDateTime.of(2000, 1, 31, 23, 50, 10, 123_456_789);
+    assertThat(areEqualTruncatedTo(reference, reference.withNano(123_456_788), NANOS)).isFalse();
+    assertThat(areEqualTruncatedTo(reference, reference.withNano(123_456_000), MICROS)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.withNano(123_999_999), MILLIS)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.withNano(124_000_000), MILLIS)).isFalse();
+    assertThat(areEqualTruncatedTo(reference, reference.withNano(0), SECONDS)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.withSecond(59), MINUTES)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.plusMinutes(10), HOURS)).isFalse();
+    assertThat(areEqualTruncatedTo(reference, reference.withHour(0), DAYS)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.withDayOfMonth(1), MONTHS)).isTrue();
+    assertThat(areEqualTruncatedTo(reference, reference.plusNanos(1_000_000_000L * 3600), MONTHS)).isFalse();
+    assertThat(areEqualTruncatedTo(reference, reference.withMonth(12), YEARS)).isTrue();
+  }
+
+  @Test
+  public void should_fail_if_truncation_unit_is_not_supported() {
+    try {
+      checkIsSupportedTruncationUnit(HALF_DAYS);
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Unsupported unit to truncate date-times to: HalfDays");
+      return;
+    }
+    fail("IllegalArgumentException expected");
+  }
+
+  private static boolean areEqualTruncatedTo(LocalDateTime dateTime, LocalDateTime other, ChronoUnit unit) {
+    return DateTimes.areEqualTruncatedTo(packFields(dateTime), dateTime.getNano(), packFields(other), other.getNano(),
+                                         unit);
+  }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Failures}</code>.
+ */
+public class FailuresTest {
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+
+  @Test
+  public void should_create_message_only_when_read() {
+    CountingMessageFactory messageFactory = new CountingMessageFactory();
+    AssertionError error = Failures.instance().failure(info, messageFactory);
+    assertThat(messageFactory.created).isZero();
+
+    assertThat(error.getMessage()).isEqualTo("\nExpecting:\n  <1>\nto be lazy");
+    assertThat(error.getMessage()).isSameAs(error.getMessage());
+    assertThat(messageFactory.created).isEqualTo(1);
+  }
+
+  @Test
+  public void should_use_description_set_when_assertion_failed() {
+    info.description("date check");
+    AssertionError error = Failures.instance().failure(info, new CountingMessageFactory());
+    info.description("other check");
+
+    assertThat(error.getMessage()).startsWith("[date check]");
+  }
+
+  @Test
+  public void should_use_overriding_error_message_if_set() {
+    info.overridingErrorMessage("overridden");
+    assertThat(Failures.instance().failure(info, new CountingMessageFactory())).hasMessage("overridden");
+  }
+
+  @Test
+  public void should_create_failures_without_stack_trace_only_in_scope() {
+    AssertionError[] errors = new AssertionError[2];
+    Failures.instance().runWithoutStackTraces(() -> {
+      errors[0] = Failures.instance().failure(info, new CountingMessageFactory());
+      info.overridingErrorMessage("overridden");
+      errors[1] = Failures.instance().failure(info, new CountingMessageFactory());
+    });
+    AssertionError errorOutOfScope = Failures.instance().failure(info, new CountingMessageFactory());
+
+    assertThat(errors[0].getStackTrace()).isEmpty();
+    assertThat(errors[0]).hasMessage("\nExpecting:\n  <1>\nto be lazy");
+    assertThat(errors[1].getStackTrace()).isEmpty();
+    assertThat(errorOutOfScope.getStackTrace()).isNotEmpty();
+  }
+
+  private static class CountingMessageFactory extends BasicErrorMessageFactory {
+
+    private int created;
+
+    CountingMessageFactory() {
+      super("\nExpecting:\n  <%s>\nto be lazy", 1);
+    }
+
+    @Override
+    public String create(Description d, Representation representation) {
+      created++;
+      return super.create(d, representation);
+    }
+  }
+
+}
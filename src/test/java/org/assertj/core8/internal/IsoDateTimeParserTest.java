@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core8.internal.IsoDateTimeParser.parseLocalDateTime;
+import static org.assertj.core8.internal.IsoDateTimeParser.parseZonedDateTime;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link IsoDateTimeParser}</code>, results are checked against {@link java.time.format.DateTimeFormatter}.
+ */
+public class IsoDateTimeParserTest {
+
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  @Test
+  public void should_parse_local_date_times_like_LocalDateTime_parse() {
+    for (String text : new String[] { "2000-01-01T10:15", "2000-02-29T23:59:59", "1969-12-31T00:00:00.1",
+        "2000-01-01T10:15:30.123456789", "0000-01-01T00:00",
+        // handled by DateTimeFormatter
+        "+12000-01-01T00:00", "2000-01-01t10:15", "2000-01-01T10:15:30." }) {
+      assertThat(parseLocalDateTime(text)).as(text).isEqualTo(LocalDateTime.parse(text));
+    }
+  }
+
+  @Test
+  public void should_parse_zoned_date_times_like_DateTimeFormatter() {
+    for (String text : new String[] { "2000-01-01T10:15Z", "2000-01-01T10:15:30+01:00", "2000-01-01T10:15:30.5-05:30",
+        "2000-01-01T10:15:30+01:00:30", "2000-01-01T10:15:30+01:00[Europe/Paris]",
+        // offset not valid in Europe/Paris (summer time in winter), instant is kept
+        "2000-01-01T10:15:30+02:00[Europe/Paris]",
+        // handled by DateTimeFormatter
+        "2000-01-01T10:15z", "+12000-01-01T10:15Z" }) {
+      ZonedDateTime expected = ZonedDateTime.parse(text, ISO_DATE_TIME);
+      assertThat(parseZonedDateTime(text)).as(text).isEqualTo(expected);
+      assertThat(parseZonedDateTime(text, NEW_YORK)).as(text).isEqualTo(expected.withZoneSameInstant(NEW_YORK));
+    }
+  }
+
+  @Test
+  public void should_use_offset_as_zone_when_no_zone_id_is_given() {
+    assertThat(parseZonedDateTime("2000-01-01T10:15Z").getZone()).isEqualTo(UTC);
+  }
+
+  @Test
+  public void should_fail_like_DateTimeFormatter_on_invalid_date_times() {
+    for (String text : new String[] { "2000-02-30T10:15", "2000-13-01T10:15", "2000-01-01T24:00", "2000-01-01T10:60",
+        "2000-01-01T10:15:30.1234567890", "2000-01-01 10:15", "20a0-01-01T10:15", "2000-01-01" }) {
+      try {
+        parseLocalDateTime(text);
+        fail("DateTimeParseException expected for " + text);
+      } catch (DateTimeParseException e) {
+        assertThat(e.getParsedString()).isEqualTo(text);
+      }
+      try {
+        parseZonedDateTime(text + "Z");
+        fail("DateTimeParseException expected for " + text + "Z");
+      } catch (DateTimeParseException e) {
+        assertThat(e.getParsedString()).isEqualTo(text + "Z");
+      }
+    }
+  }
+
+  @Test
+  public void should_fail_like_DateTimeFormatter_on_invalid_offsets_and_zones() {
+    for (String text : new String[] { "2000-01-01T10:15+19:00", "2000-01-01T10:15+01", "2000-01-01T10:15Z[Foo/Bar]",
+        "2000-01-01T10:15Z[]",
+        "2000-01-01T10:15[Europe/Paris]", "2000-01-01T10:15Z[Europe/Paris" }) {
+      try {
+        parseZonedDateTime(text);
+        fail("DateTimeParseException expected for " + text);
+      } catch (DateTimeParseException e) {
+        assertThat(e.getParsedString()).isEqualTo(text);
+      }
+    }
+  }
+
+}
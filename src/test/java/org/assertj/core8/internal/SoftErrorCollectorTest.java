@@ -0,0 +1,106 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core8.api.DateTimeBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link SoftErrorCollector}</code>.
+ */
+public class SoftErrorCollectorTest extends DateTimeBaseTest {
+
+  @Test
+  public void should_retain_first_errors_and_count_dropped_ones() {
+    SoftErrorCollector collector = new SoftErrorCollector(2, 1);
+    List<AssertionError> errors = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      AssertionError error = new AssertionError("error " + i);
+      errors.add(error);
+      collector.collect(error);
+    }
+
+    assertThat(collector.errorCount()).isEqualTo(5);
+    assertThat(collector.droppedErrorCount()).isEqualTo(3);
+    assertThat(collector.retainedErrors()).containsExactly(errors.get(0), errors.get(1));
+    assertThat(errors.get(0).getStackTrace()).isNotEmpty();
+    assertThat(errors.get(1).getStackTrace()).isEmpty();
+  }
+
+  @Test
+  public void should_count_all_errors_collected_concurrently() throws InterruptedException {
+    SoftErrorCollector collector = new SoftErrorCollector(100, 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          collector.collect(new AssertionError());
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(collector.errorCount()).isEqualTo(4000);
+    assertThat(collector.droppedErrorCount()).isEqualTo(3900);
+    assertThat(collector.retainedErrors()).hasSize(100);
+  }
+
+  @Test
+  public void should_retain_errors_across_chunks_without_allocating_maximum_up_front() {
+    SoftErrorCollector collector = new SoftErrorCollector(Integer.MAX_VALUE, 0);
+    List<AssertionError> errors = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      AssertionError error = new AssertionError("error " + i);
+      errors.add(error);
+      collector.collect(error);
+    }
+
+    assertThat(collector.droppedErrorCount()).isEqualTo(0);
+    assertThat(collector.retainedErrors()).containsExactly(errors.toArray(new AssertionError[0]));
+  }
+
+  @Test
+  public void should_cut_last_chunk_to_max_retained_errors() {
+    SoftErrorCollector collector = new SoftErrorCollector(20, 0);
+    List<AssertionError> errors = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      AssertionError error = new AssertionError("error " + i);
+      errors.add(error);
+      collector.collect(error);
+    }
+
+    assertThat(collector.droppedErrorCount()).isEqualTo(10);
+    assertThat(collector.retainedErrors()).containsExactly(errors.subList(0, 20).toArray(new AssertionError[0]));
+  }
+
+  @Test
+  public void should_throw_error_if_max_retained_errors_is_not_positive() {
+    expectIllegalArgumentException("The maximum number of retained errors should be greater than 0 but was: 0");
+    new SoftErrorCollector(0, 0);
+  }
+
+  @Test
+  public void should_throw_error_if_max_stack_traces_is_negative() {
+    expectIllegalArgumentException("The number of errors keeping their stack trace should not be negative but was: -1");
+    new SoftErrorCollector(1, -1);
+  }
+
+}
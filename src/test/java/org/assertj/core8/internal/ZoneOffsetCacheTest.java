@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2014 the original author or authors.
+ */
+package org.assertj.core8.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core8.internal.ZoneOffsetCache.offsetSecondsAt;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ZoneOffsetCache}</code>.
+ */
+public class ZoneOffsetCacheTest {
+
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+  private static final ZoneId SYDNEY = ZoneId.of("Australia/Sydney");
+
+  @Test
+  public void should_return_offset_of_zone_rules() {
+    long summer = LocalDateTime.of(2013, 6, 10, 2, 0).toEpochSecond(ZoneOffset.UTC);
+    long winter = LocalDateTime.of(2013, 12, 10, 2, 0).toEpochSecond(ZoneOffset.UTC);
+    assertThat(offsetSecondsAt(PARIS, summer)).isEqualTo(2 * 3600);
+    assertThat(offsetSecondsAt(PARIS, winter)).isEqualTo(3600);
+    assertThat(offsetSecondsAt(PARIS, summer)).isEqualTo(2 * 3600);
+    assertThat(offsetSecondsAt(SYDNEY, summer)).isEqualTo(10 * 3600);
+    assertThat(offsetSecondsAt(SYDNEY, winter)).isEqualTo(11 * 3600);
+  }
+
+  @Test
+  public void should_return_offset_of_zone_rules_for_equal_zone_ids() {
+    long summer = LocalDateTime.of(2013, 6, 10, 2, 0).toEpochSecond(ZoneOffset.UTC);
+    long winter = LocalDateTime.of(2013, 12, 10, 2, 0).toEpochSecond(ZoneOffset.UTC);
+    assertThat(offsetSecondsAt(ZoneId.of("Europe/Paris"), summer)).isEqualTo(2 * 3600);
+    assertThat(offsetSecondsAt(ZoneId.of("Europe/Paris"), summer + 1)).isEqualTo(2 * 3600);
+    assertThat(offsetSecondsAt(ZoneId.of("Europe/Paris"), winter)).isEqualTo(3600);
+    assertThat(offsetSecondsAt(ZoneId.of("America/New_York"), summer)).isEqualTo(-4 * 3600);
+  }
+
+  @Test
+  public void should_return_offset_of_zone_rules_around_transitions() {
+    for (ZoneId zone : new ZoneId[] { PARIS, NEW_YORK, SYDNEY }) {
+      ZoneRules rules = zone.getRules();
+      Instant instant = Instant.parse("1990-01-01T00:00:00Z");
+      for (int i = 0; i < 100; i++) {
+        ZoneOffsetTransition transition = rules.nextTransition(instant);
+        long transitionEpochSecond = transition.toEpochSecond();
+        for (long epochSecond = transitionEpochSecond - 1; epochSecond <= transitionEpochSecond + 1; epochSecond++) {
+          assertThat(offsetSecondsAt(zone, epochSecond)).as("%s at %s", zone, epochSecond)
+                                                         .isEqualTo(offsetOf(rules, epochSecond));
+        }
+        instant = transition.getInstant();
+      }
+    }
+  }
+
+  @Test
+  public void should_return_offset_of_zone_rules_when_going_back_in_time() {
+    long epochSecond = LocalDateTime.of(2030, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    for (int i = 0; i < 1000; i++, epochSecond -= 7 * 86400 + 3599) {
+      assertThat(offsetSecondsAt(NEW_YORK, epochSecond)).isEqualTo(offsetOf(NEW_YORK.getRules(), epochSecond));
+    }
+  }
+
+  @Test
+  public void should_return_offset_of_zone_rules_before_first_and_after_last_transition() {
+    long min = Instant.MIN.getEpochSecond();
+    long max = Instant.MAX.getEpochSecond();
+    assertThat(offsetSecondsAt(PARIS, min)).isEqualTo(offsetOf(PARIS.getRules(), min));
+    assertThat(offsetSecondsAt(PARIS, max)).isEqualTo(offsetOf(PARIS.getRules(), max));
+    ZoneId kolkata = ZoneId.of("Asia/Kolkata");
+    assertThat(offsetSecondsAt(kolkata, 0)).isEqualTo(offsetOf(kolkata.getRules(), 0));
+    assertThat(offsetSecondsAt(kolkata, max - 1)).isEqualTo(5 * 3600 + 1800);
+  }
+
+  private static int offsetOf(ZoneRules rules, long epochSecond) {
+    return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+  }
+
+}